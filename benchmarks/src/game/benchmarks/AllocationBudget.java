@@ -0,0 +1,145 @@
+package game.benchmarks;
+
+import game.Game;
+import game.board.BoardSpec;
+import game.board.squares.Square;
+import game.board.squares.SquareType;
+import game.bots.BotStrategies;
+import game.bots.BotStrategy;
+import game.events.NoOpSink;
+import game.investments.MarketModel;
+import game.players.Player;
+import game.simulation.ReseedableRandom;
+
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+/**
+ * Guards the allocation-free headless turn. Runs bot turns through {@link Game#playTurn()} and every
+ * {@link Square#performAction(Player, Game)} in isolation, counts the bytes the thread allocates with the JVM's
+ * per-thread allocation counter, and exits with status 1 when the average of any of them exceeds the budget.
+ * <p>
+ * Only the turns themselves are measured; setting up a new game when one ends is not. The checks run after a
+ * warm-up, so the JIT has compiled the turn path and eliminated what escape analysis can remove.
+ * <p>
+ * Arguments: the number of measured turns, the budget in bytes per turn (default 0) and the bot strategy.
+ * The board is read from the system properties of {@link BoardSpec#fromSystemProperties()}.
+ */
+public class AllocationBudget {
+
+    private static final int WARMUP_TURNS = 200_000;
+    private static final int TURNS_PER_GAME = 200; // As in GameBenchmark, so portfolios do not keep growing
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final BotStrategy strategy;
+    private final BoardSpec board;
+
+    /**
+     * Constructs a new AllocationBudget object.
+     *
+     * @param strategy The strategy both bots play.
+     * @param board    The board the games are played on.
+     * @throws IllegalStateException If the JVM cannot count the bytes a thread allocates.
+     */
+    public AllocationBudget(BotStrategy strategy, BoardSpec board) {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)
+                || !bean.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("This JVM cannot count allocated bytes per thread.");
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        this.threads = bean;
+        this.strategy = strategy;
+        this.board = board;
+    }
+
+    /**
+     * Measures the bytes allocated by whole player turns of headless games.
+     *
+     * @param turns The number of turns to measure.
+     * @return The average number of bytes allocated per turn.
+     */
+    public double measureTurns(int turns) {
+        Game game = Game.createHeadless(new ReseedableRandom(0), MarketModel.INDEPENDENT, NoOpSink.INSTANCE, board);
+        game.setupBotPlayers(strategy, strategy);
+        long seed = 0;
+        long allocated = 0;
+        for (int i = 0; i < turns; i++) {
+            if (game.isGameOver() || game.getTurnCount() == TURNS_PER_GAME) {
+                game.reset(++seed);
+                game.setupBotPlayers(strategy, strategy);
+            }
+            long before = threads.getCurrentThreadAllocatedBytes();
+            game.playTurn();
+            allocated += threads.getCurrentThreadAllocatedBytes() - before;
+        }
+        return (double) allocated / turns;
+    }
+
+    /**
+     * Measures the bytes allocated by the action of one square type. Two bots take turns landing on
+     * the same square with a steady balance, as in SquareBenchmark.
+     *
+     * @param type    The square type.
+     * @param actions The number of actions to measure.
+     * @return The average number of bytes allocated per action.
+     */
+    public double measureSquare(SquareType type, int actions) {
+        Game game = Game.createHeadless(new SplittableRandom(type.ordinal()), MarketModel.INDEPENDENT,
+                NoOpSink.INSTANCE, board);
+        if (game.getBoard().getCount(type) == 0) {
+            throw new IllegalStateException("The board has no " + type + " square.");
+        }
+        Square square = game.getBoard().getSquare(game.getBoard().getPosition(type, 0));
+        Player[] players = {new Player("Bot 1", strategy), new Player("Bot 2", strategy)};
+        long allocated = 0;
+        for (int i = 0; i < actions; i++) {
+            if (i % TURNS_PER_GAME == 0) {
+                players[0] = new Player("Bot 1", strategy);
+                players[1] = new Player("Bot 2", strategy);
+            }
+            Player player = players[i & 1];
+            player.addMoney(Player.INITIAL_BALANCE - player.getBalance());
+            long before = threads.getCurrentThreadAllocatedBytes();
+            square.performAction(player, game);
+            allocated += threads.getCurrentThreadAllocatedBytes() - before;
+        }
+        return (double) allocated / actions;
+    }
+
+    /**
+     * Runs the checks and exits with status 1 if any of them exceeds the budget.
+     *
+     * @param args Optional number of measured turns, budget in bytes per turn and bot strategy name.
+     */
+    public static void main(String[] args) {
+        int turns = args.length > 0 ? Integer.parseInt(args[0]) : 500_000;
+        double budget = args.length > 1 ? Double.parseDouble(args[1]) : 0;
+        BotStrategy strategy = BotStrategies.get(args.length > 2 ? args[2] : "Random");
+        BoardSpec board = BoardSpec.fromSystemProperties();
+        AllocationBudget harness = new AllocationBudget(strategy, board);
+
+        harness.measureTurns(WARMUP_TURNS);
+        for (SquareType type : SquareType.values()) {
+            if (board.getCount(type) > 0) {
+                harness.measureSquare(type, WARMUP_TURNS);
+            }
+        }
+
+        boolean withinBudget = report("turn", harness.measureTurns(turns), budget);
+        for (SquareType type : SquareType.values()) {
+            if (board.getCount(type) > 0) {
+                withinBudget &= report(type + " action", harness.measureSquare(type, turns), budget);
+            }
+        }
+        System.out.println(withinBudget ? "All checks are within the budget." : "The allocation budget was exceeded.");
+        if (!withinBudget) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean report(String name, double bytes, double budget) {
+        boolean ok = bytes <= budget;
+        System.out.printf("%-20s %10.2f bytes per call  %s%n", name, bytes, ok ? "ok" : "OVER BUDGET (" + budget + ")");
+        return ok;
+    }
+}
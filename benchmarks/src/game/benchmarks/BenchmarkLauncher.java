@@ -0,0 +1,31 @@
+package game.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs all benchmarks with the GC profiler, so every result shows both throughput
+ * and the allocation rate ({@code gc.alloc.rate.norm} is the number of bytes allocated per operation).
+ * <p>
+ * Any standard JMH command-line option can be passed, e.g. {@code SquareBenchmark -rf json -rff result.json}
+ * to run a single class and keep the results for comparison with the next release.
+ */
+public class BenchmarkLauncher {
+    private static final String ALL_BENCHMARKS = "game\\.benchmarks\\..*Benchmark";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine)
+                .addProfiler(GCProfiler.class);
+        if (commandLine.getIncludes().isEmpty()) {
+            options.include(ALL_BENCHMARKS);
+        }
+        new Runner(options.build()).run();
+    }
+}
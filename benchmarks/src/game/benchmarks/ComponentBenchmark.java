@@ -0,0 +1,67 @@
+package game.benchmarks;
+
+import game.board.Board;
+import game.investments.MarketModel;
+import game.investments.SettlementEngine;
+import game.traps.Trap;
+import game.traps.TrapInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmarks the building blocks a turn is made of: investment settlement, the trap catalog and board setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ComponentBenchmark {
+
+    @Param({"INDEPENDENT", "SHARED"})
+    private MarketModel market;
+
+    private SettlementEngine settlement;
+    private SplittableRandom settlementRandom;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        settlement = new SettlementEngine(market);
+        settlementRandom = new SplittableRandom(0);
+        random = new SplittableRandom(1);
+    }
+
+    /**
+     * Opens a market round and settles 500 invested in the first company, the way a turn settles a holding.
+     */
+    @Benchmark
+    public double settleInvestment() {
+        settlement.openMarket(settlementRandom);
+        return 500 * settlement.getReturnRate(0, settlementRandom);
+    }
+
+    @Benchmark
+    public List<Trap> getTraps() {
+        return TrapInitializer.getTraps();
+    }
+
+    /**
+     * Builds and shuffles a new board.
+     */
+    @Benchmark
+    public Board createBoard() {
+        return new Board(random);
+    }
+}
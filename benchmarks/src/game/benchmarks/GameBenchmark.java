@@ -0,0 +1,69 @@
+package game.benchmarks;
+
+import game.Game;
+import game.Simulator;
+import game.simulation.GameResult;
+import game.simulation.RandomStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks complete bot-vs-bot games and single player turns of the object model.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    /**
+     * The number of turns after which the single-turn benchmark starts a new game,
+     * so the cost of a turn does not keep growing with the number of investments.
+     */
+    private static final int TURNS_PER_GAME = 200;
+
+    private long gameIndex;
+    private Game game;
+    private int turns;
+
+    @Setup
+    public void setUp() {
+        gameIndex = 0;
+        startNewGame();
+    }
+
+    /**
+     * Plays a whole headless game with the default turn limit, a different game on every call.
+     */
+    @Benchmark
+    public GameResult fullGame() {
+        return Game.createHeadless(RandomStreams.forGame(0, gameIndex++)).playBotGame(Simulator.DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Plays a single player turn, the same path Game.startGame takes for every turn.
+     */
+    @Benchmark
+    public Game singleTurn() {
+        if (game.isGameOver() || turns == TURNS_PER_GAME) {
+            startNewGame();
+        }
+        game.playTurn();
+        turns++;
+        return game;
+    }
+
+    private void startNewGame() {
+        game = Game.createHeadless(RandomStreams.forGame(1, gameIndex++));
+        game.setupBotPlayers();
+        turns = 0;
+    }
+}
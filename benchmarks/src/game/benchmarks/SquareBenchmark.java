@@ -0,0 +1,66 @@
+package game.benchmarks;
+
+import game.Game;
+import game.board.squares.Square;
+import game.board.squares.SquareType;
+import game.players.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+
+/**
+ * Benchmarks Square.performAction of every square type in isolation.
+ * Two bots take turns landing on the same square, so traps get set and then triggered.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SquareBenchmark {
+
+    @Param({"START", "INVEST", "CHANCE", "TRAP", "STEAL", "PARTY_HARD"})
+    private SquareType squareType;
+
+    private Game game;
+    private Square square;
+    private Player[] players;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpGame() {
+        game = Game.createHeadless(new SplittableRandom(squareType.ordinal()));
+        square = game.getBoard().getBoard().stream()
+                .filter(candidate -> candidate.getType() == squareType)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Starts every iteration with fresh players, so investments and effects do not pile up.
+     */
+    @Setup(Level.Iteration)
+    public void setUpPlayers() {
+        players = new Player[]{new Player("Bot 1", true), new Player("Bot 2", true)};
+    }
+
+    @Benchmark
+    public Player performAction() {
+        Player player = players[next];
+        next ^= 1;
+        // Keep the balance steady, so the same branches are taken on every call.
+        player.addMoney(Player.INITIAL_BALANCE - player.getBalance());
+        square.performAction(player, game);
+        return player;
+    }
+}
@@ -1,31 +1,205 @@
 package game;
 
 import game.board.Board;
+import game.board.BoardSpec;
 import game.board.squares.Square;
+import game.bots.BotStrategy;
+import game.bots.RandomBotStrategy;
 import game.dice.Dice;
-import game.investments.Investment;
+import game.events.ConsoleRenderer;
+import game.events.GameEventSink;
+import game.events.NoOpSink;
+import game.events.PlayerStatus;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.investments.MarketModel;
+import game.investments.Portfolio;
+import game.investments.SettlementEngine;
+import game.metrics.GameMetrics;
+import game.metrics.SettlementEvent;
+import game.metrics.SquareActionEvent;
+import game.metrics.TurnEvent;
 import game.players.Player;
+import game.replay.GameJournal;
+import game.simulation.GameResult;
+import game.simulation.ReseedableRandom;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class Game {
     // --- Constants ---
     public static final long START_PAUSE_MILLISECONDS = 1500; // Pause after welcome message
     public static final long TURN_PAUSE_MILLISECONDS = 700; // Pause after moving to new square
+    public static final String FIRST_BOT_NAME = "Bot 1"; // Name of the player of the first strategy in a bot game
+    public static final String SECOND_BOT_NAME = "Bot 2"; // Name of the player of the second strategy in a bot game
 
-    private final Scanner scanner = new Scanner(System.in);
-    private final Random random = new Random(); // For general random needs, not dice rolls
+    private final Scanner scanner; // null in headless mode, where only bots play
+    private final GameEventSink events; // Console renderer in interactive mode, the no-op sink in headless mode
+    private final boolean headless;
+    private final RandomGenerator random; // The single random stream of this game, also behind its dice
+    private final Dice dice; // Dice of this game only, never shared with other games
     private final Board board;
+    private final SettlementEngine settlement; // Draws the return rates investments are settled with
+    private final GameJournal journal; // Records or replays the decisions, null for a normal game
     private final List<Player> players = new ArrayList<>(); // To manage multiple players
+    private final PlayerStatus status = new PlayerStatus(); // Reused for the turnStarted event of every turn
     private int currentPlayerIndex = 0; // Index in the players list for current turn
+    private int turnCount = 0; // Number of completed player turns
+    private int maxTurns = Integer.MAX_VALUE; // Turn limit of the bot game being played, none for an interactive game
+    private int winnerIndex = -1; // Index in the players list of the winner, -1 while undecided
     private boolean gameOver;
 
     /**
-     * Constructs a new Game object.
+     * Constructs a new interactive Game object that reads from and writes to the console.
      */
     public Game() {
+        this(new Scanner(System.in), new ConsoleRenderer(System.out), false, new SplittableRandom(), MarketModel.INDEPENDENT,
+                BoardSpec.STANDARD);
+    }
+
+    /**
+     * Constructs a new Game object with the given input and output.
+     *
+     * @param scanner  The source of human input, or null if only bots play.
+     * @param events   The sink all events of the game are published to.
+     * @param headless True to skip pauses and turn displays, false for the interactive game.
+     * @param random   The random stream every random draw of this game is taken from.
+     * @param market   The way the return rates of investments are drawn.
+     * @param spec     The board the game is played on.
+     */
+    private Game(Scanner scanner, GameEventSink events, boolean headless, RandomGenerator random, MarketModel market,
+                 BoardSpec spec) {
+        this(scanner, events, headless, random, new Dice(random), market, spec, null);
+    }
+
+    /**
+     * Constructs a new Game object with the given input, output, randomness and journal.
+     *
+     * @param scanner  The source of human input, or null if only bots play.
+     * @param events   The sink all events of the game are published to.
+     * @param headless True to skip pauses and turn displays, false for the interactive game.
+     * @param random   The random stream every random draw of this game is taken from.
+     * @param dice     The dice of this game.
+     * @param market   The way the return rates of investments are drawn.
+     * @param spec     The board the game is played on.
+     * @param journal  Records or replays the decisions of the players, or null.
+     */
+    private Game(Scanner scanner, GameEventSink events, boolean headless, RandomGenerator random, Dice dice,
+                 MarketModel market, BoardSpec spec, GameJournal journal) {
+        this.scanner = scanner;
+        this.events = events;
+        this.headless = headless;
+        this.random = random;
+        this.dice = dice;
+        this.settlement = new SettlementEngine(market);
+        this.journal = journal;
+        gameOver = false;
+        board = new Board(spec, random);
+    }
+
+    /**
+     * Creates a headless game for bot-vs-bot simulation.
+     * A headless game never pauses, never reads input and publishes its events to the {@link NoOpSink}.
+     * Two headless games created with equal random streams are played identically.
+     *
+     * @param random The random stream of the game, used by nothing else.
+     * @return A new headless Game.
+     */
+    public static Game createHeadless(RandomGenerator random) {
+        return createHeadless(random, MarketModel.INDEPENDENT);
+    }
+
+    /**
+     * Creates a headless game for bot-vs-bot simulation with the given market model.
+     *
+     * @param random The random stream of the game, used by nothing else.
+     * @param market The way the return rates of investments are drawn.
+     * @return A new headless Game.
+     */
+    public static Game createHeadless(RandomGenerator random, MarketModel market) {
+        return createHeadless(random, market, NoOpSink.INSTANCE);
+    }
+
+    /**
+     * Creates a headless game for bot-vs-bot simulation that publishes its events to the given sink,
+     * for example an {@link game.events.AsyncRingBufferSink} to log simulated games.
+     *
+     * @param random The random stream of the game, used by nothing else.
+     * @param market The way the return rates of investments are drawn.
+     * @param events The sink the events of the game are published to.
+     * @return A new headless Game.
+     */
+    public static Game createHeadless(RandomGenerator random, MarketModel market, GameEventSink events) {
+        return createHeadless(random, market, events, BoardSpec.STANDARD);
+    }
+
+    /**
+     * Creates a headless game for bot-vs-bot simulation on the given board.
+     *
+     * @param random The random stream of the game, used by nothing else.
+     * @param market The way the return rates of investments are drawn.
+     * @param events The sink the events of the game are published to.
+     * @param spec   The board the game is played on, including its movement dice.
+     * @return A new headless Game.
+     */
+    public static Game createHeadless(RandomGenerator random, MarketModel market, GameEventSink events, BoardSpec spec) {
+        return new Game(null, events, true, random, market, spec);
+    }
+
+    /**
+     * Creates a game whose random draws and decisions are recorded or replayed. Used by the
+     * {@link game.replay} package, which provides a generator and dice that record or play back
+     * every draw, and a journal that does the same for the decisions of the players. Journaled games are
+     * played on the standard board, as the replay log does not record a board spec.
+     *
+     * @param scanner  The source of human input, or null if only bots play or the game is replayed.
+     * @param events   The sink the events of the game are published to.
+     * @param headless True to skip pauses, false for the interactive game.
+     * @param random   The random stream of the game.
+     * @param dice     The dice of the game.
+     * @param market   The way the return rates of investments are drawn.
+     * @param journal  Records or replays the decisions of the players.
+     * @return A new Game.
+     */
+    public static Game createJournaled(Scanner scanner, GameEventSink events, boolean headless, RandomGenerator random,
+                                       Dice dice, MarketModel market, GameJournal journal) {
+        return new Game(scanner, events, headless, random, dice, market, BoardSpec.STANDARD, journal);
+    }
+
+    /**
+     * Prepares this game for a new game played from the given seed, reusing the board, the dice and
+     * every buffer instead of allocating a new Game. The players are removed, so new ones must be set up.
+     * After the reset the game plays exactly like a new headless game created with
+     * {@code new SplittableRandom(seed)}.
+     *
+     * @param seed The seed of the new game.
+     * @throws IllegalStateException If the random stream of this game cannot be reseeded.
+     */
+    public void reset(long seed) {
+        if (!(random instanceof ReseedableRandom reseedable)) {
+            throw new IllegalStateException("Only a game created with a ReseedableRandom can be reset.");
+        }
+        reseedable.setSeed(seed);
+        dice.reset();
+        board.reset(random);
+        players.clear();
+        currentPlayerIndex = 0;
+        turnCount = 0;
+        maxTurns = Integer.MAX_VALUE;
+        winnerIndex = -1;
         gameOver = false;
-        board = new Board();
+    }
+
+    /**
+     * Reads a line of human input. Every event published before is written out first,
+     * so the prompt is visible while the game waits.
+     *
+     * @return The line that was read.
+     */
+    public String readLine() {
+        events.flush();
+        return journal != null ? journal.readLine(scanner) : scanner.nextLine();
     }
 
     /**
@@ -38,59 +212,232 @@ public class Game {
     }
 
     /**
-     * Provides access to the shared Random instance for general random number generation.
+     * Provides access to the random stream of this game for general random number generation.
+     * The dice of the game draw from the same stream.
      *
-     * @return The Random instance.
+     * @return The random generator of this game.
      */
-    public Random getRandom() {
+    public RandomGenerator getRandom() {
         return random;
     }
 
+    /**
+     * Provides access to the dice of this game.
+     *
+     * @return The Dice instance.
+     */
+    public Dice getDice() {
+        return dice;
+    }
+
+    /**
+     * Provides access to the board of this game.
+     *
+     * @return The Board instance.
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Gets the players of this game in turn order.
+     *
+     * @return An unmodifiable view of the players.
+     */
+    public List<Player> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
+    /**
+     * Gets the index of the player whose turn is next.
+     *
+     * @return The index in the players list of the current player.
+     */
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /**
+     * Gets the number of player turns completed so far.
+     *
+     * @return The number of completed turns.
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Gets the number of player turns after which the game is stopped as a draw.
+     *
+     * @return The turn limit of the bot game being played, or Integer.MAX_VALUE if the game has none.
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Checks if a player has run out of money.
+     *
+     * @return True if the game is over, false otherwise.
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Provides access to the sink all events of this game are published to.
+     *
+     * @return The event sink of this game.
+     */
+    public GameEventSink getEvents() {
+        return events;
+    }
+
     /**
      * Starts the main game loop. Handles player setup, turn progression, and game-ending conditions.
      */
     public void startGame() {
+        if (journal != null) {
+            journal.gameStarted(0, null, null);
+        }
         displayWelcomeMessage();
         setupPlayers();
         determineFirstPlayer();
 
         while (!gameOver) {
-            Player currentPlayer = players.get(currentPlayerIndex);
-            System.out.println(board);
-
-            displayPlayerStats(currentPlayer);
-            handlePlayerTurn(currentPlayer);
-
-            if (currentPlayer.getBalance() <= 0) {
-                System.out.println("\n----------------------------------------");
-                System.out.println(currentPlayer.getName() + " has run out of money!");
-                System.out.println("GAME OVER!");
-
-                int winnerIndex = (currentPlayerIndex + 1) % players.size(); // current player loses, the other wins
-                Player winner = players.get(winnerIndex);
-                if (winner != null) {
-                    System.out.println("The winner is " + winner.getName() + "!");
-                }
-                System.out.println("----------------------------------------");
-                gameOver = true;
-            } else {
-                // Processing current player's investments after their turn.
-                processInvestments(currentPlayer);
-
-                // Move to the next player's turn
-                currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+            events.layoutShown(board.toString());
+            playTurn();
+
+            if (!gameOver) {
                 // Small pause between turns for readability
                 pause(TURN_PAUSE_MILLISECONDS);
             }
         }
-        scanner.close();
+        GameResult result = createResult();
+        events.gameEnded(result);
+        events.flush();
+        if (journal != null) {
+            journal.gameEnded(result);
+        }
+        if (scanner != null) {
+            scanner.close();
+        }
+    }
+
+    /**
+     * Plays a complete game between two bots without any pauses or input.
+     * The game ends when a bot runs out of money or when the turn limit is reached,
+     * in which case it is recorded as a draw.
+     *
+     * @param maxTurns The maximum number of player turns before the game is stopped.
+     * @return The result of the game.
+     */
+    public GameResult playBotGame(int maxTurns) {
+        return playBotGame(maxTurns, new RandomBotStrategy(), new RandomBotStrategy());
+    }
+
+    /**
+     * Plays a complete game between two bots with the given strategies.
+     * "Bot 1" plays the first strategy and "Bot 2" the second; a dice roll decides who starts.
+     *
+     * @param maxTurns The maximum number of player turns before the game is stopped.
+     * @param first    The strategy of "Bot 1".
+     * @param second   The strategy of "Bot 2".
+     * @return The result of the game.
+     */
+    public GameResult playBotGame(int maxTurns, BotStrategy first, BotStrategy second) {
+        this.maxTurns = maxTurns;
+        if (journal != null) {
+            journal.gameStarted(maxTurns, first.getName(), second.getName());
+        }
+        setupBotPlayers(first, second);
+
+        while (!gameOver && turnCount < maxTurns) {
+            playTurn();
+        }
+        GameResult result = createResult();
+        events.gameEnded(result);
+        if (journal != null) {
+            journal.gameEnded(result);
+        }
+        return result;
+    }
+
+    /**
+     * Adds two random bot players to the game and determines which of them starts.
+     */
+    public void setupBotPlayers() {
+        setupBotPlayers(new RandomBotStrategy(), new RandomBotStrategy());
+    }
+
+    /**
+     * Adds two bot players with the given strategies to the game and determines which of them starts.
+     *
+     * @param first  The strategy of "Bot 1".
+     * @param second The strategy of "Bot 2".
+     */
+    public void setupBotPlayers(BotStrategy first, BotStrategy second) {
+        if (!players.isEmpty()) {
+            throw new IllegalStateException("The players have already been set up.");
+        }
+        players.add(new Player(FIRST_BOT_NAME, wrap(first)));
+        players.add(new Player(SECOND_BOT_NAME, wrap(second)));
+        determineFirstPlayer();
+    }
+
+    /**
+     * Plays the turn of the current player, checks whether they ran out of money
+     * and passes the turn to the next player.
+     */
+    public void playTurn() {
+        TurnEvent turnEvent = new TurnEvent();
+        turnEvent.begin();
+        long turnStarted = GameMetrics.startTurn();
+        Player currentPlayer = players.get(currentPlayerIndex);
+        if (turnCount % players.size() == 0) {
+            settlement.openMarket(random); // A new market round starts, both players settle at the same rates
+        }
+
+        status.capture(currentPlayer, board);
+        events.turnStarted(currentPlayer, status);
+        handlePlayerTurn(currentPlayer);
+        int turn = turnCount++;
+
+        if (currentPlayer.getBalance() <= 0) {
+            winnerIndex = (currentPlayerIndex + 1) % players.size(); // current player loses, the other wins
+            events.bankrupt(currentPlayer, players.get(winnerIndex));
+            gameOver = true;
+        } else {
+            // Processing current player's investments after their turn.
+            processInvestments(currentPlayer);
+
+            // Move to the next player's turn
+            currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
+        }
+        GameMetrics.turnFinished(turnStarted);
+        turnEvent.finish(currentPlayer.getName(), turn, currentPlayer.getBalance());
+    }
+
+    /**
+     * Creates the result of the game from the current state of the players.
+     *
+     * @return The result of the game, with players in turn order.
+     */
+    private GameResult createResult() {
+        String[] names = new String[players.size()];
+        double[] balances = new double[players.size()];
+        for (int i = 0; i < players.size(); i++) {
+            names[i] = players.get(i).getName();
+            balances[i] = players.get(i).getBalance();
+        }
+        return new GameResult(names, balances, gameOver ? winnerIndex : GameResult.NO_WINNER, turnCount);
     }
 
     /**
      * Displays the welcome message for the game.
      */
-    private static void displayWelcomeMessage() {
-        System.out.println("\nWelcome to 'Evil Geniuses'!");
+    private void displayWelcomeMessage() {
+        events.message("\nWelcome to 'Evil Geniuses'!");
         pause(START_PAUSE_MILLISECONDS);
     }
 
@@ -98,13 +445,23 @@ public class Game {
      * Sets up the human player and the bot opponent.
      */
     private void setupPlayers() {
-        System.out.println("What is your name, future Evil Genius?");
-        System.out.print("Name: ");
-        String playerName = scanner.nextLine().trim();
+        events.message("What is your name, future Evil Genius?");
+        events.prompt("Name: ");
+        String playerName = readLine().trim();
         players.add(new Player(playerName, false)); // Human player
 
-        System.out.println("Your opponent will be a bot.");
-        players.add(new Player("Bot", true)); // Bot player
+        events.message("Your opponent will be a bot.");
+        players.add(new Player("Bot", wrap(new RandomBotStrategy()))); // Bot player
+    }
+
+    /**
+     * Lets the journal of a recorded or replayed game wrap the strategy of a bot.
+     *
+     * @param strategy The strategy the bot was set up with.
+     * @return The strategy the bot plays with.
+     */
+    private BotStrategy wrap(BotStrategy strategy) {
+        return journal != null ? journal.wrap(strategy) : strategy;
     }
 
     /**
@@ -112,11 +469,10 @@ public class Game {
      * Rearranges the players list so the starting player is at index 0.
      */
     private void determineFirstPlayer() {
-        System.out.println("\n--- Determining First Player ---");
         Player firstPlayer;
 
         // Simplified for two players: roll a 2-sided dice.
-        int roll = Dice.rollTwoSidedDice();
+        int roll = dice.rollTwoSidedDice();
         if (roll == 1) {
             firstPlayer = players.get(0); // human is players.get(0)
         } else {
@@ -128,34 +484,10 @@ public class Game {
             Collections.swap(players, 0, 1); // Swap if bot needs to go first
         }
 
-        System.out.println("The first player is: " + firstPlayer.getName() + "!");
+        events.firstPlayerChosen(firstPlayer);
         pause(START_PAUSE_MILLISECONDS);
     }
 
-    /**
-     * Displays the current stats for the given player.
-     *
-     * @param player The player whose stats are to be displayed.
-     */
-    private void displayPlayerStats(Player player) {
-        System.out.println("\n===== " + player.getName() + "'s Turn =====");
-        System.out.printf("Balance: %.2f%n", player.getBalance());
-        System.out.printf("Current position: %d (%s)%n", (player.getCurrentPositionIndex() + 1), board.getBoard().get(player.getCurrentPositionIndex()).getType());
-        System.out.println("Steal Plan: " + (player.getStealPlan() != null ? "Active (" + player.getStealPlan() + ")" : "None")); // Check if steal plan exists
-        System.out.println("Investments (" + player.getInvestments().size() + "): ");
-        if (player.getInvestments().isEmpty()) {
-            System.out.println("\t- None");
-        } else {
-            for (Investment investment : player.getInvestments()) {
-                System.out.printf("\t- %s: %.2f invested%n", investment.getCompany().getName(), investment.getAmount());
-            }
-        }
-        System.out.println("Turns in Neutral State: " + player.getTurnsInNeutralState());
-        System.out.println("Cannot Use Steal Square: " + player.isCanNotUseSteelSquare());
-        System.out.println("Is Under Bad Luck Effect: " + player.isUnderBadLuckEffect());
-        System.out.println("Cannot Place Trap: " + player.isCanNotPlaceTrap());
-    }
-
     /**
      * Handles the actions for a single player's turn.
      *
@@ -163,52 +495,67 @@ public class Game {
      */
     private void handlePlayerTurn(Player player) {
         if (!player.isBot()) {
-            System.out.print("Press Enter to roll the dice...");
-            scanner.nextLine();
+            events.prompt("Press Enter to roll the dice...");
+            readLine();
         } else {
-            System.out.println(player.getName() + " is rolling the dice...");
+            events.message(player, "is rolling the dice...");
             pause(TURN_PAUSE_MILLISECONDS); // Pause for bot
         }
 
-        player.move();
-        System.out.println("(Position : " + (player.getCurrentPositionIndex() + 1) + ")");
-        Square currentSquare = board.getBoard().get(player.getCurrentPositionIndex());
+        int steps = player.move(dice, board);
+        events.moved(player, steps, player.getCurrentPositionIndex());
+        int position = player.getCurrentPositionIndex();
+        Square currentSquare = board.getSquare(position);
         // Perform action specific to the square
+        SquareActionEvent actionEvent = new SquareActionEvent();
+        actionEvent.begin();
+        long actionStarted = GameMetrics.startSquareAction();
         currentSquare.performAction(player, this);
+        GameMetrics.squareActionFinished(currentSquare.getType(), actionStarted);
+        actionEvent.finish(player.getName(), currentSquare.getType(), position);
         pause(TURN_PAUSE_MILLISECONDS); // Small pause after square action
     }
 
     /**
      * Processes all active investments for a given player.
-     * Calculates profits/losses and updates the player's balance.
+     * Each company the player holds is settled once on its invested total,
+     * then the profit or loss is applied to the player's balance.
      *
      * @param player The player whose investments are to be processed.
      */
     private void processInvestments(Player player) {
-        if (player.getInvestments().isEmpty()) {
+        Portfolio portfolio = player.getPortfolio();
+        if (portfolio.isEmpty()) {
             return; // No investments, nothing to do
         }
 
-        System.out.println("\n--- Processing Investments for " + player.getName() + " ---");
-        for (Investment investment : new ArrayList<>(player.getInvestments())) {
-            double investedAmount = investment.getAmount();
+        events.settlementStarted(player);
+        List<Company> companies = InvestmentManager.getAllCompanies();
+        for (int i = 0; i < portfolio.size(); i++) {
+            double investedAmount = portfolio.getInvested(i);
+            if (investedAmount <= 0) {
+                continue; // Nothing invested in this company
+            }
 
-            double outcomeChange = investment.calculateInvestmentOutcome(this);
+            Company company = companies.get(i);
+            double outcomeChange = investedAmount * settlement.getReturnRate(i, random);
             player.addMoney(outcomeChange); // Deducts if outcomeChange is negative
-
-            String outcomeMessage = outcomeChange >= 0 ? "gained" : "lost";
-            System.out.printf("  Investment in %s (invested %.2f): You %s %.2f. New balance: %.2f%n",
-                    investment.getCompany().getName(), investedAmount, outcomeMessage, Math.abs(outcomeChange), player.getBalance());
+            events.settled(player, company, investedAmount, outcomeChange, player.getBalance());
+            GameMetrics.settled();
+            SettlementEvent.emit(player.getName(), company.getName(), investedAmount, outcomeChange);
         }
-        System.out.println("--- Investments Processed ---");
+        events.settlementFinished(player);
     }
 
     /**
-     * Pauses the game execution for a specified duration.
+     * Pauses the game execution for a specified duration. Headless games never pause.
      *
      * @param milliseconds The duration of the pause in milliseconds.
      */
-    private static void pause(long milliseconds) {
+    private void pause(long milliseconds) {
+        if (headless) {
+            return;
+        }
         try {
             Thread.sleep(milliseconds);
         } catch (InterruptedException e) {
@@ -1,7 +1,20 @@
 package game;
 
+import game.replay.ReplayLogWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
 public class GameLauncher {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0) {
+            // Record the game to the given replay log
+            try (ReplayLogWriter log = ReplayLogWriter.open(Path.of(args[0]))) {
+                log.createInteractiveGame(new SplittableRandom().nextLong()).startGame();
+            }
+            return;
+        }
         Game evilGeniusesGame = new Game();
 
         // Start the game
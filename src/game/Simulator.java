@@ -0,0 +1,219 @@
+package game;
+
+import game.board.BoardSpec;
+import game.events.GameEventSink;
+import game.events.NoOpSink;
+import game.investments.MarketModel;
+import game.simulation.GameResult;
+import game.simulation.RandomStreams;
+import game.simulation.ReseedableRandom;
+import game.simulation.ResultCollector;
+
+import java.util.SplittableRandom;
+import java.util.function.Consumer;
+
+/**
+ * Plays complete bot-vs-bot games without pauses or console output.
+ * It is used to tune the game rules by running a large number of games.
+ * Every game is identified by its index in the batch and draws all of its randomness from a stream
+ * derived from the master seed, so a batch can be replayed exactly.
+ * <p>
+ * The games of a range are played on one game object that is reset for every game, so a large board
+ * is built once per range instead of once per game.
+ */
+public class Simulator {
+
+    /**
+     * The default maximum number of player turns after which a game is declared a draw.
+     */
+    public static final int DEFAULT_MAX_TURNS = 1000;
+
+    private final int maxTurns;
+    private final long masterSeed;
+    private final MarketModel market;
+    private final BoardSpec board;
+
+    /**
+     * Constructs a new Simulator object with a random master seed.
+     *
+     * @param maxTurns The maximum number of player turns per game.
+     */
+    public Simulator(int maxTurns) {
+        this(maxTurns, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs a new Simulator object.
+     *
+     * @param maxTurns   The maximum number of player turns per game.
+     * @param masterSeed The seed all games of the batch are derived from.
+     */
+    public Simulator(int maxTurns, long masterSeed) {
+        this(maxTurns, masterSeed, MarketModel.INDEPENDENT);
+    }
+
+    /**
+     * Constructs a new Simulator object with the given market model.
+     *
+     * @param maxTurns   The maximum number of player turns per game.
+     * @param masterSeed The seed all games of the batch are derived from.
+     * @param market     The way the return rates of investments are drawn.
+     */
+    public Simulator(int maxTurns, long masterSeed, MarketModel market) {
+        this(maxTurns, masterSeed, market, BoardSpec.STANDARD);
+    }
+
+    /**
+     * Constructs a new Simulator object that plays on the given board.
+     *
+     * @param maxTurns   The maximum number of player turns per game.
+     * @param masterSeed The seed all games of the batch are derived from.
+     * @param market     The way the return rates of investments are drawn.
+     * @param board      The board and the movement dice of every game.
+     */
+    public Simulator(int maxTurns, long masterSeed, MarketModel market, BoardSpec board) {
+        if (maxTurns <= 0) {
+            throw new IllegalArgumentException("The turn limit must be positive: " + maxTurns);
+        }
+        this.maxTurns = maxTurns;
+        this.masterSeed = masterSeed;
+        this.market = market;
+        this.board = board;
+    }
+
+    /**
+     * Gets the seed all games of the batch are derived from.
+     *
+     * @return The master seed.
+     */
+    public long getMasterSeed() {
+        return masterSeed;
+    }
+
+    /**
+     * Gets the board every game of the batch is played on.
+     *
+     * @return The board spec.
+     */
+    public BoardSpec getBoard() {
+        return board;
+    }
+
+    /**
+     * Plays a single headless bot-vs-bot game.
+     *
+     * @param gameIndex The zero-based index of the game in the batch.
+     * @return The result of the game.
+     */
+    public GameResult playGame(long gameIndex) {
+        return playGame(gameIndex, NoOpSink.INSTANCE);
+    }
+
+    /**
+     * Plays a single headless bot-vs-bot game that publishes its events to the given sink.
+     *
+     * @param gameIndex The zero-based index of the game in the batch.
+     * @param events    The sink the events of the game are published to.
+     * @return The result of the game.
+     */
+    public GameResult playGame(long gameIndex, GameEventSink events) {
+        return Game.createHeadless(RandomStreams.forGame(masterSeed, gameIndex), market, events, board).playBotGame(maxTurns);
+    }
+
+    /**
+     * Plays a single headless bot-vs-bot game and collects its summary for a results file.
+     *
+     * @param gameIndex The zero-based index of the game in the batch.
+     * @param collector The collector of the thread that plays the game.
+     * @return The result of the game.
+     */
+    public GameResult recordGame(long gameIndex, ResultCollector collector) {
+        long seed = RandomStreams.gameSeed(masterSeed, gameIndex);
+        Game game = Game.createHeadless(new SplittableRandom(seed), market, collector, board);
+        collector.begin(seed, game.getBoard());
+        return game.playBotGame(maxTurns);
+    }
+
+    /**
+     * Plays a range of games one after another and collects the summary of every game for a results file.
+     *
+     * @param firstGameIndex The index of the first game to play.
+     * @param games          The number of games to play.
+     * @param resultConsumer The consumer that receives the result of every game.
+     * @param collector      The collector of the calling thread.
+     */
+    public void record(long firstGameIndex, long games, Consumer<GameResult> resultConsumer, ResultCollector collector) {
+        Game game = Game.createHeadless(new ReseedableRandom(0), market, collector, board);
+        for (long i = firstGameIndex; i < firstGameIndex + games; i++) {
+            long seed = RandomStreams.gameSeed(masterSeed, i);
+            game.reset(seed);
+            collector.begin(seed, game.getBoard());
+            resultConsumer.accept(game.playBotGame(maxTurns));
+        }
+    }
+
+    /**
+     * Plays a range of games one after another and hands every result to the consumer in index order.
+     * The results are not kept, so any number of games can be played.
+     *
+     * @param firstGameIndex The index of the first game to play.
+     * @param games          The number of games to play.
+     * @param resultConsumer The consumer that receives the result of every game.
+     */
+    public void run(long firstGameIndex, long games, Consumer<GameResult> resultConsumer) {
+        run(firstGameIndex, games, resultConsumer, NoOpSink.INSTANCE);
+    }
+
+    /**
+     * Plays a range of games one after another, publishing the events of all of them to the given sink.
+     *
+     * @param firstGameIndex The index of the first game to play.
+     * @param games          The number of games to play.
+     * @param resultConsumer The consumer that receives the result of every game.
+     * @param events         The sink the events of all games are published to.
+     */
+    public void run(long firstGameIndex, long games, Consumer<GameResult> resultConsumer, GameEventSink events) {
+        Game game = Game.createHeadless(new ReseedableRandom(0), market, events, board);
+        for (long i = firstGameIndex; i < firstGameIndex + games; i++) {
+            game.reset(RandomStreams.gameSeed(masterSeed, i)); // Plays exactly like playGame(i, events)
+            resultConsumer.accept(game.playBotGame(maxTurns));
+        }
+    }
+
+    /**
+     * Runs a batch of games and prints a short summary at the end.
+     * The board is read from the system properties of {@link BoardSpec#fromSystemProperties()}.
+     *
+     * @param args Optional number of games, maximum number of turns per game, master seed and market model.
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+        int maxTurns = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_TURNS;
+        long masterSeed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+        MarketModel market = args.length > 3 ? MarketModel.valueOf(args[3].toUpperCase()) : MarketModel.INDEPENDENT;
+        Simulator simulator = new Simulator(maxTurns, masterSeed, market, BoardSpec.fromSystemProperties());
+
+        long[] wins = new long[2]; // wins of the first and the second player
+        long[] draws = new long[1];
+        long[] totalTurns = new long[1];
+
+        long startTime = System.nanoTime();
+        simulator.run(0, games, result -> {
+            if (result.isDraw()) {
+                draws[0]++;
+            } else {
+                wins[result.getWinnerIndex()]++;
+            }
+            totalTurns[0] += result.getTurns();
+        });
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("Master seed: %d%n", simulator.getMasterSeed());
+        if (simulator.getBoard() != BoardSpec.STANDARD) {
+            System.out.printf("Board: %s%n", simulator.getBoard());
+        }
+        System.out.printf("Games played: %d in %.2f s (%.0f games/s)%n", games, seconds, games / seconds);
+        System.out.printf("First player wins: %d, second player wins: %d, draws: %d%n", wins[0], wins[1], draws[0]);
+        System.out.printf("Average turns per game: %.2f%n", (double) totalTurns[0] / games);
+    }
+}
@@ -0,0 +1,217 @@
+package game.analysis;
+
+import game.board.Board;
+import game.board.squares.ChanceSquare;
+import game.board.squares.PartyHardSquare;
+import game.board.squares.SquareType;
+import game.board.squares.StartSquare;
+import game.dice.MovementDice;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Exact analysis of where players land on a given board layout.
+ * <p>
+ * A player's position only changes by a roll of the board's movement dice modulo the board size, so it is a Markov chain
+ * whose transition matrix is the same for every square, just shifted, and the distribution after {@code k} moves
+ * is the start distribution convolved {@code k} times with the dice distribution. From START a player only reaches
+ * the multiples of the greatest common divisor of the board size and the possible rolls (every square with the
+ * standard dice, only the even ones if every roll is even on an even board). The chain restricted to those squares
+ * is doubly stochastic, so in the long run a player ends on each of them equally often, whatever the layout.
+ * <p>
+ * The cash flow figures only cover the fixed money rules: the START bonus, the PARTY_HARD cost and the
+ * CHANCE tier table. Trap, steal and investment money depends on player decisions and is not included,
+ * and neither are the neutral-state and bad-luck effects.
+ */
+public class BoardAnalysis {
+
+    /**
+     * The highest roll of the 100-sided dice that selects a Chance amount.
+     */
+    private static final int CHANCE_ROLLS = 100;
+
+    /**
+     * The probability that a 10-sided roll is even, which makes a Chance outcome positive.
+     */
+    private static final double CHANCE_POSITIVE_PROBABILITY = 0.5;
+
+    private final SquareType[] layout;
+    private final MovementDice movement;
+    private final int reachableStride; // The gap between the squares reachable from START
+
+    /**
+     * Constructs an analysis of the layout of a board.
+     *
+     * @param board The board to analyse. Later changes to the board are not seen by the analysis.
+     */
+    public BoardAnalysis(Board board) {
+        layout = new SquareType[board.getSize()];
+        for (int i = 0; i < layout.length; i++) {
+            layout[i] = board.getType(i);
+        }
+        movement = board.getMovement();
+        int stride = layout.length;
+        for (int steps = movement.getMinSteps(); steps <= movement.getMaxSteps(); steps++) {
+            if (movement.getStepProbability(steps) > 0) {
+                stride = gcd(stride, steps);
+            }
+        }
+        reachableStride = stride;
+    }
+
+    /**
+     * Computes the long-run share of turns a player who starts on the START square ends on each square.
+     * The share is equal for all squares the dice can reach from START and 0 for the others.
+     *
+     * @return The stationary probability of every square, indexed by position.
+     */
+    public double[] getStationaryDistribution() {
+        double[] distribution = new double[layout.length];
+        double share = (double) reachableStride / layout.length;
+        for (int i = 0; i < distribution.length; i += reachableStride) {
+            distribution[i] = share;
+        }
+        return distribution;
+    }
+
+    /**
+     * Computes where a player who starts on the START square is after a number of turns.
+     *
+     * @param turns The number of the player's own turns (moves), 0 for the starting position.
+     * @return The probability of standing on every square after that many moves, indexed by position.
+     */
+    public double[] getPositionDistribution(int turns) {
+        if (turns < 0) {
+            throw new IllegalArgumentException("The number of turns cannot be negative: " + turns);
+        }
+        double[] distribution = new double[layout.length];
+        distribution[0] = 1;
+        for (int turn = 0; turn < turns; turn++) {
+            distribution = move(distribution);
+        }
+        return distribution;
+    }
+
+    /**
+     * Computes how often a player who starts on the START square is expected to land on every square
+     * during their first turns.
+     *
+     * @param turns The number of the player's own turns.
+     * @return The expected number of landings on every square, indexed by position.
+     */
+    public double[] getExpectedLandings(int turns) {
+        double[] landings = new double[layout.length];
+        double[] distribution = getPositionDistribution(0);
+        for (int turn = 0; turn < turns; turn++) {
+            distribution = move(distribution);
+            for (int i = 0; i < landings.length; i++) {
+                landings[i] += distribution[i];
+            }
+        }
+        return landings;
+    }
+
+    /**
+     * Adds up per-square values by square type.
+     *
+     * @param perSquare Values indexed by position, e.g. one of the distributions of this analysis.
+     * @return The sum of the values of every square type.
+     */
+    public Map<SquareType, Double> sumByType(double[] perSquare) {
+        Map<SquareType, Double> sums = new EnumMap<>(SquareType.class);
+        for (SquareType type : SquareType.values()) {
+            sums.put(type, 0.0);
+        }
+        for (int i = 0; i < layout.length; i++) {
+            sums.merge(layout[i], perSquare[i], Double::sum);
+        }
+        return sums;
+    }
+
+    /**
+     * Computes the expected money a player receives from a single landing on a square type.
+     *
+     * @param type The type of the square.
+     * @return The expected change of the balance; negative for a cost.
+     */
+    public static double getExpectedCashFlow(SquareType type) {
+        return switch (type) {
+            case START -> StartSquare.BONUS_AMOUNT;
+            case PARTY_HARD -> -PartyHardSquare.PARTY_COST;
+            case CHANCE -> (2 * CHANCE_POSITIVE_PROBABILITY - 1) * getExpectedChanceAmount();
+            case INVEST, TRAP, STEAL -> 0;
+        };
+    }
+
+    /**
+     * Computes the expected size of a Chance outcome, whether it is a gain or a loss.
+     *
+     * @return The average amount of the Chance tier table over all 100-sided rolls.
+     */
+    public static double getExpectedChanceAmount() {
+        double total = 0;
+        for (int roll = 1; roll <= CHANCE_ROLLS; roll++) {
+            total += ChanceSquare.getAmountByChanceRoll(roll);
+        }
+        return total / CHANCE_ROLLS;
+    }
+
+    /**
+     * Computes the long-run expected money a player receives per turn from the fixed money rules.
+     *
+     * @return The expected change of the balance per turn.
+     */
+    public double getExpectedCashFlowPerTurn() {
+        return getExpectedCashFlow(getStationaryDistribution());
+    }
+
+    /**
+     * Computes the expected money a player who starts on the START square receives during their first turns.
+     *
+     * @param turns The number of the player's own turns.
+     * @return The expected total change of the balance.
+     */
+    public double getExpectedCashFlow(int turns) {
+        return getExpectedCashFlow(getExpectedLandings(turns));
+    }
+
+    /**
+     * Weighs the cash flow of every square with a per-square landing weight.
+     */
+    private double getExpectedCashFlow(double[] landings) {
+        double total = 0;
+        for (int i = 0; i < layout.length; i++) {
+            total += landings[i] * getExpectedCashFlow(layout[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Advances a position distribution by one dice roll.
+     */
+    private double[] move(double[] distribution) {
+        double[] next = new double[distribution.length];
+        for (int from = 0; from < distribution.length; from++) {
+            if (distribution[from] == 0) {
+                continue;
+            }
+            for (int steps = movement.getMinSteps(); steps <= movement.getMaxSteps(); steps++) {
+                next[(from + steps) % distribution.length] += distribution[from] * movement.getStepProbability(steps);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Computes the greatest common divisor of two non-negative numbers.
+     */
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+}
@@ -0,0 +1,80 @@
+package game.analysis;
+
+/**
+ * The bankruptcy probabilities of the players of a game, as computed by the RuinSolver.
+ */
+public class RuinProbabilities {
+    private final double[] ruinProbabilities;
+    private final int horizon;
+    private final int expandedStates;
+
+    /**
+     * Constructs a new RuinProbabilities object.
+     *
+     * @param ruinProbabilities The probability that each player goes bankrupt first, indexed like the game's players.
+     * @param horizon           The number of turns of each player that were analysed.
+     * @param expandedStates    The number of distinct states whose transitions were computed.
+     */
+    public RuinProbabilities(double[] ruinProbabilities, int horizon, int expandedStates) {
+        this.ruinProbabilities = ruinProbabilities;
+        this.horizon = horizon;
+        this.expandedStates = expandedStates;
+    }
+
+    /**
+     * Gets the probability that a player is the one who runs out of money within the horizon.
+     *
+     * @param playerIndex The index of the player in the game's players list.
+     * @return The probability that the player loses the game.
+     */
+    public double getRuinProbability(int playerIndex) {
+        return ruinProbabilities[playerIndex];
+    }
+
+    /**
+     * Gets the probability that a player wins, i.e. that the other player runs out of money first.
+     *
+     * @param playerIndex The index of the player in the game's players list.
+     * @return The probability that the player wins the game within the horizon.
+     */
+    public double getWinProbability(int playerIndex) {
+        return ruinProbabilities[1 - playerIndex];
+    }
+
+    /**
+     * Gets the probability that nobody runs out of money within the horizon.
+     *
+     * @return The probability that the game is still undecided.
+     */
+    public double getUndecidedProbability() {
+        return 1 - ruinProbabilities[0] - ruinProbabilities[1];
+    }
+
+    /**
+     * Gets the number of turns of each player that were analysed.
+     *
+     * @return The horizon.
+     */
+    public int getHorizon() {
+        return horizon;
+    }
+
+    /**
+     * Gets the number of distinct states whose transitions were computed.
+     *
+     * @return The number of expanded states.
+     */
+    public int getExpandedStates() {
+        return expandedStates;
+    }
+
+    @Override
+    public String toString() {
+        return "RuinProbabilities{" +
+                "ruin=[" + ruinProbabilities[0] + ", " + ruinProbabilities[1] + "]" +
+                ", undecided=" + getUndecidedProbability() +
+                ", horizon=" + horizon +
+                ", expandedStates=" + expandedStates +
+                '}';
+    }
+}
@@ -0,0 +1,523 @@
+package game.analysis;
+
+import game.Game;
+import game.board.Board;
+import game.board.squares.ChanceSquare;
+import game.board.squares.PartyHardSquare;
+import game.board.squares.Square;
+import game.board.squares.SquareType;
+import game.board.squares.StartSquare;
+import game.board.squares.TrapSquare;
+import game.dice.MovementDice;
+import game.players.Player;
+import game.traps.Trap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the probability that each player goes bankrupt from a given game state,
+ * with dynamic programming instead of simulation.
+ * <p>
+ * Every player is modelled as a Markov chain over a discretized state: position, balance rounded to a
+ * multiple of the balance step, remaining neutral turns, the bad-luck and cannot-steal effects, the steal
+ * plan and the set of free TRAP squares the player has claimed since the given state. The distribution of
+ * that state is pushed forward turn by turn, and the transitions of every state are memoized in primitive
+ * arrays, so each state is expanded only once. From the ruin-time distributions of both players the probability that
+ * either one runs out of money first follows exactly, because players take turns.
+ * <p>
+ * The model uses these fixed bot policies and simplifications:
+ * <ul>
+ *     <li>traps are chosen uniformly like the bot does; on a free TRAP square the player claims it if the
+ *     chosen trap is affordable;</li>
+ *     <li>steal plans are set like the bot does, and only a TRAP plan pays, as in the game;</li>
+ *     <li>investments are declined and existing investments are not settled, because a portfolio cannot be
+ *     discretized into a small state;</li>
+ *     <li>traps the opponent sets after the given state are not seen, so the players' chains are
+ *     independent;</li>
+ *     <li>a player whose balance reaches the safe balance is assumed never to go bankrupt.</li>
+ * </ul>
+ */
+public class RuinSolver {
+
+    private static final long RUIN = -1;
+    private static final long SAFE = -2;
+
+    // Steal plans that matter: only a TRAP plan pays, and any plan blocks setting another one.
+    private static final int NO_PLAN = 0;
+    private static final int TRAP_PLAN = 1;
+    private static final int OTHER_PLAN = 2;
+
+    private static final int RUIN_ID = -1;
+    private static final int SAFE_ID = -2;
+
+    private static final int MAX_CLAIMABLE_TRAPS = 16;
+    private static final int MAX_BALANCE_BUCKETS = 1 << 20; // The balance field of a state key has 20 bits
+    private static final int INITIAL_OUTCOMES = 64; // More than the outcomes of a turn with the standard dice
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final int horizon;
+    private final double balanceStep;
+    private final double safeBalance;
+    private final double[] chanceAmounts;
+    private final double[] chanceProbabilities;
+    private final int[] trapCosts;
+
+    /**
+     * Constructs a new RuinSolver object.
+     *
+     * @param horizon     The number of turns of each player that are analysed.
+     * @param balanceStep The resolution balances are rounded to. A step that divides all fixed amounts of the
+     *                    game (e.g. 5) keeps every rule except the Tax Audit percentage exact.
+     * @param safeBalance The balance from which a player is assumed never to go bankrupt.
+     * @throws IllegalArgumentException If a parameter is not positive, or the safe balance is more than
+     *                                  2<sup>20</sup> - 1 balance steps, which a state cannot hold.
+     */
+    public RuinSolver(int horizon, double balanceStep, double safeBalance) {
+        if (horizon <= 0 || balanceStep <= 0 || safeBalance <= 0) {
+            throw new IllegalArgumentException("The horizon, balance step and safe balance must be positive.");
+        }
+        if (Math.ceil(safeBalance / balanceStep) >= MAX_BALANCE_BUCKETS) {
+            throw new IllegalArgumentException("The safe balance can be at most " + (MAX_BALANCE_BUCKETS - 1)
+                    + " balance steps: " + safeBalance + " / " + balanceStep);
+        }
+        this.horizon = horizon;
+        this.balanceStep = balanceStep;
+        this.safeBalance = safeBalance;
+
+        Map<Integer, Integer> amountCounts = new HashMap<>();
+        for (int roll = 1; roll <= 100; roll++) {
+            amountCounts.merge(ChanceSquare.getAmountByChanceRoll(roll), 1, Integer::sum);
+        }
+        chanceAmounts = new double[amountCounts.size()];
+        chanceProbabilities = new double[amountCounts.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : amountCounts.entrySet()) {
+            chanceAmounts[i] = entry.getKey();
+            chanceProbabilities[i] = entry.getValue() / 100.0;
+            i++;
+        }
+
+        Trap[] traps = Trap.values();
+        trapCosts = new int[traps.length];
+        for (int t = 0; t < trapCosts.length; t++) {
+            trapCosts[t] = traps[t].getInvestmentCost();
+        }
+    }
+
+    /**
+     * Computes the bankruptcy probabilities of both players from the current state of a game.
+     *
+     * @param game A game with two players that is not over yet.
+     * @return The probabilities, indexed like the game's players list.
+     */
+    public RuinProbabilities solve(Game game) {
+        List<Player> players = game.getPlayers();
+        if (players.size() != 2 || game.isGameOver()) {
+            throw new IllegalArgumentException("The solver needs a running game with two players.");
+        }
+        int first = game.getCurrentPlayerIndex();
+        int second = 1 - first;
+
+        Chain firstChain = new Chain(game, players.get(first));
+        Chain secondChain = new Chain(game, players.get(second));
+        double[] firstRuin = firstChain.ruinTimes();
+        double[] secondRuin = secondChain.ruinTimes();
+
+        // The first player moves on global turns 1, 3, 5, ... and the second on 2, 4, 6, ...
+        double firstLoses = 0;
+        double secondLoses = 0;
+        double firstSurvived = 1;
+        double secondSurvived = 1;
+        for (int turn = 1; turn <= horizon; turn++) {
+            firstLoses += firstRuin[turn] * secondSurvived;
+            firstSurvived -= firstRuin[turn];
+            secondLoses += secondRuin[turn] * firstSurvived;
+            secondSurvived -= secondRuin[turn];
+        }
+
+        double[] ruin = new double[2];
+        ruin[first] = firstLoses;
+        ruin[second] = secondLoses;
+        return new RuinProbabilities(ruin, horizon, firstChain.expandedStates() + secondChain.expandedStates());
+    }
+
+    /**
+     * The Markov chain of a single player, with its memoized transitions.
+     */
+    private final class Chain {
+        private final SquareType[] layout;
+        private final MovementDice movement;
+        private final Trap[] enemyTraps; // per position, null if no enemy trap
+        private final boolean[] ownTrap; // per position, a trap owned since the given state
+        private final int[] claimBit; // per position, the mask bit of a free TRAP square, or -1
+        private final long startState;
+
+        // The memo: every discovered state gets an id, and its outcomes are stored as a range of edges.
+        private final StateIndex index = new StateIndex();
+        private long[] stateKeys = new long[INITIAL_CAPACITY];
+        private int[] firstEdge = new int[INITIAL_CAPACITY];
+        private int[] endEdge = new int[INITIAL_CAPACITY];
+        private int states;
+        private int[] edgeTarget = new int[INITIAL_CAPACITY];
+        private double[] edgeProbability = new double[INITIAL_CAPACITY];
+        private int edges;
+        private final Outcomes outcomes = new Outcomes();
+
+        Chain(Game game, Player player) {
+            Board board = game.getBoard();
+            layout = new SquareType[board.getSize()];
+            movement = board.getMovement();
+            enemyTraps = new Trap[board.getSize()];
+            ownTrap = new boolean[board.getSize()];
+            claimBit = new int[board.getSize()];
+            int claimable = 0;
+            for (int i = 0; i < board.getSize(); i++) {
+                Square square = board.getSquare(i);
+                layout[i] = board.getType(i);
+                claimBit[i] = -1;
+                if (square instanceof TrapSquare trapSquare) {
+                    if (trapSquare.getOwner() == null) {
+                        claimBit[i] = claimable++;
+                    } else if (trapSquare.getOwner() == player) {
+                        ownTrap[i] = true;
+                    } else {
+                        enemyTraps[i] = trapSquare.getActiveTrap();
+                    }
+                }
+            }
+            if (claimable > MAX_CLAIMABLE_TRAPS) {
+                throw new IllegalArgumentException("Too many free TRAP squares to analyse: " + claimable);
+            }
+
+            int plan = player.getStealPlan() == null ? NO_PLAN
+                    : player.getStealPlan() == SquareType.TRAP ? TRAP_PLAN : OTHER_PLAN;
+            startState = encode(player.getCurrentPositionIndex(), player.getBalance(),
+                    player.getTurnsInNeutralState(), player.isUnderBadLuckEffect(),
+                    player.isCanNotUseSteelSquare(), plan, 0);
+        }
+
+        /**
+         * Pushes the state distribution forward and records when the player goes bankrupt.
+         *
+         * @return The probability of going bankrupt on each own turn, indexed from 1.
+         */
+        double[] ruinTimes() {
+            double[] ruin = new double[horizon + 1];
+            double[] distribution = new double[stateKeys.length];
+            int start = intern(startState);
+            if (start >= 0) {
+                distribution[start] = 1;
+            }
+            for (int turn = 1; turn <= horizon; turn++) {
+                double[] next = new double[stateKeys.length];
+                int knownStates = states; // States discovered during this turn carry no probability yet
+                for (int id = 0; id < knownStates; id++) {
+                    double mass = distribution[id];
+                    if (mass == 0) {
+                        continue;
+                    }
+                    if (firstEdge[id] < 0) {
+                        expand(id);
+                        if (next.length < stateKeys.length) {
+                            next = Arrays.copyOf(next, stateKeys.length);
+                        }
+                    }
+                    for (int e = firstEdge[id]; e < endEdge[id]; e++) {
+                        int target = edgeTarget[e];
+                        if (target == RUIN_ID) {
+                            ruin[turn] += mass * edgeProbability[e];
+                        } else if (target != SAFE_ID) {
+                            next[target] += mass * edgeProbability[e];
+                        }
+                    }
+                }
+                distribution = next;
+            }
+            return ruin;
+        }
+
+        int expandedStates() {
+            int expanded = 0;
+            for (int id = 0; id < states; id++) {
+                if (firstEdge[id] >= 0) {
+                    expanded++;
+                }
+            }
+            return expanded;
+        }
+
+        /**
+         * Gets the id of a state, registering it if it was not seen before.
+         *
+         * @return The id, or RUIN_ID or SAFE_ID for the absorbing states.
+         */
+        private int intern(long state) {
+            if (state == RUIN) {
+                return RUIN_ID;
+            }
+            if (state == SAFE) {
+                return SAFE_ID;
+            }
+            int id = index.get(state);
+            if (id >= 0) {
+                return id;
+            }
+            if (states == stateKeys.length) {
+                stateKeys = Arrays.copyOf(stateKeys, states * 2);
+                firstEdge = Arrays.copyOf(firstEdge, states * 2);
+                endEdge = Arrays.copyOf(endEdge, states * 2);
+            }
+            id = states++;
+            stateKeys[id] = state;
+            firstEdge[id] = -1;
+            index.put(state, id);
+            return id;
+        }
+
+        /**
+         * Computes the outcomes of a state once and stores them as its edges.
+         */
+        private void expand(int id) {
+            outcomes.clear();
+            enumerate(stateKeys[id], outcomes);
+            if (edges + outcomes.count > edgeTarget.length) {
+                int capacity = Math.max(edgeTarget.length * 2, edges + outcomes.count);
+                edgeTarget = Arrays.copyOf(edgeTarget, capacity);
+                edgeProbability = Arrays.copyOf(edgeProbability, capacity);
+            }
+            firstEdge[id] = edges;
+            for (int i = 0; i < outcomes.count; i++) {
+                edgeTarget[edges] = intern(outcomes.states[i]);
+                edgeProbability[edges] = outcomes.probabilities[i];
+                edges++;
+            }
+            endEdge[id] = edges;
+        }
+
+        /**
+         * Enumerates every outcome of one turn from a state.
+         */
+        private void enumerate(long state, Outcomes transitions) {
+            int position = (int) (state & 0xFFFF);
+            double balance = ((state >>> 16) & (MAX_BALANCE_BUCKETS - 1)) * balanceStep;
+            int neutral = (int) ((state >>> 36) & 0x3);
+            boolean badLuck = ((state >>> 38) & 1) != 0;
+            boolean canNotSteal = ((state >>> 39) & 1) != 0;
+            int plan = (int) ((state >>> 40) & 0x3);
+            int mask = (int) (state >>> 42);
+
+            for (int steps = movement.getMinSteps(); steps <= movement.getMaxSteps(); steps++) {
+                int landing = (position + steps) % layout.length;
+                land(transitions, movement.getStepProbability(steps), landing, balance, neutral, badLuck, canNotSteal,
+                        plan, mask);
+            }
+        }
+
+        /**
+         * Applies the action of the square a player landed on, mirroring the squares' performAction.
+         */
+        private void land(Outcomes out, double p, int position, double balance, int neutral,
+                          boolean badLuck, boolean canNotSteal, int plan, int mask) {
+            switch (layout[position]) {
+                case START -> {
+                    if (neutral > 0) {
+                        out.add(p, position, balance, neutral - 1, badLuck, canNotSteal, plan, mask);
+                    } else {
+                        out.add(p, position, balance + StartSquare.BONUS_AMOUNT, neutral, badLuck, canNotSteal, plan, mask);
+                    }
+                }
+                case PARTY_HARD -> {
+                    if (neutral > 0) {
+                        out.add(p, position, balance, neutral - 1, badLuck, canNotSteal, plan, mask);
+                    } else {
+                        out.add(p, position, balance - PartyHardSquare.PARTY_COST, neutral, badLuck, canNotSteal, plan, mask);
+                    }
+                }
+                case CHANCE -> {
+                    double positive = badLuck ? 0 : 0.5;
+                    for (int i = 0; i < chanceAmounts.length; i++) {
+                        double q = p * chanceProbabilities[i];
+                        if (positive > 0) {
+                            out.add(q * positive, position, balance + chanceAmounts[i], neutral, false, canNotSteal, plan, mask);
+                        }
+                        out.add(q * (1 - positive), position, balance - chanceAmounts[i], neutral, false, canNotSteal, plan, mask);
+                    }
+                }
+                case STEAL -> {
+                    if (canNotSteal) {
+                        out.add(p, position, balance, neutral, badLuck, false, plan, mask);
+                    } else if (neutral > 0) {
+                        out.add(p, position, balance, neutral - 1, badLuck, false, plan, mask);
+                    } else if (plan != NO_PLAN) {
+                        out.add(p, position, balance, neutral, badLuck, false, plan, mask);
+                    } else {
+                        // The bot sets a plan half of the time, for CHANCE, TRAP or STEAL squares.
+                        out.add(p * 0.5, position, balance, neutral, badLuck, false, NO_PLAN, mask);
+                        out.add(p * 0.5 / 3, position, balance, neutral, badLuck, false, TRAP_PLAN, mask);
+                        out.add(p * 0.5 * 2 / 3, position, balance, neutral, badLuck, false, OTHER_PLAN, mask);
+                    }
+                }
+                case TRAP -> landOnTrap(out, p, position, balance, neutral, badLuck, canNotSteal, plan, mask);
+                case INVEST -> out.add(p, position, balance, neutral, badLuck, canNotSteal, plan, mask);
+            }
+        }
+
+        private void landOnTrap(Outcomes out, double p, int position, double balance, int neutral,
+                                boolean badLuck, boolean canNotSteal, int plan, int mask) {
+            if (plan == TRAP_PLAN) {
+                balance += TrapSquare.STEAL_PLAN_REWARD;
+            }
+            int bit = claimBit[position];
+            boolean claimed = bit >= 0 && (mask & (1 << bit)) != 0;
+            if (bit >= 0 && !claimed) {
+                if (balance <= 0) {
+                    out.add(p, position, balance, neutral, badLuck, canNotSteal, plan, mask);
+                    return;
+                }
+                double pick = p / trapCosts.length;
+                for (int cost : trapCosts) {
+                    if (balance >= cost) {
+                        out.add(pick, position, balance - cost, neutral, badLuck, canNotSteal, plan, mask | (1 << bit));
+                    } else {
+                        out.add(pick, position, balance, neutral, badLuck, canNotSteal, plan, mask);
+                    }
+                }
+                return;
+            }
+            Trap trap = enemyTraps[position];
+            if (trap == null || claimed || ownTrap[position]) {
+                out.add(p, position, balance, neutral, badLuck, canNotSteal, plan, mask);
+                return;
+            }
+            if (neutral > 0) {
+                out.add(p, position, balance, neutral - 1, badLuck, canNotSteal, plan, mask);
+                return;
+            }
+            switch (trap) {
+                case TAX_AUDIT -> out.add(p, position, balance - balance * TrapSquare.TAX_AUDIT_RATE,
+                        neutral, badLuck, canNotSteal, plan, mask);
+                case CAT_DIVORCE -> {
+                    out.add(p * 0.2, position, balance, TrapSquare.CAT_DIVORCE_NEUTRAL_TURNS, badLuck, canNotSteal, plan, mask);
+                    out.add(p * 0.8, position, balance, neutral, badLuck, canNotSteal, plan, mask);
+                }
+                case SEEING_THE_LIGHT -> out.add(p, position, balance, neutral, badLuck, true, plan, mask);
+                case GAMBLING_BOSS -> out.add(p, position, balance, neutral, true, canNotSteal, plan, mask);
+                // Propaganda only sets a flag that never stops a player from setting a trap.
+                case PROPAGANDA -> out.add(p, position, balance, neutral, badLuck, canNotSteal, plan, mask);
+            }
+        }
+
+        /**
+         * Packs a state into a key, or returns RUIN or SAFE for the absorbing states.
+         */
+        private long encode(int position, double balance, int neutral, boolean badLuck,
+                            boolean canNotSteal, int plan, int mask) {
+            if (balance <= 0) {
+                return RUIN;
+            }
+            if (balance >= safeBalance) {
+                return SAFE;
+            }
+            long bucket = Math.round(balance / balanceStep); // Below MAX_BALANCE_BUCKETS, checked by the constructor
+            return position
+                    | bucket << 16
+                    | (long) neutral << 36
+                    | (badLuck ? 1L : 0L) << 38
+                    | (canNotSteal ? 1L : 0L) << 39
+                    | (long) plan << 40
+                    | (long) mask << 42;
+        }
+
+        /**
+         * The outcomes of one turn from a single state, merged by target state. Reused for every expansion.
+         */
+        private final class Outcomes {
+            private long[] states = new long[INITIAL_OUTCOMES];
+            private double[] probabilities = new double[INITIAL_OUTCOMES];
+            private int count;
+
+            void clear() {
+                count = 0;
+            }
+
+            void add(double p, int position, double balance, int neutral, boolean badLuck,
+                     boolean canNotSteal, int plan, int mask) {
+                if (p == 0) {
+                    return;
+                }
+                long state = encode(position, balance, neutral, badLuck, canNotSteal, plan, mask);
+                for (int i = 0; i < count; i++) {
+                    if (states[i] == state) {
+                        probabilities[i] += p;
+                        return;
+                    }
+                }
+                if (count == states.length) { // Movement dice with many sides reach more squares
+                    states = Arrays.copyOf(states, count * 2);
+                    probabilities = Arrays.copyOf(probabilities, count * 2);
+                }
+                states[count] = state;
+                probabilities[count] = p;
+                count++;
+            }
+        }
+    }
+
+    /**
+     * An open-addressing map from state keys to state ids, without boxing.
+     */
+    private static final class StateIndex {
+        private long[] keys = new long[INITIAL_CAPACITY * 2];
+        private int[] ids = new int[INITIAL_CAPACITY * 2];
+        private boolean[] used = new boolean[INITIAL_CAPACITY * 2];
+        private int size;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask; used[slot]; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return ids[slot];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int id) {
+            if (size * 2 >= keys.length) {
+                grow();
+            }
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (used[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = key;
+            ids[slot] = id;
+            used[slot] = true;
+            size++;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            int[] oldIds = ids;
+            boolean[] oldUsed = used;
+            keys = new long[oldKeys.length * 2];
+            ids = new int[oldKeys.length * 2];
+            used = new boolean[oldKeys.length * 2];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    put(oldKeys[i], oldIds[i]);
+                }
+            }
+        }
+
+        private static int hash(long key) {
+            long h = key * 0x9e3779b97f4a7c15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+}
@@ -1,92 +1,214 @@
 package game.board;
 
 import game.board.squares.*;
+import game.dice.MovementDice;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents the game board, which is a collection of squares.
- * It is responsible for initializing the board and managing player movement.
+ * It is responsible for initializing the board from its {@link BoardSpec} and shuffling it for every game.
+ * <p>
+ * The squares are kept in a flat array by position, next to an array of their types and an index of the
+ * positions of every type, so looking up a square costs the same on a board of tens of thousands of squares
+ * as on the original 20.
  */
 public class Board {
+    /**
+     * The number of squares of the standard board.
+     */
     public static final int BOARD_SIZE = 20;
-    private final List<Square> board = new ArrayList<>(BOARD_SIZE);
 
-    private final StartSquare start = new StartSquare();
+    private static final SquareType[] SQUARE_TYPES = SquareType.values();
 
-    private final TrapSquare trap1 = new TrapSquare();
-    private final TrapSquare trap2 = new TrapSquare();
-    private final TrapSquare trap3 = new TrapSquare();
-    private final TrapSquare trap4 = new TrapSquare();
-    private final TrapSquare trap5 = new TrapSquare();
-    private final TrapSquare trap6 = new TrapSquare();
-    private final TrapSquare trap7 = new TrapSquare();
+    private final BoardSpec spec;
+    private final Square[] initialSquares; // In the order of the spec, before any shuffle
+    private final SquareType[] initialTypes; // The types of the initial squares
+    private final TrapSquare[] trapSquares; // Cleared for every new game
+    private final Square[] squares; // By position
+    private final SquareType[] types; // The type of every position
+    private final int[] positionsByType; // All positions grouped by type, ascending within a type
+    private final int[] typeStart; // Where the positions of every type start in positionsByType, by ordinal
+    private final int[] typeCursor = new int[SQUARE_TYPES.length]; // Used while the positions are indexed
+    private final List<Square> view;
+
+    /**
+     * Constructs a standard Board object and initializes all the squares.
+     *
+     * @param random The random stream of the game the board belongs to, used to shuffle the squares.
+     */
+    public Board(RandomGenerator random) {
+        this(BoardSpec.STANDARD, random);
+    }
 
-    private final InvestSquare invest1 = new InvestSquare();
-    private final InvestSquare invest2 = new InvestSquare();
-    private final InvestSquare invest3 = new InvestSquare();
+    /**
+     * Constructs a Board object with the squares of a spec.
+     *
+     * @param spec   The layout of the board and the dice the players move with.
+     * @param random The random stream of the game the board belongs to, used to shuffle the squares.
+     */
+    public Board(BoardSpec spec, RandomGenerator random) {
+        this.spec = spec;
+        int size = spec.getSize();
+        initialSquares = new Square[size];
+        initialTypes = new SquareType[size];
+        trapSquares = new TrapSquare[spec.getCount(SquareType.TRAP)];
+        int traps = 0;
+        for (int i = 0; i < size; i++) {
+            initialTypes[i] = spec.getType(i);
+            initialSquares[i] = createSquare(initialTypes[i]);
+            if (initialSquares[i] instanceof TrapSquare trapSquare) {
+                trapSquares[traps++] = trapSquare;
+            }
+        }
+        squares = new Square[size];
+        types = new SquareType[size];
+        positionsByType = new int[size];
+        typeStart = new int[SQUARE_TYPES.length + 1];
+        for (SquareType type : SQUARE_TYPES) {
+            typeStart[type.ordinal() + 1] = typeStart[type.ordinal()] + spec.getCount(type);
+        }
+        view = Collections.unmodifiableList(Arrays.asList(squares));
+        layOut(random);
+    }
 
-    private final PartyHardSquare partyHard1 = new PartyHardSquare();
-    private final PartyHardSquare partyHard2 = new PartyHardSquare();
-    private final PartyHardSquare partyHard3 = new PartyHardSquare();
+    /**
+     * Creates a new square of a type.
+     */
+    private static Square createSquare(SquareType type) {
+        return switch (type) {
+            case START -> new StartSquare();
+            case INVEST -> new InvestSquare();
+            case CHANCE -> new ChanceSquare();
+            case TRAP -> new TrapSquare();
+            case STEAL -> new StealSquare();
+            case PARTY_HARD -> new PartyHardSquare();
+        };
+    }
 
-    private final ChanceSquare chance1 = new ChanceSquare();
-    private final ChanceSquare chance2 = new ChanceSquare();
-    private final ChanceSquare chance3 = new ChanceSquare();
+    /**
+     * Prepares the board for a new game: every trap is removed and the squares are shuffled again,
+     * starting from the same initial order as a new board, so the layout equals the one a new Board
+     * would get from the same random stream.
+     *
+     * @param random The random stream used for the shuffle.
+     */
+    public void reset(RandomGenerator random) {
+        for (TrapSquare trapSquare : trapSquares) {
+            trapSquare.clearTrap();
+        }
+        layOut(random);
+    }
 
-    private final StealSquare steal1 = new StealSquare();
-    private final StealSquare steal2 = new StealSquare();
-    private final StealSquare steal3 = new StealSquare();
+    /**
+     * Puts the squares into their initial order, shuffles them if the spec asks for it and indexes the positions.
+     *
+     * @param random The random stream used for the shuffle.
+     */
+    private void layOut(RandomGenerator random) {
+        System.arraycopy(initialSquares, 0, squares, 0, squares.length);
+        System.arraycopy(initialTypes, 0, types, 0, types.length);
+        if (spec.isShuffled()) {
+            shuffleSquares(random);
+        }
+        System.arraycopy(typeStart, 0, typeCursor, 0, typeCursor.length);
+        for (int position = 0; position < types.length; position++) {
+            positionsByType[typeCursor[types[position].ordinal()]++] = position;
+        }
+    }
 
     /**
-     * Constructs a Board object and initializes all the squares.
+     * Shuffles all squares on the board, except for the StartSquare (which is always at index 0).
+     * Collections.shuffle only accepts a java.util.Random, so the Fisher-Yates shuffle is done here
+     * to keep the layout on the game's own random stream.
+     *
+     * @param random The random stream used for the shuffle.
      */
-    public Board() {
-        initializeBoard(); // Adding objects to the list
-        shuffleSquares(); // Shuffling the list
+    private void shuffleSquares(RandomGenerator random) {
+        // Shuffling without StartSquare
+        for (int i = squares.length - 1; i > 1; i--) {
+            int j = random.nextInt(1, i + 1);
+            Square square = squares[i];
+            squares[i] = squares[j];
+            squares[j] = square;
+            SquareType type = types[i];
+            types[i] = types[j];
+            types[j] = type;
+        }
     }
 
     /**
-     * Initializes the board by creating all the different types of squares and adding them to the list.
-     * This method defines the layout of the game board.
+     * Gets the number of squares of the board.
+     *
+     * @return The board size.
      */
-    private void initializeBoard() {
-        board.add(start);
+    public int getSize() {
+        return squares.length;
+    }
 
-        board.add(trap1);
-        board.add(trap2);
-        board.add(trap3);
-        board.add(trap4);
-        board.add(trap5);
-        board.add(trap6);
-        board.add(trap7);
+    /**
+     * Gets the square at a position.
+     *
+     * @param position The index of the square.
+     * @return The square.
+     */
+    public Square getSquare(int position) {
+        return squares[position];
+    }
 
-        board.add(invest1);
-        board.add(invest2);
-        board.add(invest3);
+    /**
+     * Gets the type of the square at a position without asking the square.
+     *
+     * @param position The index of the square.
+     * @return The square type.
+     */
+    public SquareType getType(int position) {
+        return types[position];
+    }
 
-        board.add(partyHard1);
-        board.add(partyHard2);
-        board.add(partyHard3);
+    /**
+     * Gets the number of squares of a type.
+     *
+     * @param type The square type.
+     * @return The number of squares of the type.
+     */
+    public int getCount(SquareType type) {
+        return typeStart[type.ordinal() + 1] - typeStart[type.ordinal()];
+    }
 
-        board.add(chance1);
-        board.add(chance2);
-        board.add(chance3);
+    /**
+     * Gets the position of one of the squares of a type, in ascending order of position.
+     *
+     * @param type  The square type.
+     * @param index The index among the squares of the type, below {@link #getCount(SquareType)}.
+     * @return The position of the square.
+     */
+    public int getPosition(SquareType type, int index) {
+        if (index < 0 || index >= getCount(type)) {
+            throw new IndexOutOfBoundsException("There are " + getCount(type) + " " + type + " squares: " + index);
+        }
+        return positionsByType[typeStart[type.ordinal()] + index];
+    }
 
-        board.add(steal1);
-        board.add(steal2);
-        board.add(steal3);
+    /**
+     * Gets the spec the board was built from.
+     *
+     * @return The board spec.
+     */
+    public BoardSpec getSpec() {
+        return spec;
     }
 
     /**
-     * Shuffles all squares on the board, except for the StartSquare (which is always at index 0).
+     * Gets the dice the players move with on this board.
+     *
+     * @return The movement dice.
      */
-    private void shuffleSquares() {
-        // Shuffling without StartSquare
-        List<Square> subListToShuffle = board.subList(1, board.size());
-        Collections.shuffle(subListToShuffle);
+    public MovementDice getMovement() {
+        return spec.getMovement();
     }
 
     /**
@@ -97,19 +219,18 @@ public class Board {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Game Board Layout:\n");
-        for (Square square : board) {
+        for (Square square : squares) {
             sb.append(square).append(" ");
         }
-        System.out.println();
         return sb.toString();
     }
 
     /**
      * Gets the list of the square
      *
-     * @return The square's type.
+     * @return An unmodifiable view of the squares by position, which follows every shuffle.
      */
     public List<Square> getBoard() {
-        return board;
+        return view;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,254 @@
+package game.board;
+
+import game.board.squares.SquareType;
+import game.dice.MovementDice;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Describes the board a game is played on: its squares and the dice the players move with.
+ * The squares are given in one of two ways:
+ * <ul>
+ *     <li>by the number of squares of every type ({@link #ofCounts(Map)}). The squares are laid out type by type
+ *     and shuffled for every game, with one START square kept at position 0, like the original board;</li>
+ *     <li>as an explicit sequence ({@link #ofSequence(SquareType...)}), which is played exactly as given.</li>
+ * </ul>
+ * Either way position 0 is a START square, where the players begin. A board has at most {@link #MAX_SQUARES}
+ * squares. Specs are immutable and shared by all games played on them.
+ */
+public class BoardSpec {
+
+    /**
+     * The largest number of squares of a board; a position fits in 16 bits.
+     */
+    public static final int MAX_SQUARES = 1 << 16;
+
+    /**
+     * The system property a board spec is read from by the simulation entry points, in the format of {@link #parse(String)}.
+     */
+    public static final String BOARD_PROPERTY = "game.board";
+
+    /**
+     * The system property the movement dice are read from, in the format of {@link MovementDice#parse(String)}.
+     */
+    public static final String DICE_PROPERTY = "game.dice";
+
+    /**
+     * The order a counted layout is laid out in before the shuffle, the order of the original board.
+     */
+    private static final SquareType[] COUNT_ORDER = {SquareType.START, SquareType.TRAP, SquareType.INVEST,
+            SquareType.PARTY_HARD, SquareType.CHANCE, SquareType.STEAL};
+
+    /**
+     * The board of the original game: 20 shuffled squares and a single 2-sided dice.
+     */
+    public static final BoardSpec STANDARD = ofCounts(Map.of(SquareType.START, 1, SquareType.TRAP, 7,
+            SquareType.INVEST, 3, SquareType.PARTY_HARD, 3, SquareType.CHANCE, 3, SquareType.STEAL, 3));
+
+    private final SquareType[] layout; // The squares before any shuffle
+    private final int[] counts; // By the ordinal of the square type
+    private final boolean shuffled;
+    private final MovementDice movement;
+
+    /**
+     * Constructs a new BoardSpec object.
+     *
+     * @param layout   The squares before any shuffle, starting with a START square.
+     * @param shuffled True to shuffle all squares but the first for every game.
+     * @param movement The dice the players move with.
+     */
+    private BoardSpec(SquareType[] layout, boolean shuffled, MovementDice movement) {
+        if (layout.length == 0 || layout.length > MAX_SQUARES) {
+            throw new IllegalArgumentException("A board has between 1 and " + MAX_SQUARES + " squares: " + layout.length);
+        }
+        if (layout[0] != SquareType.START) {
+            throw new IllegalArgumentException("The first square of a board must be a START square, not " + layout[0]);
+        }
+        this.layout = layout;
+        this.counts = new int[SquareType.values().length];
+        for (SquareType type : layout) {
+            counts[type.ordinal()]++;
+        }
+        this.shuffled = shuffled;
+        this.movement = movement;
+    }
+
+    /**
+     * Creates a shuffled board with the given number of squares of every type and the standard movement dice.
+     *
+     * @param counts The number of squares per type. A missing START count means a single START square.
+     * @return The spec of the board.
+     * @throws IllegalArgumentException If a count is negative, there is no START square or the board is too large.
+     */
+    public static BoardSpec ofCounts(Map<SquareType, Integer> counts) {
+        long size = 0;
+        Map<SquareType, Integer> checked = new EnumMap<>(SquareType.class);
+        for (SquareType type : COUNT_ORDER) {
+            int count = counts.getOrDefault(type, type == SquareType.START ? 1 : 0);
+            if (count < 0) {
+                throw new IllegalArgumentException("The number of " + type + " squares cannot be negative: " + count);
+            }
+            checked.put(type, count);
+            size += count;
+        }
+        if (checked.get(SquareType.START) == 0) {
+            throw new IllegalArgumentException("A board needs a START square.");
+        }
+        if (size > MAX_SQUARES) {
+            throw new IllegalArgumentException("A board has at most " + MAX_SQUARES + " squares: " + size);
+        }
+
+        SquareType[] layout = new SquareType[(int) size];
+        int position = 0;
+        for (SquareType type : COUNT_ORDER) {
+            Arrays.fill(layout, position, position + checked.get(type), type);
+            position += checked.get(type);
+        }
+        return new BoardSpec(layout, true, MovementDice.STANDARD);
+    }
+
+    /**
+     * Creates a board whose squares are always in the given order, with the standard movement dice.
+     *
+     * @param sequence The squares by position, starting with a START square.
+     * @return The spec of the board.
+     * @throws IllegalArgumentException If the sequence does not start with a START square or is too long.
+     */
+    public static BoardSpec ofSequence(SquareType... sequence) {
+        return new BoardSpec(sequence.clone(), false, MovementDice.STANDARD);
+    }
+
+    /**
+     * Parses a board spec. The text is either
+     * <ul>
+     *     <li>{@code standard} for {@link #STANDARD};</li>
+     *     <li>counts per square type, such as {@code TRAP=700,INVEST=300,CHANCE=300}, for {@link #ofCounts(Map)};</li>
+     *     <li>or a sequence of square types, such as {@code START,TRAP,CHANCE,INVEST}, for {@link #ofSequence(SquareType...)}.</li>
+     * </ul>
+     * Square types are case-insensitive and separated by commas or spaces.
+     *
+     * @param text The text of the spec.
+     * @return The spec of the board, with the standard movement dice.
+     * @throws IllegalArgumentException If the text is not a valid spec.
+     */
+    public static BoardSpec parse(String text) {
+        String trimmed = text.trim();
+        if (trimmed.equalsIgnoreCase("standard")) {
+            return STANDARD;
+        }
+        String[] parts = trimmed.split("[,\\s]+");
+        if (!trimmed.contains("=")) {
+            SquareType[] sequence = new SquareType[parts.length];
+            for (int i = 0; i < parts.length; i++) {
+                sequence[i] = parseType(parts[i]);
+            }
+            return new BoardSpec(sequence, false, MovementDice.STANDARD);
+        }
+
+        Map<SquareType, Integer> counts = new EnumMap<>(SquareType.class);
+        for (String part : parts) {
+            int separator = part.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("A square count must be written as <type>=<count>: " + part);
+            }
+            try {
+                counts.put(parseType(part.substring(0, separator)), Integer.parseInt(part.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid square count: " + part, e);
+            }
+        }
+        return ofCounts(counts);
+    }
+
+    /**
+     * Reads the board the simulation entry points play on from the {@value #BOARD_PROPERTY} and
+     * {@value #DICE_PROPERTY} system properties, for example {@code -Dgame.board=TRAP=7000,INVEST=3000 -Dgame.dice=2d6}.
+     *
+     * @return The configured spec, or {@link #STANDARD} if neither property is set.
+     * @throws IllegalArgumentException If a property is not valid.
+     */
+    public static BoardSpec fromSystemProperties() {
+        String board = System.getProperty(BOARD_PROPERTY);
+        String dice = System.getProperty(DICE_PROPERTY);
+        BoardSpec spec = board != null ? parse(board) : STANDARD;
+        return dice != null ? spec.withMovement(MovementDice.parse(dice)) : spec;
+    }
+
+    /**
+     * Creates a spec of the same squares played with other movement dice.
+     *
+     * @param movement The dice the players move with.
+     * @return The new spec.
+     */
+    public BoardSpec withMovement(MovementDice movement) {
+        return new BoardSpec(layout, shuffled, movement);
+    }
+
+    /**
+     * Gets the number of squares of the board.
+     *
+     * @return The number of squares.
+     */
+    public int getSize() {
+        return layout.length;
+    }
+
+    /**
+     * Gets the type of a square before the shuffle; for a sequence, the type of the square at the position.
+     *
+     * @param index The index of the square.
+     * @return The square type.
+     */
+    public SquareType getType(int index) {
+        return layout[index];
+    }
+
+    /**
+     * Gets the number of squares of a type.
+     *
+     * @param type The square type.
+     * @return The number of squares of the type.
+     */
+    public int getCount(SquareType type) {
+        return counts[type.ordinal()];
+    }
+
+    /**
+     * Checks if the squares are shuffled for every game.
+     *
+     * @return True for a counted layout, false for an explicit sequence.
+     */
+    public boolean isShuffled() {
+        return shuffled;
+    }
+
+    /**
+     * Gets the dice the players move with.
+     *
+     * @return The movement dice.
+     */
+    public MovementDice getMovement() {
+        return movement;
+    }
+
+    private static SquareType parseType(String name) {
+        try {
+            return SquareType.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown square type: " + name, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(layout.length).append(" squares (");
+        for (SquareType type : COUNT_ORDER) {
+            sb.append(type).append('=').append(getCount(type)).append(type == SquareType.STEAL ? "" : ", ");
+        }
+        return sb.append(shuffled ? "), shuffled, " : "), fixed order, ").append(movement).toString();
+    }
+}
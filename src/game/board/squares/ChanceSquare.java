@@ -1,7 +1,7 @@
 package game.board.squares;
 
 import game.Game;
-import game.dice.Dice;
+import game.events.BalanceChange;
 import game.players.Player;
 
 /**
@@ -36,21 +36,21 @@ public class ChanceSquare extends Square {
      */
     @Override
     public void performAction(Player player, Game game) {
-        System.out.println(player.getName() + " landed on a " + getType() + " square.");
+        game.getEvents().landed(player, getType());
 
         // Determine if the outcome will be good or bad.
-        int outcomeRoll = determineOutcomeRoll(player);
+        int outcomeRoll = determineOutcomeRoll(player, game);
 
         // Roll the 100-sided die to get the amount of money.
-        int chanceRoll = Dice.rollHundredSidedDice();
+        int chanceRoll = game.getDice().rollHundredSidedDice();
 
         // Apply the outcome based on the roll.
         if (outcomeRoll % 2 == 0) {
             // Even roll -> Positive outcome.
-            positiveOutcome(player, chanceRoll);
+            positiveOutcome(player, game, chanceRoll);
         } else {
             // Odd roll -> Negative outcome.
-            negativeOutcome(player, chanceRoll);
+            negativeOutcome(player, game, chanceRoll);
         }
     }
 
@@ -58,21 +58,22 @@ public class ChanceSquare extends Square {
      * Determines the outcome roll for the chance event, considering any special effects on the player.
      *
      * @param player The player for whom to determine the outcome roll.
+     * @param game   The Game instance the outcome is reported to.
      * @return An integer representing the outcome roll (even for good luck, odd for bad luck).
      */
-    private static int determineOutcomeRoll(Player player) {
+    private static int determineOutcomeRoll(Player player, Game game) {
         // Check if the player is under a "bad luck" effect from a trap.
         if (player.isUnderBadLuckEffect()) {
 
             // If so, remove the effect and force a negative outcome roll.
             player.setUnderBadLuckEffect(false);
-            System.out.println("The 'Gambling Boss' trap effect is active! You only receive bad luck.");
+            game.getEvents().message("The 'Gambling Boss' trap effect is active! You only receive bad luck.");
 
             return 1; // Return an odd number to force a negative outcome.
 
         } else {
             // If no effect is active, roll a 10-sided die to determine the outcome.
-            return Dice.rollTenSidedDice();
+            return game.getDice().rollTenSidedDice();
         }
     }
 
@@ -80,30 +81,32 @@ public class ChanceSquare extends Square {
      * Applies a positive monetary outcome to the player based on the chance roll.
      *
      * @param player     The player who gains money.
+     * @param game       The Game instance the outcome is reported to.
      * @param chanceRoll The result of the 100-sided die roll.
      */
-    private void positiveOutcome(Player player, int chanceRoll) {
+    private void positiveOutcome(Player player, Game game, int chanceRoll) {
         // Calculate the amount to be added.
         int amount = getAmountByChanceRoll(chanceRoll);
 
-        // Add the money and print the result.
+        // Add the money and report the result.
         player.addMoney(amount);
-        System.out.println(player.getName() + " received " + amount);
+        game.getEvents().balanceChanged(player, BalanceChange.CHANCE_GAIN, amount, player.getBalance());
     }
 
     /**
      * Applies a negative monetary outcome to the player based on the chance roll.
      *
      * @param player     The player who loses money.
+     * @param game       The Game instance the outcome is reported to.
      * @param chanceRoll The result of the 100-sided die roll.
      */
-    private static void negativeOutcome(Player player, int chanceRoll) {
+    private static void negativeOutcome(Player player, Game game, int chanceRoll) {
         // Negative outcome (odd roll)
         int amount = getAmountByChanceRoll(chanceRoll);
 
-        // Deduct the money and print the result.
+        // Deduct the money and report the result.
         player.deductMoney(amount);
-        System.out.println(player.getName() + " loses " + amount);
+        game.getEvents().balanceChanged(player, BalanceChange.CHANCE_LOSS, amount, player.getBalance());
     }
 
     /**
@@ -113,7 +116,7 @@ public class ChanceSquare extends Square {
      * @param chanceRoll The roll from the 100-sided die.
      * @return The corresponding monetary amount.
      */
-    private static int getAmountByChanceRoll(int chanceRoll) {
+    public static int getAmountByChanceRoll(int chanceRoll) {
         // Use if-else if structure to determine the amount based on roll tiers.
         if (1 <= chanceRoll && chanceRoll <= 39) {
             return TIERS_1_39_AMOUNT;
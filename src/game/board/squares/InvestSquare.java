@@ -2,12 +2,9 @@ package game.board.squares;
 
 import game.Game;
 import game.investments.Company;
-import game.investments.Investment;
 import game.investments.InvestmentManager;
 import game.players.Player;
 
-import java.util.List;
-
 /**
  * Represents the "Invest" square on the board.
  * When a player lands on this square, they get an opportunity to invest in a company.
@@ -21,6 +18,7 @@ public class InvestSquare extends Square {
     private static final String CHOICE_NO_INVESTMENT = "N";
 
     private final InvestmentManager investmentManager;
+    private final Company[] offer = new Company[2]; // Reused by every landing, as a game is played on one thread
 
     /**
      * Constructs an InvestSquare.
@@ -39,26 +37,27 @@ public class InvestSquare extends Square {
      */
     @Override
     public void performAction(Player player, Game game) {
-        System.out.println(player.getName() + " landed on " + getType() + " square.");
+        game.getEvents().landed(player, getType());
 
         // Ensure the player has enough money to even consider investing
         if (player.getBalance() <= 0) {
-            System.out.println(player.getName() + " does not have enough money to invest.");
+            game.getEvents().message(player, "does not have enough money to invest.");
             return;
         }
 
-        List<Company> optionalCompanies = investmentManager.getTwoRandomCompanies();
-        Company comp1 = optionalCompanies.get(0);
-        Company comp2 = optionalCompanies.get(1);
+        investmentManager.chooseTwoRandomCompanies(game.getRandom(), offer);
+        Company comp1 = offer[0];
+        Company comp2 = offer[1];
 
         boolean flag = false;
         while (!flag) {
-            displayInvestmentOptions(comp1, comp2);
+            game.getEvents().investmentOffered(player, comp1, comp2);
             String choice;
             if (player.isBot()) {
-                choice = getBotInvestmentDecision(game);
+                Company chosen = player.getStrategy().chooseInvestment(player, game, comp1, comp2);
+                choice = chosen == null ? CHOICE_NO_INVESTMENT : chosen == comp1 ? CHOICE_COMPANY_ONE : CHOICE_COMPANY_TWO;
             } else {
-                choice = game.getScanner().nextLine().trim().toUpperCase();
+                choice = game.readLine().trim().toUpperCase();
             }
 
             switch (choice) {
@@ -68,23 +67,7 @@ public class InvestSquare extends Square {
                 default -> throw new IllegalArgumentException("Invalid choice");
             }
         }
-        System.out.println("Край на инвистирането");
-    }
-
-    /**
-     * Displays the investment options to the player.
-     *
-     * @param comp1 The first company option.
-     * @param comp2 The second company option.
-     */
-    private static void displayInvestmentOptions(Company comp1, Company comp2) {
-        System.out.printf("""
-                        Инвестирайте разумно и изберете компания:
-                        (1): %s | min : %f | risk/reward : %f
-                        (2): %s | min : %f | risk/reward : %f
-                        (N): Не ми се инвестира!
-                        Your choice:%n""", comp1.getName(), comp1.getMinInvestment(), comp1.getReturnCoefficient(),
-                comp2.getName(), comp2.getMinInvestment(), comp2.getReturnCoefficient());
+        game.getEvents().message("Край на инвистирането");
     }
 
     /**
@@ -99,62 +82,61 @@ public class InvestSquare extends Square {
         boolean amountChosen = false;
         while (!amountChosen) {
             if (player.getBalance() <= company.getMinInvestment()) {
-                System.out.println(player.getName() + " does not have enough money to invest.");
+                game.getEvents().message(player, "does not have enough money to invest.");
                 return;
             }
-            System.out.printf("""
-                    \nYou chose to invest in "%s". Please enter the amount you wish to invest,
-                    or press 'N' to return to the previous menu:
-                    Current balance: %.2f
-                    Your amount: %n""", company.getName(), player.getBalance());
+            game.getEvents().amountRequested(player, company, player.getBalance());
 
-            String amountChoice;
             if (player.isBot()) {
-                amountChoice = String.valueOf(botInvestmentAmount(player, game, company));
-            } else {
-                amountChoice = game.getScanner().nextLine().trim().toUpperCase();
+                // The amount is checked as a number, without the text a human types
+                double amount = player.getStrategy().chooseInvestmentAmount(player, game, company);
+                amountChosen = amount > 0 ? invest(player, game, company, amount) : returnToMenu(game);
+                continue;
             }
+            String amountChoice = game.readLine().trim().toUpperCase();
 
             if (amountChoice.equals(CHOICE_NO_INVESTMENT)) {
-                System.out.println("Returning to main investment menu.");
-                amountChosen = true; // Exit this inner loop, but `performAction` loop continues if needed.
+                amountChosen = returnToMenu(game); // Exit this inner loop, but `performAction` loop continues if needed.
             } else {
                 try {
-                    double amountToInvest = Double.parseDouble(amountChoice);
-
-                    // Basic validation: check if amount is positive and player has enough money
-                    if (amountToInvest <= 0) {
-                        System.out.println("Investment amount must be positive. Please try again.");
-                    } else if (player.getBalance() < amountToInvest) {
-                        System.out.println("You do not have enough money for this investment. Your balance: " + player.getBalance());
-                    } else if (amountToInvest < company.getMinInvestment()) {
-                        System.out.printf("The minimum investment for %s is %.0f. Please enter a higher amount.%n", company.getName(), company.getMinInvestment());
-                    } else {
-                        // All checks passed, create and add the investment
-                        // TODO: Consolidate existing investments when adding to the same company.
-                        player.deductMoney(amountToInvest); // Deduct before adding investment
-                        player.addInvestment(new Investment(company, amountToInvest));
-                        System.out.printf("Successfully invested %f in %s!%n", amountToInvest, company.getName());
-                        amountChosen = true; // Investment successful, exit loop.
-                    }
+                    amountChosen = invest(player, game, company, Double.parseDouble(amountChoice));
                 } catch (NumberFormatException e) {
-                    System.out.println("Invalid input. Please enter a valid number or 'N'.");
+                    game.getEvents().message("Invalid input. Please enter a valid number or 'N'.");
                     // Loop continues for another attempt.
                 }
             }
         }
     }
 
-    private String getBotInvestmentDecision(Game game) {
-        return switch (game.getRandom().nextInt(3)) {
-            case 0 -> "1";
-            case 1 -> "2";
-            case 2 -> "N";
-            default -> throw new IllegalArgumentException("Invalid choice");
-        };
+    /**
+     * Invests the amount in the company if it is valid, or explains why it is not.
+     *
+     * @param player         The player making the investment.
+     * @param game           The Game instance for the events.
+     * @param company        The chosen company.
+     * @param amountToInvest The amount the player chose.
+     * @return True if the amount was invested, false if the player has to choose again.
+     */
+    private boolean invest(Player player, Game game, Company company, double amountToInvest) {
+        // Basic validation: check if amount is positive and player has enough money
+        if (amountToInvest <= 0) {
+            game.getEvents().message("Investment amount must be positive. Please try again.");
+        } else if (player.getBalance() < amountToInvest) {
+            game.getEvents().message("You do not have enough money for this investment. Your balance: " + player.getBalance());
+        } else if (amountToInvest < company.getMinInvestment()) {
+            game.getEvents().message(String.format("The minimum investment for %s is %.0f. Please enter a higher amount.", company.getName(), company.getMinInvestment()));
+        } else {
+            // All checks passed, add the amount to the company's total
+            player.deductMoney(amountToInvest); // Deduct before adding investment
+            player.getPortfolio().add(InvestmentManager.indexOf(company), amountToInvest);
+            game.getEvents().invested(player, company, amountToInvest);
+            return true;
+        }
+        return false;
     }
 
-    private int botInvestmentAmount(Player player, Game game, Company company) {
-        return (int) game.getRandom().nextDouble(company.getMinInvestment(), player.getBalance());
+    private boolean returnToMenu(Game game) {
+        game.getEvents().message("Returning to main investment menu.");
+        return true;
     }
 }
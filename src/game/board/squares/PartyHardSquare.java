@@ -1,6 +1,7 @@
 package game.board.squares;
 
 import game.Game;
+import game.events.BalanceChange;
 import game.players.Player;
 
 /**
@@ -9,7 +10,7 @@ import game.players.Player;
  */
 public class PartyHardSquare extends Square {
 
-    private static final double PARTY_COST = 25.0;
+    public static final double PARTY_COST = 25.0;
 
     /**
      * Constructs a PartyHardSquare. It is always named "Party Hard" and has the PARTY_HARD type.
@@ -26,12 +27,12 @@ public class PartyHardSquare extends Square {
      */
     @Override
     public void performAction(Player player, Game game) {
-        System.out.println(player.getName() + " has passed through the " + getType() + " square.");
+        game.getEvents().landed(player, getType());
 
-        if (player.isInNeutralState()) return;
+        if (player.isInNeutralState(game.getEvents())) return;
 
         player.deductMoney(PARTY_COST);
 
-        System.out.println(player.getName() + " paid " + PARTY_COST + " for the party. New balance: " + player.getBalance());
+        game.getEvents().balanceChanged(player, BalanceChange.PARTY_COST, PARTY_COST, player.getBalance());
     }
 }
\ No newline at end of file
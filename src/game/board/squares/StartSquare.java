@@ -1,10 +1,11 @@
 package game.board.squares;
 
 import game.Game;
+import game.events.BalanceChange;
 import game.players.Player;
 
 public class StartSquare extends Square {
-    private static final double BONUS_AMOUNT = 200.0;
+    public static final double BONUS_AMOUNT = 200.0;
 
     /**
      * Constructs the StartSquare.
@@ -23,11 +24,10 @@ public class StartSquare extends Square {
      */
     @Override
     public void performAction(Player player, Game game) {
-        System.out.println(player.getName() + " landed on " + getType());
-        if (player.isInNeutralState()) return;
+        game.getEvents().landed(player, getType());
+        if (player.isInNeutralState(game.getEvents())) return;
 
         player.addMoney(BONUS_AMOUNT);
-        System.out.println(player.getName() + " received " + BONUS_AMOUNT + " money. " +
-                "New balance: " + player.getBalance());
+        game.getEvents().balanceChanged(player, BalanceChange.START_BONUS, BONUS_AMOUNT, player.getBalance());
     }
 }
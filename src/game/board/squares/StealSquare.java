@@ -33,21 +33,21 @@ public class StealSquare extends Square {
      */
     @Override
     public void performAction(Player player, Game game) {
-        System.out.println(player.getName() + " landed on a " + getType() + " square.");
+        game.getEvents().landed(player, getType());
 
         // First, check if the player is under a penalty that prevents them from using this square.
         if (player.isCanNotUseSteelSquare()) {
-            System.out.println("You cannot use this option this turn due to an active penalty.");
+            game.getEvents().message("You cannot use this option this turn due to an active penalty.");
             // The penalty is a one-time effect, so it's removed after checking.
             player.setCanNotUseSteelSquare(false);
             return;
         }
 
-        if (player.isInNeutralState()) return;
+        if (player.isInNeutralState(game.getEvents())) return;
 
         // Check if the player already has an active steal plan.
         if (player.getStealPlan() != null) {
-            System.out.println("You already have an active steal plan.");
+            game.getEvents().message("You already have an active steal plan.");
         } else {
             // If the player has no plan, ask if they want to set one.
             askToSetStealPlan(player, game);
@@ -62,7 +62,7 @@ public class StealSquare extends Square {
      * @param game   The Game instance for user input.
      */
     private void askToSetStealPlan(Player player, Game game) {
-        System.out.println("""
+        game.getEvents().message("""
                 \nDo you want to set a steal plan?
                 (Y) Yes
                 (N) No
@@ -70,15 +70,15 @@ public class StealSquare extends Square {
         );
         String choice;
         if (player.isBot()) {
-            choice = botWantToSteal(game);
+            choice = player.getStrategy().wantsStealPlan(player, game) ? YES_CHOICE : NO_CHOICE;
         } else {
-            choice = game.getScanner().nextLine().trim().toUpperCase();
+            choice = game.readLine().trim().toUpperCase();
         }
 
         switch (choice) {
             case YES_CHOICE -> askForTargetSquare(player, game);
-            case NO_CHOICE -> System.out.println("You decided not to set a steal plan.");
-            default -> System.out.println("Invalid choice.");
+            case NO_CHOICE -> game.getEvents().message("You decided not to set a steal plan.");
+            default -> game.getEvents().message("Invalid choice.");
         }
     }
 
@@ -89,7 +89,7 @@ public class StealSquare extends Square {
      * @param game   The Game instance for user input.
      */
     private void askForTargetSquare(Player player, Game game) {
-        System.out.println("""
+        game.getEvents().message("""
                 \nWhich square type should trigger your steal of 100 money?
                 (C) Chance
                 (T) Trap
@@ -98,9 +98,14 @@ public class StealSquare extends Square {
         );
         String choice;
         if (player.isBot()) {
-            choice = squareTypeToSteal(game);
+            choice = switch (player.getStrategy().chooseStealTarget(player, game)) {
+                case CHANCE -> CHANCE_SQUARE_CHOICE;
+                case TRAP -> TRAP_SQUARE_CHOICE;
+                case STEAL -> STEAL_SQUARE_CHOICE;
+                default -> throw new IllegalStateException("A steal plan cannot target this square type.");
+            };
         } else {
-            choice = game.getScanner().nextLine().trim().toUpperCase();
+            choice = game.readLine().trim().toUpperCase();
         }
 
         SquareType targetSquareType = null;
@@ -108,32 +113,15 @@ public class StealSquare extends Square {
             case CHANCE_SQUARE_CHOICE -> targetSquareType = SquareType.CHANCE;
             case TRAP_SQUARE_CHOICE -> targetSquareType = SquareType.TRAP;
             case STEAL_SQUARE_CHOICE -> targetSquareType = SquareType.STEAL;
-            default -> System.out.println("Invalid choice.");
+            default -> game.getEvents().message("Invalid choice.");
         }
 
         // If a valid square type was chosen, set the steal plan for the player.
         if (targetSquareType != null) {
             player.setStealPlan(targetSquareType);
-            System.out.println("Your steal plan is now active for " + targetSquareType + " squares.");
+            game.getEvents().stealPlanSet(player, targetSquareType);
         }
 
         player.setStealPlan(targetSquareType);
     }
-
-    private String botWantToSteal(Game game) {
-        return switch (game.getRandom().nextInt(2)) {
-            case 0 -> "Y";
-            case 1 -> "N";
-            default -> throw new IllegalArgumentException("Invalid choice");
-        };
-    }
-
-    private String squareTypeToSteal(Game game) {
-        return switch (game.getRandom().nextInt(3)) {
-            case 0 -> "C";
-            case 1 -> "T";
-            case 2 -> "S";
-            default -> throw new IllegalArgumentException("Invalid choice");
-        };
-    }
 }
\ No newline at end of file
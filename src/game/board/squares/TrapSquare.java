@@ -1,10 +1,11 @@
 package game.board.squares;
 
 import game.Game;
-import game.dice.Dice;
+import game.events.BalanceChange;
+import game.metrics.GameMetrics;
+import game.metrics.TrapActivationEvent;
 import game.players.Player;
 import game.traps.Trap;
-import game.traps.TrapInitializer;
 
 /**
  * Represents the "Trap" square on the board, where a player can choose to set a trap
@@ -21,8 +22,26 @@ public class TrapSquare extends Square {
     private static final String SEEING_THE_LIGHT = "4";
     private static final String GAMBLING_BOSS = "5";
     private static final String NO_THANKS = "N";
+    // The menu choice of every trap, in the order of the trap catalog
+    private static final String[] TRAP_CHOICES = {TAX_AUDIT, CAT_DIVORCE, PROPAGANDA, SEEING_THE_LIGHT, GAMBLING_BOSS};
+    private static final Trap[] TRAPS = Trap.values();
 
-    private Trap activeTrap; // The Trap object that is currently set on this square.
+    /**
+     * The money a player with a steal plan for TRAP squares gains on every landing.
+     */
+    public static final double STEAL_PLAN_REWARD = 100;
+
+    /**
+     * The share of the balance the "Tax Audit" trap takes.
+     */
+    public static final double TAX_AUDIT_RATE = 0.1;
+
+    /**
+     * The number of turns the "Cat Divorce" trap keeps a player in the neutral state.
+     */
+    public static final int CAT_DIVORCE_NEUTRAL_TURNS = 3;
+
+    private Trap activeTrap; // The trap from the shared catalog that is currently set on this square.
     private Player owner; // The player who set the trap on this square.
 
     /**
@@ -34,6 +53,32 @@ public class TrapSquare extends Square {
         owner = null;
     }
 
+    /**
+     * Gets the trap that is set on this square.
+     *
+     * @return The active trap, or null if no trap is set.
+     */
+    public Trap getActiveTrap() {
+        return activeTrap;
+    }
+
+    /**
+     * Gets the player who set the trap on this square.
+     *
+     * @return The owner of the trap, or null if no trap is set.
+     */
+    public Player getOwner() {
+        return owner;
+    }
+
+    /**
+     * Removes the trap and its owner from this square, as at the start of a game.
+     */
+    public void clearTrap() {
+        activeTrap = null;
+        owner = null;
+    }
+
     /**
      * Defines the action to be performed when a player lands on this square.
      * The player can choose to set a trap from the available list for an investment cost.
@@ -45,16 +90,16 @@ public class TrapSquare extends Square {
     public void performAction(Player player, Game game) {
 
         if (player.getStealPlan() == SquareType.TRAP) {
-            System.out.println("Success! " + player.getName() + " gained 100 money because of your steal plan!");
-            player.addMoney(100);
+            player.addMoney(STEAL_PLAN_REWARD);
+            game.getEvents().balanceChanged(player, BalanceChange.STEAL_PLAN_REWARD, STEAL_PLAN_REWARD, player.getBalance());
         }
 
-        System.out.println(player.getName() + " landed on a " + getType() + " square.");
+        game.getEvents().landed(player, getType());
 
         if (owner == null) {
             // Check if the player has enough money to even consider setting a trap.
             if (player.getBalance() <= 0) {
-                System.out.println(player.getName() + " does not have enough money to set a trap.");
+                game.getEvents().message(player, "does not have enough money to set a trap.");
                 return;
             }
 
@@ -74,86 +119,60 @@ public class TrapSquare extends Square {
     private void handleSettingTrap(Player player, Game game) {
         // Check for a penalty effect from another trap.
         if (player.isCanNotPlaceTrap()) {
-            System.out.println("You cannot set a trap due to an effect from another trap.");
+            game.getEvents().message("You cannot set a trap due to an effect from another trap.");
             // The penalty is consumed after one use.
             player.setCanNotPlaceTrap(false);
         }
 
-        printMenu(player);
+        game.getEvents().trapOffered(player);
 
         // Read the player's choice from console or a bot's logic.
-        String choice;
+        Trap chosenTrap;
         if (player.isBot()) {
-            // Bot logic: choose a random option from 1 to 5.
-            choice = String.valueOf(game.getRandom().nextInt(5) + 1);
-            System.out.println(choice);
+            // The bot's strategy picks a trap from the shared catalog; its menu number is only echoed.
+            chosenTrap = player.getStrategy().chooseTrap(player, game);
+            game.getEvents().message(chosenTrap == null ? NO_THANKS : TRAP_CHOICES[chosenTrap.ordinal()]);
         } else {
             // Human player input.
-            choice = game.getScanner().nextLine().trim().toUpperCase();
-        }
-
-        // Use a switch statement to create the chosen trap object.
-        Trap chosenTrap = null;
-        switch (choice) {
-            case TAX_AUDIT:
-                if (player.getBalance() >= 10)
-                    chosenTrap = TrapInitializer.initializeTraps(player).get(0);
-                break;
-            case CAT_DIVORCE:
-                if (player.getBalance() >= 20)
-                    chosenTrap = TrapInitializer.initializeTraps(player).get(1);
-                break;
-            case PROPAGANDA:
-                if (player.getBalance() >= 100)
-                    chosenTrap = TrapInitializer.initializeTraps(player).get(2);
-                break;
-            case SEEING_THE_LIGHT:
-                if (player.getBalance() >= 50)
-                    chosenTrap = TrapInitializer.initializeTraps(player).get(3);
-                break;
-            case GAMBLING_BOSS:
-                if (player.getBalance() >= 100)
-                    chosenTrap = TrapInitializer.initializeTraps(player).get(4);
-                break;
-            case NO_THANKS:
-                System.out.println("You decided not to set a trap.");
-                return;
-            default:
-                System.out.println("Invalid choice.");
+            String choice = game.readLine().trim().toUpperCase();
+            chosenTrap = parseTrapChoice(choice);
+            if (chosenTrap == null && !choice.equals(NO_THANKS)) {
+                game.getEvents().message("Invalid choice.");
                 return;
+            }
+        }
+        if (chosenTrap == null) {
+            game.getEvents().message("You decided not to set a trap.");
+            return;
         }
 
-        // If a trap was chosen and created successfully
-        if (chosenTrap != null) {
-            // If the player has enough money for the chosen trap's cost.
-            if (player.getBalance() >= chosenTrap.getInvestmentCost()) {
+        // If the player has enough money for the chosen trap's cost.
+        if (player.getBalance() >= chosenTrap.getInvestmentCost()) {
 
-                player.deductMoney(chosenTrap.getInvestmentCost()); // Deduct the cost from the player's balance.
-                activeTrap = chosenTrap; // Assign the chosen trap to the square's active trap.
-                owner = player; // Assign the player as the owner of this square's trap.
-                System.out.println(owner.getName() + " successfully set a trap of type: " + chosenTrap.getType());
+            player.deductMoney(chosenTrap.getInvestmentCost()); // Deduct the cost from the player's balance.
+            activeTrap = chosenTrap; // Assign the chosen trap to the square's active trap.
+            owner = player; // Assign the player as the owner of this square's trap.
+            game.getEvents().trapSet(owner, chosenTrap);
 
-            } else {
-                // If the player does not have enough money for the chosen trap.
-                System.out.println(player.getName() + " does not have enough money for this trap.");
-            }
+        } else {
+            // If the player does not have enough money for the chosen trap.
+            game.getEvents().message(player, "does not have enough money for this trap.");
         }
     }
 
     /**
-     * Displays the menu of available traps.
+     * Finds the trap of a menu number typed by a human player.
      *
-     * @param player The player attempting to set a trap.
+     * @param choice The trimmed, upper-case input line.
+     * @return The trap from the shared catalog, or null if the input is not a trap number.
      */
-    private static void printMenu(Player player) {
-        System.out.println("\nDo you want to set a trap, " + player.getName() + "?");
-        System.out.println("*(1) Tax Audit (10 money, 10% of profit)");
-        System.out.println("*(2) Cat Divorce (20 money, dice roll 2 or 8)");
-        System.out.println("*(3) Propaganda (100 money, cannot set)");
-        System.out.println("*(4) Seeing the Light (50 money, Steal right)");
-        System.out.println("*(5) Gambling Boss (100 money, Chance square)");
-        System.out.println("*(N) No, thanks, I don't believe in evil");
-        System.out.print("Your choice: ");
+    private static Trap parseTrapChoice(String choice) {
+        for (int i = 0; i < TRAP_CHOICES.length; i++) {
+            if (TRAP_CHOICES[i].equals(choice)) {
+                return TRAPS[i];
+            }
+        }
+        return null;
     }
 
     /**
@@ -165,45 +184,49 @@ public class TrapSquare extends Square {
     private void handleTrapActivation(Player player, Game game) {
         // Check if the player landed on their own trap.
         if (player == owner) {
-            System.out.println("You landed on your own trap. No effect applied.");
+            game.getEvents().message("You landed on your own trap. No effect applied.");
             return;
         }
 
         // Check if the player  money-related effects.
-        if (player.isInNeutralState()) return;
+        if (player.isInNeutralState(game.getEvents())) return;
 
         // Apply the trap's effect based on its type.
-        System.out.println("You landed on an enemy trap.");
-        System.out.println(activeTrap.getDescription()); // Prints what the trap does
-        switch (activeTrap.getType()) {
-            case "Tax Audit" -> player.deductMoney(player.getBalance() * 0.1); // -10% of the player's balance
-            case "Cat Divorce" -> {
-                System.out.println("Press ENTER to roll a 10-sided die");
+        game.getEvents().trapTriggered(player, activeTrap); // Reports what the trap does
+        GameMetrics.trapActivated();
+        TrapActivationEvent.emit(player.getName(), activeTrap.getType());
+        switch (activeTrap) {
+            case TAX_AUDIT -> {
+                double tax = player.getBalance() * TAX_AUDIT_RATE; // -10% of the player's balance
+                player.deductMoney(tax);
+                game.getEvents().balanceChanged(player, BalanceChange.TAX_AUDIT, tax, player.getBalance());
+            }
+            case CAT_DIVORCE -> {
+                game.getEvents().message("Press ENTER to roll a 10-sided die");
                 if (!player.isBot()) {
-                    game.getScanner().nextLine();
+                    game.readLine();
                 }
 
-                int getRandomNumber = Dice.rollTenSidedDice();
+                int getRandomNumber = game.getDice().rollTenSidedDice();
                 if (getRandomNumber == 2 || getRandomNumber == 8) {
-                    player.setTurnsInNeutralState(3);
-                    System.out.println("You will not gain or lose money for 3 turns");
+                    player.setTurnsInNeutralState(CAT_DIVORCE_NEUTRAL_TURNS);
+                    game.getEvents().message("You will not gain or lose money for " + CAT_DIVORCE_NEUTRAL_TURNS + " turns");
                 } else {
-                    System.out.println("You got lucky! Nothing will happen.");
+                    game.getEvents().message("You got lucky! Nothing will happen.");
                 }
             }
-            case "Propaganda" -> {
-                System.out.println("The next time you are on a TRAP square, you will not be able to set a trap");
+            case PROPAGANDA -> {
+                game.getEvents().message("The next time you are on a TRAP square, you will not be able to set a trap");
                 player.setCanNotPlaceTrap(true);
             }
-            case "Seeing the Light" -> {
-                System.out.println("You lose the right to execute an evil plan 1 time (Steal)");
+            case SEEING_THE_LIGHT -> {
+                game.getEvents().message("You lose the right to execute an evil plan 1 time (Steal)");
                 player.setCanNotUseSteelSquare(true);
             }
-            case "Gambling Boss" -> {
-                System.out.println("The next time you land on a CHANCE square, you will have bad luck");
+            case GAMBLING_BOSS -> {
+                game.getEvents().message("The next time you land on a CHANCE square, you will have bad luck");
                 player.setUnderBadLuckEffect(true);
             }
-            default -> throw new IllegalStateException("Unexpected value: " + activeTrap.getType());
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package game.bots;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The registry of bot strategies that can be chosen by name, for example by the tournament runner.
+ * The built-in strategies are registered when the class is loaded.
+ */
+public final class BotStrategies {
+
+    private static final Map<String, BotStrategy> STRATEGIES = new LinkedHashMap<>();
+
+    static {
+        register(new RandomBotStrategy());
+        register(new PassiveBotStrategy());
+        register(new MctsBotStrategy());
+        register(new ExpectimaxBotStrategy());
+        registerTrainedTable(Path.of(QLearningTrainer.DEFAULT_TABLE_FILE));
+    }
+
+    private BotStrategies() {
+    }
+
+    /**
+     * Registers a strategy under its name, replacing any strategy registered under the same name.
+     *
+     * @param strategy The strategy to register.
+     */
+    public static synchronized void register(BotStrategy strategy) {
+        STRATEGIES.put(strategy.getName(), strategy);
+    }
+
+    /**
+     * Registers the greedy Q-learning bot of a trained table if the table file exists.
+     * A file that cannot be loaded is reported and skipped, so the other strategies stay available.
+     *
+     * @param file The table file written by the trainer.
+     */
+    public static void registerTrainedTable(Path file) {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            register(new QLearningBotStrategy(QTable.load(file)));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not load the Q-learning table " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets a registered strategy by its name.
+     *
+     * @param name The name of the strategy.
+     * @return The strategy.
+     * @throws IllegalArgumentException If no strategy is registered under the name.
+     */
+    public static synchronized BotStrategy get(String name) {
+        BotStrategy strategy = STRATEGIES.get(name);
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown strategy: " + name + ". Known strategies: " + STRATEGIES.keySet());
+        }
+        return strategy;
+    }
+
+    /**
+     * Gets all registered strategies in registration order.
+     *
+     * @return A copy of the list of strategies.
+     */
+    public static synchronized List<BotStrategy> getAll() {
+        return new ArrayList<>(STRATEGIES.values());
+    }
+}
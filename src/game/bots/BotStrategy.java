@@ -0,0 +1,76 @@
+package game.bots;
+
+import game.Game;
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.players.Player;
+import game.traps.Trap;
+
+/**
+ * Makes every decision of a bot player. The squares consult the strategy of a bot wherever a human
+ * player would be asked for input.
+ * <p>
+ * One strategy object may be shared by many games played at the same time on different threads,
+ * so implementations must either be stateless or keep their state thread-safe. Randomness should be
+ * drawn from {@link Game#getRandom()} to keep games reproducible.
+ */
+public interface BotStrategy {
+
+    /**
+     * Gets the name the strategy is registered and reported under.
+     *
+     * @return The name of the strategy.
+     */
+    String getName();
+
+    /**
+     * Chooses the trap to set on an empty Trap square.
+     *
+     * @param player The bot that landed on the square.
+     * @param game   The game being played.
+     * @return The trap to set, or null to set no trap.
+     */
+    Trap chooseTrap(Player player, Game game);
+
+    /**
+     * Decides whether to set a steal plan on a Steal square.
+     *
+     * @param player The bot that landed on the square.
+     * @param game   The game being played.
+     * @return True to set a steal plan, false otherwise.
+     */
+    boolean wantsStealPlan(Player player, Game game);
+
+    /**
+     * Chooses the square type that triggers a new steal plan.
+     *
+     * @param player The bot that is setting the plan.
+     * @param game   The game being played.
+     * @return SquareType.CHANCE, SquareType.TRAP or SquareType.STEAL.
+     */
+    SquareType chooseStealTarget(Player player, Game game);
+
+    /**
+     * Chooses one of the two companies offered on an Invest square. The bot is asked again after
+     * every investment until it returns null.
+     *
+     * @param player The bot that landed on the square.
+     * @param game   The game being played.
+     * @param first  The first company offered.
+     * @param second The second company offered.
+     * @return The company to invest in, or null to stop investing.
+     */
+    Company chooseInvestment(Player player, Game game, Company first, Company second);
+
+    /**
+     * Chooses how much to invest in a company. The player's balance is always above the company's
+     * minimum investment when this is called.
+     *
+     * @param player  The bot that is investing.
+     * @param game    The game being played.
+     * @param company The chosen company.
+     * @return An amount between the company's minimum investment and the player's balance,
+     * or 0 to return to the company choice.
+     */
+    double chooseInvestmentAmount(Player player, Game game, Company company);
+}
@@ -0,0 +1,306 @@
+package game.bots;
+
+import game.Game;
+import game.Simulator;
+import game.board.BoardSpec;
+import game.events.NoOpSink;
+import game.investments.MarketModel;
+import game.simulation.ChunkWindow;
+import game.simulation.GameResult;
+import game.simulation.RandomStreams;
+import game.simulation.ReseedableRandom;
+import game.simulation.SimulationRunner;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Tunes the genome of a {@link ParameterizedBotStrategy} with a genetic algorithm on all cores.
+ * <p>
+ * The fitness of a genome is its score against a fixed opponent, one point per win and half a point per draw,
+ * divided by the number of games. All genomes of a generation play the same games, so their scores differ
+ * only by their decisions. Every generation keeps the best genomes unchanged and fills the rest of the population
+ * with children of parents chosen by tournament selection, made by uniform crossover and Gaussian mutation.
+ * <p>
+ * The worker threads are created once and reused by every generation. Every worker owns one headless game that is
+ * reset for each of its games instead of being rebuilt, and the two population buffers are swapped between
+ * generations. Evaluation is deterministic, so a run can be replayed from its master seed on any number of threads.
+ * A tuner must be closed to stop its worker threads.
+ */
+public class EvolutionaryTuner implements AutoCloseable {
+
+    private static final int TOURNAMENT_SIZE = 3;
+    private static final double MUTATION_RATE = 0.2;
+    private static final double MUTATION_STRENGTH = 0.1;
+
+    private final BotStrategy opponent;
+    private final int gamesPerGenome;
+    private final int maxTurns;
+    private final long masterSeed;
+    private final int eliteCount;
+    private final int threads;
+    private final SplittableRandom random; // Drives selection, crossover and mutation only
+    private final ExecutorService executor;
+    private final ThreadLocal<Game> games;
+
+    private double[][] population;
+    private double[][] nextPopulation;
+    private final double[] fitness;
+    private final Integer[] ranking; // Genome indexes, best first
+    private int generation;
+
+    /**
+     * Constructs a new EvolutionaryTuner object with a random initial population that plays on the standard board.
+     *
+     * @param opponent       The strategy every genome plays against. It is shared by all worker threads.
+     * @param populationSize The number of genomes per generation, at least 2.
+     * @param gamesPerGenome The number of games every genome plays per generation.
+     * @param maxTurns       The maximum number of player turns per game.
+     * @param masterSeed     The seed all games and all random choices of the algorithm are derived from.
+     * @param threads        The number of worker threads.
+     */
+    public EvolutionaryTuner(BotStrategy opponent, int populationSize, int gamesPerGenome, int maxTurns,
+                             long masterSeed, int threads) {
+        this(opponent, populationSize, gamesPerGenome, maxTurns, masterSeed, threads, BoardSpec.STANDARD);
+    }
+
+    /**
+     * Constructs a new EvolutionaryTuner object with a random initial population.
+     *
+     * @param opponent       The strategy every genome plays against. It is shared by all worker threads.
+     * @param populationSize The number of genomes per generation, at least 2.
+     * @param gamesPerGenome The number of games every genome plays per generation.
+     * @param maxTurns       The maximum number of player turns per game.
+     * @param masterSeed     The seed all games and all random choices of the algorithm are derived from.
+     * @param threads        The number of worker threads.
+     * @param board          The board and the movement dice of every game.
+     */
+    public EvolutionaryTuner(BotStrategy opponent, int populationSize, int gamesPerGenome, int maxTurns,
+                             long masterSeed, int threads, BoardSpec board) {
+        if (populationSize < 2) {
+            throw new IllegalArgumentException("The population needs at least two genomes.");
+        }
+        if (gamesPerGenome <= 0 || maxTurns <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("The number of games, the turn limit and the number of threads must be positive.");
+        }
+        this.opponent = opponent;
+        this.gamesPerGenome = gamesPerGenome;
+        this.maxTurns = maxTurns;
+        this.masterSeed = masterSeed;
+        this.eliteCount = Math.max(1, populationSize / 10);
+        this.random = new SplittableRandom(masterSeed);
+        this.threads = threads;
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.games = ThreadLocal.withInitial(() -> Game.createHeadless(new ReseedableRandom(0), MarketModel.INDEPENDENT,
+                NoOpSink.INSTANCE, board));
+
+        population = new double[populationSize][ParameterizedBotStrategy.GENOME_LENGTH];
+        nextPopulation = new double[populationSize][ParameterizedBotStrategy.GENOME_LENGTH];
+        for (double[] genome : population) {
+            for (int gene = 0; gene < genome.length; gene++) {
+                genome[gene] = random.nextDouble();
+            }
+        }
+        fitness = new double[populationSize];
+        ranking = new Integer[populationSize];
+    }
+
+    /**
+     * Evaluates the current population and replaces it with the next generation.
+     * The best genome and its fitness refer to the evaluated population.
+     */
+    public void nextGeneration() {
+        evaluate();
+        for (int i = 0; i < ranking.length; i++) {
+            ranking[i] = i;
+        }
+        Arrays.sort(ranking, (a, b) -> Double.compare(fitness[b], fitness[a]));
+
+        for (int i = 0; i < nextPopulation.length; i++) {
+            double[] child = nextPopulation[i];
+            if (i < eliteCount) {
+                System.arraycopy(population[ranking[i]], 0, child, 0, child.length);
+                continue;
+            }
+            double[] mother = population[select()];
+            double[] father = population[select()];
+            for (int gene = 0; gene < child.length; gene++) {
+                double value = random.nextBoolean() ? mother[gene] : father[gene];
+                if (random.nextDouble() < MUTATION_RATE) {
+                    value = Math.min(1, Math.max(0, value + random.nextGaussian() * MUTATION_STRENGTH));
+                }
+                child[gene] = value;
+            }
+        }
+
+        // The evaluated generation is kept readable until the next call
+        double[][] evaluated = population;
+        population = nextPopulation;
+        nextPopulation = evaluated;
+        generation++;
+    }
+
+    /**
+     * Gets the number of generations evaluated so far.
+     *
+     * @return The number of generations.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Gets the best genome of the last evaluated generation.
+     *
+     * @return A copy of the best genome.
+     */
+    public double[] getBestGenome() {
+        requireEvaluated();
+        return nextPopulation[ranking[0]].clone();
+    }
+
+    /**
+     * Gets the fitness of the best genome of the last evaluated generation.
+     *
+     * @return The score per game of the best genome, between 0 and 1.
+     */
+    public double getBestFitness() {
+        requireEvaluated();
+        return fitness[ranking[0]];
+    }
+
+    /**
+     * Gets the average fitness of the last evaluated generation.
+     *
+     * @return The average score per game, between 0 and 1.
+     */
+    public double getAverageFitness() {
+        requireEvaluated();
+        double sum = 0;
+        for (double value : fitness) {
+            sum += value;
+        }
+        return sum / fitness.length;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void requireEvaluated() {
+        if (generation == 0) {
+            throw new IllegalStateException("No generation has been evaluated yet.");
+        }
+    }
+
+    /**
+     * Chooses a parent by tournament selection among the evaluated population.
+     *
+     * @return The index of the fittest of TOURNAMENT_SIZE random genomes.
+     */
+    private int select() {
+        int best = random.nextInt(population.length);
+        for (int i = 1; i < TOURNAMENT_SIZE; i++) {
+            int candidate = random.nextInt(population.length);
+            if (fitness[candidate] > fitness[best]) {
+                best = candidate;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plays the games of every genome of the current population on the worker threads.
+     */
+    private void evaluate() {
+        long firstGame = (long) generation * gamesPerGenome; // Every generation plays new games
+        long[] halfPoints = new long[population.length];
+        ChunkWindow<Long> window = new ChunkWindow<>(executor, threads);
+        try {
+            for (int i = 0; i < population.length; i++) {
+                int genome = i;
+                BotStrategy bot = new ParameterizedBotStrategy("Genome " + i, population[i]);
+                for (long first = 0; first < gamesPerGenome; first += SimulationRunner.CHUNK_SIZE) {
+                    long chunkFirst = firstGame + first;
+                    long chunkGames = Math.min(SimulationRunner.CHUNK_SIZE, gamesPerGenome - first);
+                    window.submit(() -> playChunk(bot, chunkFirst, chunkGames), points -> halfPoints[genome] += points);
+                }
+            }
+            window.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The evaluation was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("An evaluation game failed.", e.getCause());
+        }
+        for (int i = 0; i < fitness.length; i++) {
+            fitness[i] = halfPoints[i] / (2.0 * gamesPerGenome);
+        }
+    }
+
+    /**
+     * Plays a chunk of games of one genome on the game of the calling worker thread.
+     *
+     * @return The score of the genome in half points: two per win and one per draw.
+     */
+    private long playChunk(BotStrategy bot, long firstGame, long chunkGames) {
+        Game game = games.get();
+        long halfPoints = 0;
+        for (long i = firstGame; i < firstGame + chunkGames; i++) {
+            game.reset(RandomStreams.gameSeed(masterSeed, i));
+            GameResult result = game.playBotGame(maxTurns, bot, opponent);
+            if (result.isDraw()) {
+                halfPoints++;
+            } else if (game.getPlayers().get(result.getWinnerIndex()).getStrategy() == bot) {
+                halfPoints += 2;
+            }
+        }
+        return halfPoints;
+    }
+
+    /**
+     * Tunes a bot against a registered strategy and prints the best genome of every generation.
+     *
+     * @param args Optional number of generations, population size, games per genome, number of threads,
+     *             master seed and opponent name. The board is read from the system properties of
+     *             {@link BoardSpec#fromSystemProperties()}.
+     */
+    public static void main(String[] args) {
+        int generations = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        int populationSize = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int gamesPerGenome = args.length > 2 ? Integer.parseInt(args[2]) : 4096;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        long masterSeed = args.length > 4 ? Long.parseLong(args[4]) : new SplittableRandom().nextLong();
+        BotStrategy opponent = BotStrategies.get(args.length > 5 ? args[5] : "Random");
+
+        BoardSpec board = BoardSpec.fromSystemProperties();
+        System.out.printf("Master seed: %d%n", masterSeed);
+        if (board != BoardSpec.STANDARD) {
+            System.out.printf("Board: %s%n", board);
+        }
+        System.out.printf("Tuning %d genomes against %s, %d games per genome on %d threads%n",
+                populationSize, opponent.getName(), gamesPerGenome, threads);
+        try (EvolutionaryTuner tuner = new EvolutionaryTuner(opponent, populationSize, gamesPerGenome,
+                Simulator.DEFAULT_MAX_TURNS, masterSeed, threads, board)) {
+            for (int i = 0; i < generations; i++) {
+                long startTime = System.nanoTime();
+                tuner.nextGeneration();
+                double seconds = (System.nanoTime() - startTime) / 1e9;
+                System.out.printf("Generation %d: best %.4f, average %.4f, %.0f games/s%n", tuner.getGeneration(),
+                        tuner.getBestFitness(), tuner.getAverageFitness(), (double) populationSize * gamesPerGenome / seconds);
+                StringBuilder genome = new StringBuilder("  best genome:");
+                for (double gene : tuner.getBestGenome()) {
+                    genome.append(String.format(" %.3f", gene));
+                }
+                System.out.println(genome);
+            }
+        }
+    }
+}
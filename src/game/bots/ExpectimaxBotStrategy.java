@@ -0,0 +1,828 @@
+package game.bots;
+
+import game.Game;
+import game.Simulator;
+import game.board.squares.ChanceSquare;
+import game.board.squares.PartyHardSquare;
+import game.board.squares.SquareType;
+import game.board.squares.StartSquare;
+import game.board.squares.TrapSquare;
+import game.dice.MovementDice;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.players.Player;
+import game.simulation.GameResult;
+import game.simulation.GameState;
+import game.simulation.RandomStreams;
+import game.traps.Trap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bot that decides with a depth-limited expectimax search.
+ * <p>
+ * The search looks a fixed number of player turns ahead. Dice rolls, Chance outcomes, the effect rolls of traps,
+ * the companies offered on Invest squares and investment returns are chance nodes. The bot's own decisions are
+ * max nodes, and the opponent is expected to play like the random bot. Investment returns are approximated
+ * by three points with the mean and the variance of the portfolio's return. On its own Invest squares the bot
+ * considers investing half of the money above the minimum, and the random opponent is expected to invest
+ * at most once per Invest square.
+ * <p>
+ * Turn nodes are cached in a bounded transposition table per thread, keyed by a Zobrist hash of the square
+ * layout, whose turn it is, the positions, balance and investment buckets, the effect flags and the traps set
+ * on the board. Balances are bucketed on a logarithmic scale, so nearby states share an entry.
+ * States at the depth limit are scored by the difference in balance plus the expected investment income.
+ */
+public class ExpectimaxBotStrategy implements BotStrategy {
+
+    /**
+     * The default number of player turns the search looks ahead after the current one.
+     */
+    public static final int DEFAULT_DEPTH = 4;
+
+    /**
+     * The default size of the transposition table of a thread, as a power of two.
+     */
+    public static final int DEFAULT_TABLE_BITS = 20;
+
+    private static final Trap[] TRAPS = Trap.values();
+    private static final SquareType[] SQUARE_TYPES = SquareType.values();
+    private static final SquareType[] STEAL_TARGETS = {SquareType.CHANCE, SquareType.TRAP, SquareType.STEAL};
+    private static final double[] ROOT_AMOUNT_SHARES = {0, 0.25, 0.5, 0.75};
+    private static final double SEARCH_AMOUNT_SHARE = 0.5;
+    private static final int NO_STEAL_PLAN = -1;
+    private static final int BALANCE_BUCKETS = 128;
+    private static final int INCOME_TURNS = 10; // Turns of expected investment income counted by the evaluation
+
+    // Chance square: the distinct amounts of the tier table and their probabilities
+    private static final double[] CHANCE_AMOUNTS;
+    private static final double[] CHANCE_PROBABILITIES;
+
+    // Companies
+    private static final int COMPANY_COUNT = InvestmentManager.getAllCompanies().size();
+    private static final double[] COMPANY_MIN_INVESTMENT = new double[COMPANY_COUNT];
+    private static final double[] COMPANY_MEAN_RATE = new double[COMPANY_COUNT];
+    private static final double[] COMPANY_RATE_VARIANCE = new double[COMPANY_COUNT];
+
+    // Three-point approximation of a normal distribution: mean and mean +- sqrt(3) standard deviations
+    private static final double[] RETURN_POINTS = {-Math.sqrt(3), 0, Math.sqrt(3)};
+    private static final double[] RETURN_WEIGHTS = {1.0 / 6, 2.0 / 3, 1.0 / 6};
+
+    // Kinds of decisions
+    private static final int TRAP_DECISION = 0;
+    private static final int STEAL_DECISION = 1;
+    private static final int INVEST_DECISION = 2;
+
+    static {
+        double[] amounts = new double[100];
+        double[] probabilities = new double[100];
+        int distinct = 0;
+        for (int roll = 1; roll <= 100; roll++) {
+            int amount = ChanceSquare.getAmountByChanceRoll(roll);
+            int index = 0;
+            while (index < distinct && amounts[index] != amount) {
+                index++;
+            }
+            if (index == distinct) {
+                amounts[distinct++] = amount;
+            }
+            probabilities[index] += 0.01;
+        }
+        CHANCE_AMOUNTS = Arrays.copyOf(amounts, distinct);
+        CHANCE_PROBABILITIES = Arrays.copyOf(probabilities, distinct);
+
+        List<Company> companies = InvestmentManager.getAllCompanies();
+        for (int i = 0; i < COMPANY_COUNT; i++) {
+            Company company = companies.get(i);
+            int span = company.getRiskMax() - company.getRiskMin() + 1;
+            COMPANY_MIN_INVESTMENT[i] = company.getMinInvestment();
+            COMPANY_MEAN_RATE[i] = (company.getRiskMin() + company.getRiskMax()) / 200.0;
+            COMPANY_RATE_VARIANCE[i] = (span * (double) span - 1) / 12 / 10_000; // Discrete uniform, in percent
+        }
+    }
+
+    private final int depth;
+    private final int tableBits;
+    private final ThreadLocal<Search> searches;
+    private final LongAdder decisions = new LongAdder();
+    private final LongAdder nodes = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+
+    /**
+     * Constructs a new ExpectimaxBotStrategy object with the default depth and table size.
+     */
+    public ExpectimaxBotStrategy() {
+        this(DEFAULT_DEPTH, DEFAULT_TABLE_BITS);
+    }
+
+    /**
+     * Constructs a new ExpectimaxBotStrategy object.
+     *
+     * @param depth     The number of player turns the search looks ahead after the current one.
+     * @param tableBits The size of the transposition table of a thread, as a power of two.
+     */
+    public ExpectimaxBotStrategy(int depth, int tableBits) {
+        if (depth < 0 || tableBits < 1 || tableBits > 28) {
+            throw new IllegalArgumentException("The depth must not be negative and the table bits must be in [1, 28].");
+        }
+        this.depth = depth;
+        this.tableBits = tableBits;
+        this.searches = ThreadLocal.withInitial(() -> new Search(tableBits));
+    }
+
+    @Override
+    public String getName() {
+        return "Expectimax";
+    }
+
+    @Override
+    public Trap chooseTrap(Player player, Game game) {
+        int action = decide(game, TRAP_DECISION, 1 + TRAPS.length);
+        return action == 0 ? null : TRAPS[action - 1];
+    }
+
+    @Override
+    public boolean wantsStealPlan(Player player, Game game) {
+        Search search = searches.get();
+        int action = decide(game, STEAL_DECISION, 1 + STEAL_TARGETS.length);
+        search.stealTarget = action == 0 ? null : STEAL_TARGETS[action - 1];
+        return action != 0;
+    }
+
+    @Override
+    public SquareType chooseStealTarget(Player player, Game game) {
+        // The target was chosen together with the decision to steal
+        SquareType target = searches.get().stealTarget;
+        return target != null ? target : SquareType.CHANCE;
+    }
+
+    @Override
+    public Company chooseInvestment(Player player, Game game, Company first, Company second) {
+        Search search = searches.get();
+        if (search.investPlayer == player && search.investTurn == game.getTurnCount()) {
+            return null; // One investment per visit of an Invest square, as the search assumes
+        }
+        int actionCount = 1;
+        for (int offered = 0; offered < 2; offered++) {
+            Company company = offered == 0 ? first : second;
+            double minInvestment = company.getMinInvestment();
+            if (player.getBalance() <= minInvestment) {
+                continue;
+            }
+            for (double share : ROOT_AMOUNT_SHARES) {
+                search.actionCompany[actionCount] = InvestmentManager.indexOf(company);
+                search.actionAmount[actionCount] = (int) (minInvestment + share * (player.getBalance() - minInvestment));
+                actionCount++;
+            }
+        }
+
+        int action = decide(game, INVEST_DECISION, actionCount);
+        if (action == 0) {
+            return null;
+        }
+        search.investAmount = search.actionAmount[action];
+        search.investPlayer = player;
+        search.investTurn = game.getTurnCount();
+        return InvestmentManager.getAllCompanies().get(search.actionCompany[action]);
+    }
+
+    @Override
+    public double chooseInvestmentAmount(Player player, Game game, Company company) {
+        // The amount was chosen together with the company
+        return searches.get().investAmount;
+    }
+
+    /**
+     * Gets the number of decisions made by this strategy on all threads.
+     *
+     * @return The number of searches.
+     */
+    public long getDecisions() {
+        return decisions.sum();
+    }
+
+    /**
+     * Gets the number of search nodes visited on all threads.
+     *
+     * @return The number of nodes.
+     */
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    /**
+     * Gets the share of transposition table lookups that found a usable entry.
+     *
+     * @return The hit rate, or 0 before the first lookup.
+     */
+    public double getHitRate() {
+        long count = lookups.sum();
+        return count == 0 ? 0 : (double) hits.sum() / count;
+    }
+
+    /**
+     * Gets the search speed over all decisions.
+     *
+     * @return The visited nodes per second of search time, or 0 before the first decision.
+     */
+    public double getNodesPerSecond() {
+        long time = searchNanos.sum();
+        return time == 0 ? 0 : nodes.sum() / (time / 1e9);
+    }
+
+    /**
+     * Gets the average time a decision took.
+     *
+     * @return The decision latency in milliseconds, or 0 before the first decision.
+     */
+    public double getAverageDecisionMillis() {
+        long count = decisions.sum();
+        return count == 0 ? 0 : searchNanos.sum() / 1e6 / count;
+    }
+
+    /**
+     * Evaluates every option of a decision of the current player and returns the best one.
+     *
+     * @param game        The game in which the current player decides.
+     * @param kind        The kind of decision.
+     * @param actionCount The number of options; option 0 always declines.
+     * @return The chosen option.
+     */
+    private int decide(Game game, int kind, int actionCount) {
+        long startTime = System.nanoTime();
+        Search search = searches.get();
+        search.prepare(game, depth);
+
+        int best = 0;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (int action = 0; action < actionCount; action++) {
+            Node node = search.stack[0];
+            node.copyFrom(search.root);
+            int player = node.current;
+            switch (kind) {
+                case TRAP_DECISION -> {
+                    if (action > 0) {
+                        node.setTrap(TRAPS[action - 1]);
+                    }
+                }
+                case STEAL_DECISION -> node.stealPlan[player] = action == 0 ? NO_STEAL_PLAN : STEAL_TARGETS[action - 1].ordinal();
+                case INVEST_DECISION -> {
+                    if (action > 0) {
+                        node.invest(search.actionCompany[action], search.actionAmount[action]);
+                    }
+                }
+                default -> throw new IllegalStateException("Unknown decision: " + kind);
+            }
+            double value = endTurn(search, node, depth, 1);
+            if (value > bestValue) {
+                bestValue = value;
+                best = action;
+            }
+        }
+
+        decisions.increment();
+        nodes.add(search.nodes);
+        lookups.add(search.lookups);
+        hits.add(search.hits);
+        searchNanos.add(System.nanoTime() - startTime);
+        return best;
+    }
+
+    // --- The search. Every node owns the stack level it was copied into and may change it;
+    // --- its branches are copied into the next levels.
+
+    /**
+     * Values the turn of the current player of a node before the dice roll.
+     */
+    private double turnValue(Search search, Node node, int depth, int level) {
+        search.nodes++;
+        if (depth == 0) {
+            return evaluate(node, search.me);
+        }
+
+        long key = search.hash(node);
+        int slot = (int) (key >>> (64 - tableBits));
+        search.lookups++;
+        if (search.keys[slot] == key && search.depths[slot] >= depth) {
+            search.hits++;
+            return search.values[slot];
+        }
+
+        double value = 0;
+        MovementDice movement = search.movement;
+        for (int steps = movement.getMinSteps(); steps <= movement.getMaxSteps(); steps++) {
+            double probability = movement.getStepProbability(steps);
+            if (probability == 0) {
+                continue;
+            }
+            Node child = search.stack[level];
+            child.copyFrom(node);
+            child.position[child.current] = (child.position[child.current] + steps) % child.boardSize;
+            value += probability * squareValue(search, child, depth, level + 1);
+        }
+
+        if (search.keys[slot] != key || depth >= search.depths[slot]) {
+            search.keys[slot] = key;
+            search.values[slot] = (float) value;
+            search.depths[slot] = (byte) depth;
+        }
+        return value;
+    }
+
+    /**
+     * Values the action of the square the current player of a node has just moved to.
+     */
+    private double squareValue(Search search, Node node, int depth, int level) {
+        search.nodes++;
+        int player = node.current;
+        int cell = node.position[player];
+        boolean mine = player == search.me;
+
+        switch (SQUARE_TYPES[node.squareType[cell]]) {
+            case START -> {
+                if (!node.consumeNeutralTurn(player)) {
+                    node.balance[player] += StartSquare.BONUS_AMOUNT;
+                }
+                return endTurn(search, node, depth, level);
+            }
+            case PARTY_HARD -> {
+                if (!node.consumeNeutralTurn(player)) {
+                    node.balance[player] -= PartyHardSquare.PARTY_COST;
+                }
+                return endTurn(search, node, depth, level);
+            }
+            case CHANCE -> {
+                double gainProbability = 0.5;
+                if (node.underBadLuckEffect[player]) {
+                    node.underBadLuckEffect[player] = false;
+                    gainProbability = 0;
+                }
+                double value = 0;
+                for (int sign = -1; sign <= 1; sign += 2) {
+                    double signProbability = sign > 0 ? gainProbability : 1 - gainProbability;
+                    if (signProbability == 0) {
+                        continue;
+                    }
+                    for (int tier = 0; tier < CHANCE_AMOUNTS.length; tier++) {
+                        Node child = search.stack[level];
+                        child.copyFrom(node);
+                        child.balance[player] += sign * CHANCE_AMOUNTS[tier];
+                        value += signProbability * CHANCE_PROBABILITIES[tier] * endTurn(search, child, depth, level + 1);
+                    }
+                }
+                return value;
+            }
+            case STEAL -> {
+                if (node.canNotUseStealSquare[player]) {
+                    node.canNotUseStealSquare[player] = false;
+                    return endTurn(search, node, depth, level);
+                }
+                if (node.consumeNeutralTurn(player) || node.stealPlan[player] != NO_STEAL_PLAN) {
+                    return endTurn(search, node, depth, level);
+                }
+                // Declining, then every target; the random bot declines half of the time
+                double best = Double.NEGATIVE_INFINITY;
+                double expected = 0;
+                for (int option = 0; option <= STEAL_TARGETS.length; option++) {
+                    Node child = search.stack[level];
+                    child.copyFrom(node);
+                    child.stealPlan[player] = option == 0 ? NO_STEAL_PLAN : STEAL_TARGETS[option - 1].ordinal();
+                    double value = endTurn(search, child, depth, level + 1);
+                    best = Math.max(best, value);
+                    expected += (option == 0 ? 0.5 : 0.5 / STEAL_TARGETS.length) * value;
+                }
+                return mine ? best : expected;
+            }
+            case TRAP -> {
+                return trapValue(search, node, depth, level, player, cell, mine);
+            }
+            case INVEST -> {
+                return investValue(search, node, depth, level, player, mine);
+            }
+            default -> throw new IllegalStateException("Unknown square type: " + node.squareType[cell]);
+        }
+    }
+
+    /**
+     * Values a Trap square: setting a trap on an empty square or suffering the trap of the other player.
+     */
+    private double trapValue(Search search, Node node, int depth, int level, int player, int cell, boolean mine) {
+        if (node.stealPlan[player] == SquareType.TRAP.ordinal()) {
+            node.balance[player] += TrapSquare.STEAL_PLAN_REWARD;
+        }
+
+        if (node.trapOwner[cell] == GameState.NO_OWNER) {
+            if (node.balance[player] <= 0) {
+                return endTurn(search, node, depth, level);
+            }
+            node.canNotPlaceTrap[player] = false; // Consumed without stopping the player, like TrapSquare
+            // Setting no trap, then every trap; the random bot always picks one of the traps
+            double best = Double.NEGATIVE_INFINITY;
+            double expected = 0;
+            for (int option = mine ? 0 : 1; option <= TRAPS.length; option++) {
+                Node child = search.stack[level];
+                child.copyFrom(node);
+                if (option > 0) {
+                    child.setTrap(TRAPS[option - 1]);
+                }
+                double value = endTurn(search, child, depth, level + 1);
+                best = Math.max(best, value);
+                expected += value / TRAPS.length;
+            }
+            return mine ? best : expected;
+        }
+
+        if (node.trapOwner[cell] == player || node.consumeNeutralTurn(player)) {
+            return endTurn(search, node, depth, level);
+        }
+        switch (TRAPS[node.trapKind[cell]]) {
+            case TAX_AUDIT -> node.balance[player] -= node.balance[player] * TrapSquare.TAX_AUDIT_RATE;
+            case CAT_DIVORCE -> {
+                // A roll of 2 or 8 on the 10-sided die
+                Node child = search.stack[level];
+                child.copyFrom(node);
+                child.turnsInNeutralState[player] = TrapSquare.CAT_DIVORCE_NEUTRAL_TURNS;
+                double divorced = endTurn(search, child, depth, level + 1);
+                return 0.2 * divorced + 0.8 * endTurn(search, node, depth, level);
+            }
+            case PROPAGANDA -> node.canNotPlaceTrap[player] = true;
+            case SEEING_THE_LIGHT -> node.canNotUseStealSquare[player] = true;
+            case GAMBLING_BOSS -> node.underBadLuckEffect[player] = true;
+        }
+        return endTurn(search, node, depth, level);
+    }
+
+    /**
+     * Values an Invest square. The bot chooses the best option for every pair of offered companies;
+     * the random opponent is expected to decline a third of the time and otherwise to invest
+     * half of the money above the minimum in one of the offered companies.
+     */
+    private double investValue(Search search, Node node, int depth, int level, int player, boolean mine) {
+        if (node.balance[player] <= 0) {
+            return endTurn(search, node, depth, level);
+        }
+        double balance = node.balance[player];
+
+        // The value of investing in every company, or of declining when it cannot be afforded
+        double decline = endTurn(search, copy(search, node, level), depth, level + 1);
+        double[] companyValue = search.companyValues[level];
+        for (int company = 0; company < InvestmentManager.OFFERED_COMPANIES; company++) {
+            double minInvestment = COMPANY_MIN_INVESTMENT[company];
+            if (balance <= minInvestment) {
+                companyValue[company] = decline;
+                continue;
+            }
+            Node child = copy(search, node, level);
+            child.invest(company, (int) (minInvestment + SEARCH_AMOUNT_SHARE * (balance - minInvestment)));
+            companyValue[company] = endTurn(search, child, depth, level + 1);
+        }
+
+        int offered = InvestmentManager.OFFERED_COMPANIES;
+        double value = 0;
+        if (mine) {
+            // Every unordered pair of different companies is offered with the same probability
+            int pairs = offered * (offered - 1) / 2;
+            for (int first = 0; first < offered; first++) {
+                for (int second = first + 1; second < offered; second++) {
+                    value += Math.max(decline, Math.max(companyValue[first], companyValue[second])) / pairs;
+                }
+            }
+        } else {
+            // Every company is in 2 of the offered pairs out of offered companies and is then picked a third of the time
+            value = decline / 3;
+            for (int company = 0; company < offered; company++) {
+                value += companyValue[company] * 2.0 / (3 * offered);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Finishes the turn of the current player: a player without money loses, otherwise their investments
+     * are settled and the other player's turn follows.
+     */
+    private double endTurn(Search search, Node node, int depth, int level) {
+        int player = node.current;
+        if (node.balance[player] <= 0) {
+            return player == search.me ? 0 : 1;
+        }
+        node.current = 1 - player;
+
+        double mean = 0;
+        double variance = 0;
+        for (int company = 0; company < COMPANY_COUNT; company++) {
+            double amount = node.invested[player * COMPANY_COUNT + company];
+            mean += amount * COMPANY_MEAN_RATE[company];
+            variance += amount * amount * COMPANY_RATE_VARIANCE[company];
+        }
+        if (variance == 0) {
+            node.balance[player] += mean;
+            return turnValue(search, node, depth - 1, level);
+        }
+
+        double deviation = Math.sqrt(variance);
+        double value = 0;
+        for (int point = 0; point < RETURN_POINTS.length; point++) {
+            Node child = copy(search, node, level);
+            child.balance[player] += mean + RETURN_POINTS[point] * deviation;
+            value += RETURN_WEIGHTS[point] * turnValue(search, child, depth - 1, level + 1);
+        }
+        return value;
+    }
+
+    /**
+     * Scores a state at the depth limit in [0, 1] from the relative difference in worth,
+     * where worth is the balance plus a few turns of expected investment income.
+     */
+    private static double evaluate(Node node, int me) {
+        double myWorth = node.worth(me);
+        double otherWorth = node.worth(1 - me);
+        return 0.5 + 0.5 * Math.tanh((myWorth - otherWorth) / (Math.abs(myWorth) + Math.abs(otherWorth) + Player.INITIAL_BALANCE));
+    }
+
+    private static Node copy(Search search, Node node, int level) {
+        Node child = search.stack[level];
+        child.copyFrom(node);
+        return child;
+    }
+
+    /**
+     * A game position inside the search, with the same fields as a GameState in plain arrays.
+     */
+    private static final class Node {
+        private final int boardSize;
+        private final byte[] squareType;
+        private final byte[] trapOwner;
+        private final byte[] trapKind;
+        private final int[] position = new int[2];
+        private final double[] balance = new double[2];
+        private final int[] turnsInNeutralState = new int[2];
+        private final boolean[] canNotUseStealSquare = new boolean[2];
+        private final boolean[] underBadLuckEffect = new boolean[2];
+        private final boolean[] canNotPlaceTrap = new boolean[2];
+        private final int[] stealPlan = new int[2];
+        private final double[] invested = new double[2 * COMPANY_COUNT];
+        private int current;
+
+        private Node(int boardSize) {
+            this.boardSize = boardSize;
+            squareType = new byte[boardSize];
+            trapOwner = new byte[boardSize];
+            trapKind = new byte[boardSize];
+        }
+
+        private void load(GameState state) {
+            for (int i = 0; i < boardSize; i++) {
+                squareType[i] = (byte) state.getSquareType(i).ordinal();
+                trapOwner[i] = (byte) state.getTrapOwner(i);
+                trapKind[i] = state.getTrap(i) == null ? 0 : (byte) state.getTrap(i).ordinal();
+            }
+            for (int p = 0; p < 2; p++) {
+                position[p] = state.getPosition(p);
+                balance[p] = state.getBalance(p);
+                turnsInNeutralState[p] = state.getTurnsInNeutralState(p);
+                canNotUseStealSquare[p] = state.isCanNotUseStealSquare(p);
+                underBadLuckEffect[p] = state.isUnderBadLuckEffect(p);
+                canNotPlaceTrap[p] = state.isCanNotPlaceTrap(p);
+                stealPlan[p] = state.getStealPlan(p) == null ? NO_STEAL_PLAN : state.getStealPlan(p).ordinal();
+                for (int c = 0; c < COMPANY_COUNT; c++) {
+                    invested[p * COMPANY_COUNT + c] = state.getInvested(p, c);
+                }
+            }
+            current = state.getCurrentPlayer();
+        }
+
+        private void copyFrom(Node other) {
+            System.arraycopy(other.squareType, 0, squareType, 0, boardSize);
+            System.arraycopy(other.trapOwner, 0, trapOwner, 0, boardSize);
+            System.arraycopy(other.trapKind, 0, trapKind, 0, boardSize);
+            System.arraycopy(other.position, 0, position, 0, 2);
+            System.arraycopy(other.balance, 0, balance, 0, 2);
+            System.arraycopy(other.turnsInNeutralState, 0, turnsInNeutralState, 0, 2);
+            System.arraycopy(other.canNotUseStealSquare, 0, canNotUseStealSquare, 0, 2);
+            System.arraycopy(other.underBadLuckEffect, 0, underBadLuckEffect, 0, 2);
+            System.arraycopy(other.canNotPlaceTrap, 0, canNotPlaceTrap, 0, 2);
+            System.arraycopy(other.stealPlan, 0, stealPlan, 0, 2);
+            System.arraycopy(other.invested, 0, invested, 0, invested.length);
+            current = other.current;
+        }
+
+        private boolean consumeNeutralTurn(int player) {
+            if (turnsInNeutralState[player] > 0) {
+                turnsInNeutralState[player]--;
+                return true;
+            }
+            return false;
+        }
+
+        private void setTrap(Trap trap) {
+            int cell = position[current];
+            if (balance[current] >= trap.getInvestmentCost()) {
+                balance[current] -= trap.getInvestmentCost();
+                trapOwner[cell] = (byte) current;
+                trapKind[cell] = (byte) trap.ordinal();
+            }
+        }
+
+        private void invest(int company, double amount) {
+            balance[current] -= amount;
+            invested[current * COMPANY_COUNT + company] += amount;
+        }
+
+        private double worth(int player) {
+            double income = 0;
+            for (int company = 0; company < COMPANY_COUNT; company++) {
+                income += invested[player * COMPANY_COUNT + company] * COMPANY_MEAN_RATE[company];
+            }
+            return balance[player] + INCOME_TURNS * income;
+        }
+    }
+
+    /**
+     * The transposition table, Zobrist keys and scratch nodes of the searches on one thread.
+     */
+    private static final class Search {
+        private static final int MAX_ACTIONS = 1 + 2 * ROOT_AMOUNT_SHARES.length;
+        private static final int LEVELS_PER_TURN = 4; // Roll, square, investment and settlement branches
+
+        private final long[] keys;
+        private final float[] values;
+        private final byte[] depths;
+
+        private GameState state;
+        private Node root;
+        private Node[] stack;
+        private double[][] companyValues;
+        private int stackDepth = -1;
+        private int me;
+        private long nodes;
+        private long lookups;
+        private long hits;
+
+        // Zobrist keys
+        private long[][] typeKeys;
+        private long[][] positionKeys;
+        private long[][] trapKeys;
+        private final long[] currentKeys = new long[2];
+        private final long[] meKeys = new long[2];
+        private final long[][] balanceKeys = new long[2][BALANCE_BUCKETS];
+        private final long[][] investedKeys = new long[2][BALANCE_BUCKETS];
+        private final long[][] neutralKeys = new long[2][TrapSquare.CAT_DIVORCE_NEUTRAL_TURNS + 1];
+        private final long[][] flagKeys = new long[2][8];
+        private final long[][] stealPlanKeys = new long[2][SQUARE_TYPES.length + 1];
+        private long layoutKey;
+        private MovementDice movement; // The dice of the board of the current search
+
+        private final int[] actionCompany = new int[MAX_ACTIONS];
+        private final double[] actionAmount = new double[MAX_ACTIONS];
+        private SquareType stealTarget;
+        private double investAmount;
+        private Player investPlayer; // The player and turn of the last investment
+        private int investTurn;
+
+        private Search(int tableBits) {
+            keys = new long[1 << tableBits];
+            values = new float[1 << tableBits];
+            depths = new byte[1 << tableBits];
+            Arrays.fill(depths, (byte) -1);
+
+            SplittableRandom random = new SplittableRandom(RandomStreams.gameSeed(0x5eedL, 0));
+            fill(random, currentKeys);
+            fill(random, meKeys);
+            for (int p = 0; p < 2; p++) {
+                fill(random, balanceKeys[p]);
+                fill(random, investedKeys[p]);
+                fill(random, neutralKeys[p]);
+                fill(random, flagKeys[p]);
+                fill(random, stealPlanKeys[p]);
+            }
+        }
+
+        /**
+         * Captures the game as the root of a search, allocating buffers only for the first game,
+         * a new board size or a deeper search.
+         */
+        private void prepare(Game game, int depth) {
+            int boardSize = game.getBoard().getSize();
+            movement = game.getBoard().getMovement();
+            if (state == null || state.getBoardSize() != boardSize) {
+                state = new GameState(boardSize);
+                root = new Node(boardSize);
+                stack = null;
+                SplittableRandom random = new SplittableRandom(RandomStreams.gameSeed(0x5eedL, boardSize));
+                typeKeys = new long[boardSize][SQUARE_TYPES.length];
+                positionKeys = new long[2][boardSize];
+                trapKeys = new long[boardSize][2 * TRAPS.length];
+                for (int i = 0; i < boardSize; i++) {
+                    fill(random, typeKeys[i]);
+                    fill(random, trapKeys[i]);
+                }
+                fill(random, positionKeys[0]);
+                fill(random, positionKeys[1]);
+            }
+            ensureStack(boardSize, 2 + LEVELS_PER_TURN * (depth + 1));
+
+            state.capture(game, true);
+            root.load(state);
+            me = root.current;
+            nodes = 0;
+            lookups = 0;
+            hits = 0;
+
+            layoutKey = 0;
+            for (int i = 0; i < boardSize; i++) {
+                layoutKey ^= typeKeys[i][root.squareType[i]];
+            }
+        }
+
+        private void ensureStack(int boardSize, int levels) {
+            if (stack != null && stack.length >= levels) {
+                return;
+            }
+            stack = new Node[levels];
+            companyValues = new double[levels][COMPANY_COUNT];
+            for (int i = 0; i < levels; i++) {
+                stack[i] = new Node(boardSize);
+            }
+        }
+
+        private long hash(Node node) {
+            long key = layoutKey ^ currentKeys[node.current] ^ meKeys[me];
+            for (int p = 0; p < 2; p++) {
+                double totalInvested = 0;
+                for (int c = 0; c < COMPANY_COUNT; c++) {
+                    totalInvested += node.invested[p * COMPANY_COUNT + c];
+                }
+                int flags = (node.canNotUseStealSquare[p] ? 1 : 0) | (node.underBadLuckEffect[p] ? 2 : 0)
+                        | (node.canNotPlaceTrap[p] ? 4 : 0);
+                key ^= positionKeys[p][node.position[p]]
+                        ^ balanceKeys[p][bucket(node.balance[p])]
+                        ^ investedKeys[p][bucket(totalInvested)]
+                        ^ neutralKeys[p][node.turnsInNeutralState[p]]
+                        ^ flagKeys[p][flags]
+                        ^ stealPlanKeys[p][node.stealPlan[p] + 1];
+            }
+            for (int i = 0; i < node.boardSize; i++) {
+                if (node.trapOwner[i] != GameState.NO_OWNER) {
+                    key ^= trapKeys[i][node.trapOwner[i] * TRAPS.length + node.trapKind[i]];
+                }
+            }
+            return key;
+        }
+
+        /**
+         * Buckets an amount on a logarithmic scale with four buckets per doubling; bucket 0 holds amounts up to 0.
+         */
+        private static int bucket(double amount) {
+            if (amount <= 0) {
+                return 0;
+            }
+            int bucket = 1 + (int) (4 * Math.log1p(amount) / Math.log(2));
+            return Math.min(bucket, BALANCE_BUCKETS - 1);
+        }
+
+        private static void fill(SplittableRandom random, long[] keys) {
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextLong();
+            }
+        }
+    }
+
+    /**
+     * Plays games against the random bot and prints the results with the search statistics.
+     *
+     * @param args Optional number of games, search depth and master seed.
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_DEPTH;
+        long masterSeed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+
+        ExpectimaxBotStrategy strategy = new ExpectimaxBotStrategy(depth, DEFAULT_TABLE_BITS);
+        BotStrategy opponent = new RandomBotStrategy();
+        int wins = 0;
+        int losses = 0;
+        for (int i = 0; i < games; i++) {
+            Game game = Game.createHeadless(RandomStreams.forGame(masterSeed, i));
+            GameResult result = game.playBotGame(Simulator.DEFAULT_MAX_TURNS, strategy, opponent);
+            if (!result.isDraw()) {
+                if (game.getPlayers().get(result.getWinnerIndex()).getStrategy() == strategy) {
+                    wins++;
+                } else {
+                    losses++;
+                }
+            }
+        }
+
+        System.out.printf("Master seed: %d, depth: %d%n", masterSeed, depth);
+        System.out.printf("Against the random bot: %d wins, %d losses, %d draws%n", wins, losses, games - wins - losses);
+        System.out.printf("Decisions: %d, %.2f ms per decision%n", strategy.getDecisions(), strategy.getAverageDecisionMillis());
+        System.out.printf("Nodes: %d (%.0f nodes/s), table hit rate: %.1f%%%n",
+                strategy.getNodes(), strategy.getNodesPerSecond(), 100 * strategy.getHitRate());
+    }
+}
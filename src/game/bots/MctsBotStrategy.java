@@ -0,0 +1,323 @@
+package game.bots;
+
+import game.Game;
+import game.board.BoardSpec;
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.investments.MarketModel;
+import game.players.Player;
+import game.simulation.BatchEngine;
+import game.simulation.GameResult;
+import game.simulation.GameState;
+import game.simulation.RandomStreams;
+import game.traps.Trap;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bot that decides with Monte Carlo search: every option of a decision is evaluated by random playouts
+ * from the current state, and the option that was explored the most is chosen.
+ * <p>
+ * The options are the arms of a bandit and are picked with UCB1. A decision captures the game once into a
+ * {@link GameState}, applies an option to a scratch copy and loads the copy into a lane of a
+ * {@link BatchEngine}, which plays many playouts at once with the random bot's choices for both players.
+ * Playouts stop at a turn horizon; a game that is still running counts as won by the richer player.
+ * Every thread keeps its own engine and states, so the strategy can be shared by a tournament.
+ * <p>
+ * Playouts also stop at the turn limit of the game being played, where the game is a draw.
+ * <p>
+ * A decision stops at the time budget or the playout limit, whichever comes first. A decision cut short by
+ * the time budget depends on the speed and load of the machine, so games of this bot can only be replayed
+ * exactly when every decision reaches the playout limit first. Investment amounts are
+ * chosen from a few shares of the money above the company's minimum. After a decision the rest of the
+ * square is not simulated, so the bot invests at most once per visit of an Invest square.
+ */
+public class MctsBotStrategy implements BotStrategy {
+
+    /**
+     * The default time a decision may take, kept below 50 ms to leave room for the capture and the rest of the turn.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 40;
+
+    /**
+     * The default maximum number of playouts per decision.
+     */
+    public static final int DEFAULT_MAX_PLAYOUTS = 4096;
+
+    /**
+     * The default number of player turns a playout looks ahead.
+     */
+    public static final int DEFAULT_HORIZON = 60;
+
+    private static final int LANES = 128;
+    private static final double EXPLORATION = Math.sqrt(2);
+    private static final Trap[] TRAPS = Trap.values();
+    private static final SquareType[] STEAL_TARGETS = {SquareType.CHANCE, SquareType.TRAP, SquareType.STEAL};
+    private static final double[] AMOUNT_SHARES = {0, 0.25, 0.5, 0.75};
+
+    // Kinds of decisions
+    private static final int TRAP_DECISION = 0;
+    private static final int STEAL_DECISION = 1;
+    private static final int INVEST_DECISION = 2;
+
+    private final long budgetNanos;
+    private final int maxPlayouts;
+    private final int horizon;
+    private final ThreadLocal<Search> searches = ThreadLocal.withInitial(Search::new);
+    private final LongAdder decisions = new LongAdder();
+    private final LongAdder playouts = new LongAdder();
+    private final LongAdder searchNanos = new LongAdder();
+
+    /**
+     * Constructs a new MctsBotStrategy object with the default budget, playout limit and horizon.
+     */
+    public MctsBotStrategy() {
+        this(DEFAULT_BUDGET_MILLIS, DEFAULT_MAX_PLAYOUTS, DEFAULT_HORIZON);
+    }
+
+    /**
+     * Constructs a new MctsBotStrategy object.
+     *
+     * @param budgetMillis The time a decision may take.
+     * @param maxPlayouts  The maximum number of playouts per decision. A decision that reaches this limit
+     *                     before its budget is reproducible.
+     * @param horizon      The number of player turns a playout looks ahead.
+     */
+    public MctsBotStrategy(long budgetMillis, int maxPlayouts, int horizon) {
+        if (budgetMillis <= 0 || maxPlayouts <= 0 || horizon <= 0) {
+            throw new IllegalArgumentException("The budget, the playout limit and the horizon must be positive.");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000;
+        this.maxPlayouts = maxPlayouts;
+        this.horizon = horizon;
+    }
+
+    @Override
+    public String getName() {
+        return "MCTS";
+    }
+
+    @Override
+    public Trap chooseTrap(Player player, Game game) {
+        int action = search(game, TRAP_DECISION, 1 + TRAPS.length);
+        return action == 0 ? null : TRAPS[action - 1];
+    }
+
+    @Override
+    public boolean wantsStealPlan(Player player, Game game) {
+        Search search = searches.get();
+        int action = search(game, STEAL_DECISION, 1 + STEAL_TARGETS.length);
+        search.stealTarget = action == 0 ? null : STEAL_TARGETS[action - 1];
+        return action != 0;
+    }
+
+    @Override
+    public SquareType chooseStealTarget(Player player, Game game) {
+        // The target was chosen together with the decision to steal
+        SquareType target = searches.get().stealTarget;
+        return target != null ? target : SquareType.CHANCE;
+    }
+
+    @Override
+    public Company chooseInvestment(Player player, Game game, Company first, Company second) {
+        Search search = searches.get();
+        if (search.investPlayer == player && search.investTurn == game.getTurnCount()) {
+            return null; // One investment per visit of an Invest square, as the search assumes
+        }
+        int actionCount = 1;
+        for (int offered = 0; offered < 2; offered++) {
+            Company company = offered == 0 ? first : second;
+            double minInvestment = company.getMinInvestment();
+            if (player.getBalance() <= minInvestment) {
+                continue;
+            }
+            for (double share : AMOUNT_SHARES) {
+                search.actionCompany[actionCount] = InvestmentManager.indexOf(company);
+                search.actionAmount[actionCount] = (int) (minInvestment + share * (player.getBalance() - minInvestment));
+                actionCount++;
+            }
+        }
+
+        int action = search(game, INVEST_DECISION, actionCount);
+        if (action == 0) {
+            return null;
+        }
+        search.investAmount = search.actionAmount[action];
+        search.investPlayer = player;
+        search.investTurn = game.getTurnCount();
+        return InvestmentManager.getAllCompanies().get(search.actionCompany[action]);
+    }
+
+    @Override
+    public double chooseInvestmentAmount(Player player, Game game, Company company) {
+        // The amount was chosen together with the company
+        return searches.get().investAmount;
+    }
+
+    /**
+     * Gets the number of decisions made by this strategy on all threads.
+     *
+     * @return The number of searches.
+     */
+    public long getDecisions() {
+        return decisions.sum();
+    }
+
+    /**
+     * Gets the average number of playouts per decision.
+     *
+     * @return The playouts per decision, or 0 before the first decision.
+     */
+    public double getAveragePlayouts() {
+        long count = decisions.sum();
+        return count == 0 ? 0 : (double) playouts.sum() / count;
+    }
+
+    /**
+     * Gets the average time a decision took.
+     *
+     * @return The decision latency in milliseconds, or 0 before the first decision.
+     */
+    public double getAverageDecisionMillis() {
+        long count = decisions.sum();
+        return count == 0 ? 0 : searchNanos.sum() / 1e6 / count;
+    }
+
+    /**
+     * Runs playouts for every option of a decision of the current player and returns the most explored option.
+     *
+     * @param game        The game in which the current player decides.
+     * @param kind        The kind of decision.
+     * @param actionCount The number of options; option 0 always declines.
+     * @return The chosen option.
+     */
+    private int search(Game game, int kind, int actionCount) {
+        long startTime = System.nanoTime();
+        long deadline = startTime + budgetNanos;
+        Search search = searches.get();
+        search.prepare(game);
+        int me = game.getCurrentPlayerIndex();
+        long seed = game.getRandom().nextLong();
+
+        int[] visits = search.visits;
+        double[] rewards = search.rewards;
+        Arrays.fill(visits, 0, actionCount, 0);
+        Arrays.fill(rewards, 0, actionCount, 0);
+
+        int total = 0;
+        while (total < maxPlayouts && (total == 0 || System.nanoTime() < deadline)) {
+            int batch = Math.min(LANES, maxPlayouts - total);
+            for (int lane = 0; lane < batch; lane++) {
+                int action = select(visits, rewards, actionCount, total + lane);
+                visits[action]++; // Counted now, rewarded after the batch: a virtual loss that spreads the batch
+                search.laneAction[lane] = action;
+                search.scratch.copyFrom(search.root);
+                apply(search, kind, action);
+                search.engine.load(lane, search.scratch, RandomStreams.gameSeed(seed, total + lane));
+            }
+            search.engine.playLoaded(batch, horizon);
+            for (int lane = 0; lane < batch; lane++) {
+                rewards[search.laneAction[lane]] += score(search.engine, lane, me);
+            }
+            total += batch;
+        }
+
+        int best = 0;
+        for (int action = 1; action < actionCount; action++) {
+            if (visits[action] > visits[best]) {
+                best = action;
+            }
+        }
+        decisions.increment();
+        playouts.add(total);
+        searchNanos.add(System.nanoTime() - startTime);
+        return best;
+    }
+
+    /**
+     * Picks the option with the highest UCB1 value, trying every option once first.
+     */
+    private static int select(int[] visits, double[] rewards, int actionCount, int playoutsSoFar) {
+        int best = 0;
+        double bestValue = Double.NEGATIVE_INFINITY;
+        double logTotal = Math.log(Math.max(1, playoutsSoFar));
+        for (int action = 0; action < actionCount; action++) {
+            if (visits[action] == 0) {
+                return action;
+            }
+            double value = rewards[action] / visits[action] + EXPLORATION * Math.sqrt(logTotal / visits[action]);
+            if (value > bestValue) {
+                bestValue = value;
+                best = action;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Applies an option of a decision to the scratch state of a search.
+     */
+    private static void apply(Search search, int kind, int action) {
+        if (action == 0) {
+            return;
+        }
+        switch (kind) {
+            case TRAP_DECISION -> search.scratch.setTrap(TRAPS[action - 1]);
+            case STEAL_DECISION -> search.scratch.setStealPlan(STEAL_TARGETS[action - 1]);
+            case INVEST_DECISION -> search.scratch.invest(search.actionCompany[action], search.actionAmount[action]);
+            default -> throw new IllegalStateException("Unknown decision: " + kind);
+        }
+    }
+
+    /**
+     * Scores a playout for a player: 1 for a win, 0 for a loss and, for a game still running at the horizon,
+     * 1 if the player is richer, 0 if poorer and 0.5 for equal balances.
+     */
+    private static double score(BatchEngine engine, int lane, int player) {
+        int winner = engine.getWinnerIndex(lane);
+        if (winner != GameResult.NO_WINNER) {
+            return winner == player ? 1 : 0;
+        }
+        double difference = engine.getBalance(lane, player) - engine.getBalance(lane, 1 - player);
+        return difference > 0 ? 1 : difference < 0 ? 0 : 0.5;
+    }
+
+    /**
+     * The reusable buffers of the searches on one thread.
+     */
+    private static final class Search {
+        private static final int MAX_ACTIONS = 1 + 2 * AMOUNT_SHARES.length;
+
+        private BatchEngine engine;
+        private GameState root;
+        private GameState scratch;
+        private final int[] visits = new int[MAX_ACTIONS];
+        private final double[] rewards = new double[MAX_ACTIONS];
+        private final int[] laneAction = new int[LANES];
+        private final int[] actionCompany = new int[MAX_ACTIONS];
+        private final double[] actionAmount = new double[MAX_ACTIONS];
+        private SquareType stealTarget;
+        private double investAmount;
+        private Player investPlayer; // The player and turn of the last investment
+        private int investTurn;
+
+        /**
+         * Captures the game as the root of a search, allocating the buffers for the first game
+         * and for new boards or turn limits only.
+         */
+        private void prepare(Game game) {
+            BoardSpec spec = game.getBoard().getSpec();
+            int boardSize = spec.getSize();
+            if (root == null || root.getBoardSize() != boardSize) {
+                root = new GameState(boardSize);
+                scratch = new GameState(boardSize);
+            }
+            if (engine == null || engine.getSpec() != spec || engine.getMaxTurns() != game.getMaxTurns()) {
+                engine = new BatchEngine(LANES, game.getMaxTurns(), MarketModel.INDEPENDENT, spec);
+            }
+            root.capture(game, true);
+        }
+    }
+}
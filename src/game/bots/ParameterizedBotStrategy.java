@@ -0,0 +1,188 @@
+package game.bots;
+
+import game.Game;
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.players.Player;
+import game.traps.Trap;
+
+import java.util.Arrays;
+
+/**
+ * A bot whose decisions are controlled by a genome of parameters, all in the interval [0, 1].
+ * The genome is tuned by the {@link EvolutionaryTuner}.
+ * <p>
+ * The genes are, in order:
+ * <ul>
+ *     <li>the probability to invest on an Invest square;</li>
+ *     <li>the share of the balance above the minimum investment that is invested;</li>
+ *     <li>one preference weight per company; the offered company with the higher weight is chosen;</li>
+ *     <li>the probability to set a trap on an empty Trap square;</li>
+ *     <li>one preference weight per trap; the affordable trap with the highest weight is set;</li>
+ *     <li>the probability to set a steal plan on a Steal square;</li>
+ *     <li>one preference weight per steal target; the target with the highest weight is chosen.</li>
+ * </ul>
+ * Like the other search bots it invests at most once per visit of an Invest square. The strategy keeps
+ * that per-thread state in a thread local, so it can be shared by games on different threads.
+ */
+public class ParameterizedBotStrategy implements BotStrategy {
+
+    private static final Trap[] TRAPS = Trap.values();
+    private static final SquareType[] STEAL_TARGETS = {SquareType.CHANCE, SquareType.TRAP, SquareType.STEAL};
+    private static final int COMPANIES = InvestmentManager.getAllCompanies().size();
+
+    /**
+     * The index of the probability to invest.
+     */
+    public static final int INVEST_PROBABILITY = 0;
+
+    /**
+     * The index of the share of the available balance that is invested.
+     */
+    public static final int INVEST_SHARE = 1;
+
+    /**
+     * The index of the weight of the first company, in the order of {@link InvestmentManager#getAllCompanies()}.
+     */
+    public static final int COMPANY_WEIGHTS = 2;
+
+    /**
+     * The index of the probability to set a trap.
+     */
+    public static final int TRAP_PROBABILITY = COMPANY_WEIGHTS + COMPANIES;
+
+    /**
+     * The index of the weight of the first trap, in the order of {@link Trap#values()}.
+     */
+    public static final int TRAP_WEIGHTS = TRAP_PROBABILITY + 1;
+
+    /**
+     * The index of the probability to set a steal plan.
+     */
+    public static final int STEAL_PROBABILITY = TRAP_WEIGHTS + TRAPS.length;
+
+    /**
+     * The index of the weight of the first steal target: Chance, Trap and Steal.
+     */
+    public static final int STEAL_WEIGHTS = STEAL_PROBABILITY + 1;
+
+    /**
+     * The number of genes in a genome.
+     */
+    public static final int GENOME_LENGTH = STEAL_WEIGHTS + STEAL_TARGETS.length;
+
+    private final String name;
+    private final double[] genome;
+    private final ThreadLocal<Visit> visits = ThreadLocal.withInitial(Visit::new);
+
+    /**
+     * Constructs a new ParameterizedBotStrategy object.
+     *
+     * @param name   The name the strategy is reported under.
+     * @param genome The parameters of the strategy, GENOME_LENGTH values in [0, 1]. The array is copied.
+     */
+    public ParameterizedBotStrategy(String name, double[] genome) {
+        if (genome.length != GENOME_LENGTH) {
+            throw new IllegalArgumentException("A genome has " + GENOME_LENGTH + " genes, not " + genome.length + ".");
+        }
+        for (double gene : genome) {
+            if (!(gene >= 0 && gene <= 1)) {
+                throw new IllegalArgumentException("Every gene must be in [0, 1].");
+            }
+        }
+        this.name = name;
+        this.genome = genome.clone();
+    }
+
+    /**
+     * Gets a copy of the parameters of the strategy.
+     *
+     * @return The genome.
+     */
+    public double[] getGenome() {
+        return genome.clone();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Trap chooseTrap(Player player, Game game) {
+        if (game.getRandom().nextDouble() >= genome[TRAP_PROBABILITY]) {
+            return null;
+        }
+        Trap best = null;
+        for (int i = 0; i < TRAPS.length; i++) {
+            if (TRAPS[i].getInvestmentCost() <= player.getBalance()
+                    && (best == null || genome[TRAP_WEIGHTS + i] > genome[TRAP_WEIGHTS + best.ordinal()])) {
+                best = TRAPS[i];
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public boolean wantsStealPlan(Player player, Game game) {
+        return game.getRandom().nextDouble() < genome[STEAL_PROBABILITY];
+    }
+
+    @Override
+    public SquareType chooseStealTarget(Player player, Game game) {
+        int best = 0;
+        for (int i = 1; i < STEAL_TARGETS.length; i++) {
+            if (genome[STEAL_WEIGHTS + i] > genome[STEAL_WEIGHTS + best]) {
+                best = i;
+            }
+        }
+        return STEAL_TARGETS[best];
+    }
+
+    @Override
+    public Company chooseInvestment(Player player, Game game, Company first, Company second) {
+        Visit visit = visits.get();
+        if (visit.player == player && visit.turn == game.getTurnCount()) {
+            return null; // One investment per visit of an Invest square
+        }
+        visit.player = player;
+        visit.turn = game.getTurnCount();
+        if (game.getRandom().nextDouble() >= genome[INVEST_PROBABILITY]) {
+            return null;
+        }
+        boolean firstAffordable = player.getBalance() > first.getMinInvestment();
+        boolean secondAffordable = player.getBalance() > second.getMinInvestment();
+        if (firstAffordable && secondAffordable) {
+            return weight(second) > weight(first) ? second : first;
+        }
+        return firstAffordable ? first : secondAffordable ? second : null;
+    }
+
+    @Override
+    public double chooseInvestmentAmount(Player player, Game game, Company company) {
+        // Investing the whole balance is not allowed, so the largest share keeps one unit back
+        double available = Math.max(0, player.getBalance() - 1 - company.getMinInvestment());
+        return (int) (company.getMinInvestment() + genome[INVEST_SHARE] * available);
+    }
+
+    /**
+     * Gets the preference weight of a company.
+     */
+    private double weight(Company company) {
+        return genome[COMPANY_WEIGHTS + InvestmentManager.indexOf(company)];
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + Arrays.toString(genome);
+    }
+
+    /**
+     * The last Invest square visit of one thread in which the bot decided about investing.
+     */
+    private static final class Visit {
+        private Player player;
+        private int turn;
+    }
+}
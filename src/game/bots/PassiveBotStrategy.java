@@ -0,0 +1,44 @@
+package game.bots;
+
+import game.Game;
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.players.Player;
+import game.traps.Trap;
+
+/**
+ * A baseline bot that declines every optional action: it never sets traps or steal plans and never invests.
+ * Its results show how much the other strategies gain from their decisions.
+ */
+public class PassiveBotStrategy implements BotStrategy {
+
+    @Override
+    public String getName() {
+        return "Passive";
+    }
+
+    @Override
+    public Trap chooseTrap(Player player, Game game) {
+        return null;
+    }
+
+    @Override
+    public boolean wantsStealPlan(Player player, Game game) {
+        return false;
+    }
+
+    @Override
+    public SquareType chooseStealTarget(Player player, Game game) {
+        return SquareType.CHANCE;
+    }
+
+    @Override
+    public Company chooseInvestment(Player player, Game game, Company first, Company second) {
+        return null;
+    }
+
+    @Override
+    public double chooseInvestmentAmount(Player player, Game game, Company company) {
+        return 0;
+    }
+}
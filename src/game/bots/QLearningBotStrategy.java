@@ -0,0 +1,259 @@
+package game.bots;
+
+import game.Game;
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.players.Player;
+import game.traps.Trap;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * A bot whose decisions come from a table of action values learned by Q-learning.
+ * <p>
+ * A state is the type of the square the player is on, the buckets of both balances and five effect flags of the
+ * player. The square type does not depend on the size of the board, so one table fits every board layout.
+ * Each kind of decision has its own range of actions in the table: the trap to set (or none), the steal plan
+ * target (or none), and the company and share of the money above the minimum to invest (or none).
+ * The bot invests at most once per visit of an Invest square.
+ * <p>
+ * A learning bot explores with an epsilon-greedy policy and updates the shared table after each of its
+ * decisions with the best value of its next decision. At the end of a game the trainer passes the final
+ * reward to {@link #finishEpisode(double)}. A bot that does not learn always plays the best action in the
+ * table and can be shared by any number of games and threads.
+ */
+public class QLearningBotStrategy implements BotStrategy {
+
+    // --- State encoding ---
+    private static final int SQUARE_TYPES = SquareType.values().length;
+    private static final double[] BALANCE_BUCKET_LIMITS = {0, 250, 500, 1000, 2000, 4000, 8000};
+    private static final int BALANCE_BUCKETS = BALANCE_BUCKET_LIMITS.length + 1;
+    private static final int EFFECT_FLAGS = 5;
+
+    /**
+     * The number of discretized states.
+     */
+    public static final int STATES = SQUARE_TYPES * BALANCE_BUCKETS * BALANCE_BUCKETS * (1 << EFFECT_FLAGS);
+
+    // --- Action encoding ---
+    private static final Trap[] TRAPS = Trap.values();
+    private static final SquareType[] STEAL_TARGETS = {SquareType.CHANCE, SquareType.TRAP, SquareType.STEAL};
+    private static final double[] AMOUNT_SHARES = {0, 0.5, 1};
+    private static final int COMPANY_COUNT = InvestmentManager.getAllCompanies().size();
+    private static final int TRAP_ACTIONS = 0; // none, then every trap
+    private static final int STEAL_ACTIONS = TRAP_ACTIONS + 1 + TRAPS.length; // none, then every target
+    private static final int INVEST_ACTIONS = STEAL_ACTIONS + 1 + STEAL_TARGETS.length; // none, then company and share
+
+    /**
+     * The number of actions per state over all kinds of decisions.
+     */
+    public static final int ACTIONS = INVEST_ACTIONS + 1 + COMPANY_COUNT * AMOUNT_SHARES.length;
+
+    private static final int MAX_CHOICES = 1 + 2 * AMOUNT_SHARES.length;
+
+    private final String name;
+    private final QTable table;
+    private final boolean learning;
+    private final float epsilon;
+    private final float learningRate;
+    private final float discount;
+    private final ThreadLocal<Episode> episodes = ThreadLocal.withInitial(Episode::new);
+
+    /**
+     * Constructs a bot that plays the best actions of a table without learning.
+     *
+     * @param table The table of action values, of STATES by ACTIONS.
+     */
+    public QLearningBotStrategy(QTable table) {
+        this("Q-learning", table, false, 0, 0, 0);
+    }
+
+    /**
+     * Constructs a new QLearningBotStrategy object.
+     *
+     * @param name         The name the strategy is reported under.
+     * @param table        The table of action values, of STATES by ACTIONS; it must be trainable for learning.
+     * @param learning     True to explore and update the table, false to play the best actions.
+     * @param epsilon      The probability of a random action while learning.
+     * @param learningRate The share of the difference to the target applied by an update.
+     * @param discount     The discount of the value of the next decision.
+     */
+    public QLearningBotStrategy(String name, QTable table, boolean learning, float epsilon, float learningRate, float discount) {
+        if (table.getStates() != STATES || table.getActions() != ACTIONS) {
+            throw new IllegalArgumentException("The table must have " + STATES + " states and " + ACTIONS + " actions.");
+        }
+        if (learning && !table.isTrainable()) {
+            throw new IllegalArgumentException("A learning bot needs a trainable table.");
+        }
+        this.name = name;
+        this.table = table;
+        this.learning = learning;
+        this.epsilon = epsilon;
+        this.learningRate = learningRate;
+        this.discount = discount;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Trap chooseTrap(Player player, Game game) {
+        Episode episode = episodes.get();
+        int count = 0;
+        for (int action = 0; action <= TRAPS.length; action++) {
+            episode.choices[count++] = TRAP_ACTIONS + action;
+        }
+        int action = decide(episode, player, game, count) - TRAP_ACTIONS;
+        return action == 0 ? null : TRAPS[action - 1];
+    }
+
+    @Override
+    public boolean wantsStealPlan(Player player, Game game) {
+        Episode episode = episodes.get();
+        int count = 0;
+        for (int action = 0; action <= STEAL_TARGETS.length; action++) {
+            episode.choices[count++] = STEAL_ACTIONS + action;
+        }
+        int action = decide(episode, player, game, count) - STEAL_ACTIONS;
+        episode.stealTarget = action == 0 ? null : STEAL_TARGETS[action - 1];
+        return action != 0;
+    }
+
+    @Override
+    public SquareType chooseStealTarget(Player player, Game game) {
+        // The target was chosen together with the decision to steal
+        SquareType target = episodes.get().stealTarget;
+        return target != null ? target : SquareType.CHANCE;
+    }
+
+    @Override
+    public Company chooseInvestment(Player player, Game game, Company first, Company second) {
+        Episode episode = episodes.get();
+        if (episode.investPlayer == player && episode.investTurn == game.getTurnCount()) {
+            return null; // One investment per visit of an Invest square
+        }
+        int count = 0;
+        episode.choices[count++] = INVEST_ACTIONS;
+        for (int offered = 0; offered < 2; offered++) {
+            Company company = offered == 0 ? first : second;
+            if (player.getBalance() <= company.getMinInvestment()) {
+                continue;
+            }
+            int companyIndex = InvestmentManager.indexOf(company);
+            for (int share = 0; share < AMOUNT_SHARES.length; share++) {
+                episode.choices[count++] = INVEST_ACTIONS + 1 + companyIndex * AMOUNT_SHARES.length + share;
+            }
+        }
+
+        int action = decide(episode, player, game, count) - INVEST_ACTIONS;
+        if (action == 0) {
+            return null;
+        }
+        Company company = InvestmentManager.getAllCompanies().get((action - 1) / AMOUNT_SHARES.length);
+        double share = AMOUNT_SHARES[(action - 1) % AMOUNT_SHARES.length];
+        // Investing the whole balance is not allowed, so the largest share keeps one unit back
+        double available = Math.max(0, player.getBalance() - 1 - company.getMinInvestment());
+        episode.investAmount = (int) (company.getMinInvestment() + share * available);
+        episode.investPlayer = player;
+        episode.investTurn = game.getTurnCount();
+        return company;
+    }
+
+    @Override
+    public double chooseInvestmentAmount(Player player, Game game, Company company) {
+        // The amount was chosen together with the company
+        return episodes.get().investAmount;
+    }
+
+    /**
+     * Ends the episode of the current thread: the last decision is updated with the final reward
+     * and the next decision starts a new episode. Only a learning bot changes the table.
+     *
+     * @param reward The reward of the game, for example 1 for a win, 0.5 for a draw and 0 for a loss.
+     */
+    public void finishEpisode(double reward) {
+        Episode episode = episodes.get();
+        if (learning && episode.lastState >= 0) {
+            table.update(episode.lastState, episode.lastAction, (float) reward, learningRate);
+        }
+        episode.lastState = -1;
+    }
+
+    /**
+     * Picks one of the choices of the episode for the player's current state and, when learning,
+     * updates the previous decision towards the discounted value of this one.
+     *
+     * @return The chosen action.
+     */
+    private int decide(Episode episode, Player player, Game game, int count) {
+        int state = stateIndex(player, game);
+        int best = episode.choices[0];
+        float bestValue = table.get(state, best);
+        for (int i = 1; i < count; i++) {
+            float value = table.get(state, episode.choices[i]);
+            if (value > bestValue) {
+                bestValue = value;
+                best = episode.choices[i];
+            }
+        }
+        if (!learning) {
+            return best;
+        }
+
+        if (episode.lastState >= 0) {
+            table.update(episode.lastState, episode.lastAction, discount * bestValue, learningRate);
+        }
+        RandomGenerator random = game.getRandom();
+        int action = random.nextFloat() < epsilon ? episode.choices[random.nextInt(count)] : best;
+        episode.lastState = state;
+        episode.lastAction = action;
+        return action;
+    }
+
+    /**
+     * Encodes the situation of a player as a state index: the type of the current square, own and opponent balance buckets
+     * and the effect flags of the player.
+     *
+     * @param player The player who decides.
+     * @param game   The game being played.
+     * @return The state index in [0, STATES).
+     */
+    public static int stateIndex(Player player, Game game) {
+        List<Player> players = game.getPlayers();
+        Player opponent = players.get(0) == player ? players.get(players.size() - 1) : players.get(0);
+        int effects = (player.getTurnsInNeutralState() > 0 ? 1 : 0)
+                | (player.isCanNotUseSteelSquare() ? 2 : 0)
+                | (player.isUnderBadLuckEffect() ? 4 : 0)
+                | (player.isCanNotPlaceTrap() ? 8 : 0)
+                | (player.getStealPlan() != null ? 16 : 0);
+        int state = game.getBoard().getType(player.getCurrentPositionIndex()).ordinal();
+        state = state * BALANCE_BUCKETS + balanceBucket(player.getBalance());
+        state = state * BALANCE_BUCKETS + balanceBucket(opponent.getBalance());
+        return (state << EFFECT_FLAGS) | effects;
+    }
+
+    private static int balanceBucket(double balance) {
+        int bucket = 0;
+        while (bucket < BALANCE_BUCKET_LIMITS.length && balance > BALANCE_BUCKET_LIMITS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    /**
+     * The decision memory of one bot on one thread.
+     */
+    private static final class Episode {
+        private final int[] choices = new int[MAX_CHOICES];
+        private int lastState = -1;
+        private int lastAction;
+        private SquareType stealTarget;
+        private double investAmount;
+        private Player investPlayer; // The player and turn of the last investment
+        private int investTurn;
+    }
+}
@@ -0,0 +1,185 @@
+package game.bots;
+
+import game.Game;
+import game.Simulator;
+import game.board.BoardSpec;
+import game.events.NoOpSink;
+import game.investments.MarketModel;
+import game.simulation.GameResult;
+import game.simulation.ChunkWindow;
+import game.simulation.RandomStreams;
+import game.simulation.ReseedableRandom;
+import game.simulation.SimulationRunner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Trains a {@link QLearningBotStrategy} table by self-play on all cores.
+ * <p>
+ * Every worker plays chunks of headless games between two learning bots that share one trainable
+ * {@link QTable}, on one game per chunk that is reset for every episode. Only a few chunks per thread are
+ * queued at a time, so a run of any length keeps a bounded number of tasks. Updates are lock-free compare-and-set operations on single entries, so workers never wait
+ * for each other. Every game draws from its own stream of the master seed, but the order in which the workers
+ * update the table depends on the scheduling, so training runs are not bit-for-bit reproducible.
+ */
+public class QLearningTrainer {
+
+    /**
+     * The file a trained table is saved to and loaded from by default.
+     */
+    public static final String DEFAULT_TABLE_FILE = "qtable.bin";
+
+    /**
+     * The value every entry starts with, the reward of a draw.
+     */
+    public static final float INITIAL_VALUE = 0.5f;
+
+    private static final float EPSILON = 0.1f;
+    private static final float LEARNING_RATE = 0.05f;
+    private static final float DISCOUNT = 0.99f;
+
+    private final QTable table;
+    private final int maxTurns;
+    private final long masterSeed;
+    private final int threads;
+    private final BoardSpec board;
+
+    /**
+     * Constructs a new QLearningTrainer object with a fresh table that trains on the standard board.
+     *
+     * @param maxTurns   The maximum number of player turns per training game.
+     * @param masterSeed The seed all training games are derived from.
+     * @param threads    The number of worker threads.
+     */
+    public QLearningTrainer(int maxTurns, long masterSeed, int threads) {
+        this(maxTurns, masterSeed, threads, BoardSpec.STANDARD);
+    }
+
+    /**
+     * Constructs a new QLearningTrainer object with a fresh table.
+     *
+     * @param maxTurns   The maximum number of player turns per training game.
+     * @param masterSeed The seed all training games are derived from.
+     * @param threads    The number of worker threads.
+     * @param board      The board and the movement dice of every training game.
+     */
+    public QLearningTrainer(int maxTurns, long masterSeed, int threads, BoardSpec board) {
+        if (maxTurns <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("The turn limit and the number of threads must be positive.");
+        }
+        this.table = QTable.create(QLearningBotStrategy.STATES, QLearningBotStrategy.ACTIONS, INITIAL_VALUE);
+        this.maxTurns = maxTurns;
+        this.masterSeed = masterSeed;
+        this.threads = threads;
+        this.board = board;
+    }
+
+    /**
+     * Gets the table being trained.
+     *
+     * @return The trainable table.
+     */
+    public QTable getTable() {
+        return table;
+    }
+
+    /**
+     * Plays the given number of self-play games and updates the table after every decision.
+     *
+     * @param games The number of training games.
+     */
+    public void train(long games) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            ChunkWindow<Long> window = new ChunkWindow<>(executor, threads);
+            for (long first = 0; first < games; first += SimulationRunner.CHUNK_SIZE) {
+                long firstGame = first;
+                long chunkGames = Math.min(SimulationRunner.CHUNK_SIZE, games - first);
+                window.submit(() -> trainChunk(firstGame, chunkGames), played -> { });
+            }
+            window.finish();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The training was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A training game failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a chunk of self-play games on the calling worker thread, on one game that is reset for every episode.
+     *
+     * @return The number of games played.
+     */
+    private long trainChunk(long firstGame, long games) {
+        QLearningBotStrategy first = new QLearningBotStrategy("Learner 1", table, true, EPSILON, LEARNING_RATE, DISCOUNT);
+        QLearningBotStrategy second = new QLearningBotStrategy("Learner 2", table, true, EPSILON, LEARNING_RATE, DISCOUNT);
+        Game game = Game.createHeadless(new ReseedableRandom(0), MarketModel.INDEPENDENT, NoOpSink.INSTANCE, board);
+        for (long i = firstGame; i < firstGame + games; i++) {
+            game.reset(RandomStreams.gameSeed(masterSeed, i));
+            GameResult result = game.playBotGame(maxTurns, first, second);
+            double firstReward = 0.5;
+            if (!result.isDraw()) {
+                firstReward = game.getPlayers().get(result.getWinnerIndex()).getStrategy() == first ? 1 : 0;
+            }
+            first.finishEpisode(firstReward);
+            second.finishEpisode(1 - firstReward);
+        }
+        return games;
+    }
+
+    /**
+     * Trains a table, saves it and plays the greedy bot of the saved table against the random bot.
+     *
+     * @param args Optional number of training games, number of threads, master seed and table file. The board is
+     *             read from the system properties of {@link BoardSpec#fromSystemProperties()}.
+     * @throws IOException If the table cannot be saved or loaded.
+     */
+    public static void main(String[] args) throws IOException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long masterSeed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+        Path file = Path.of(args.length > 3 ? args[3] : DEFAULT_TABLE_FILE);
+
+        BoardSpec board = BoardSpec.fromSystemProperties();
+        QLearningTrainer trainer = new QLearningTrainer(Simulator.DEFAULT_MAX_TURNS, masterSeed, threads, board);
+        long startTime = System.nanoTime();
+        trainer.train(games);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        trainer.getTable().save(file);
+
+        System.out.printf("Master seed: %d%n", masterSeed);
+        if (board != BoardSpec.STANDARD) {
+            System.out.printf("Board: %s%n", board);
+        }
+        System.out.printf("Trained on %d games on %d threads in %.2f s (%.0f games/s), saved to %s%n",
+                games, threads, seconds, games / seconds, file.toAbsolutePath());
+
+        // The evaluation uses the mapped file, exactly as a bot loads it
+        QLearningBotStrategy bot = new QLearningBotStrategy(QTable.load(file));
+        BotStrategy opponent = new RandomBotStrategy();
+        int evaluationGames = 2000;
+        int wins = 0;
+        int losses = 0;
+        Game game = Game.createHeadless(new ReseedableRandom(0), MarketModel.INDEPENDENT, NoOpSink.INSTANCE, board);
+        for (int i = 0; i < evaluationGames; i++) {
+            game.reset(RandomStreams.gameSeed(~masterSeed, i));
+            GameResult result = game.playBotGame(Simulator.DEFAULT_MAX_TURNS, bot, opponent);
+            if (!result.isDraw()) {
+                if (game.getPlayers().get(result.getWinnerIndex()).getStrategy() == bot) {
+                    wins++;
+                } else {
+                    losses++;
+                }
+            }
+        }
+        System.out.printf("Against the random bot: %d wins, %d losses, %d draws%n", wins, losses, evaluationGames - wins - losses);
+    }
+}
@@ -0,0 +1,172 @@
+package game.bots;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * A table of action values with one float per state and action, stored flat as {@code state * actions + action}.
+ * <p>
+ * A table created for training keeps its values as float bits in an {@link AtomicIntegerArray}, so any number
+ * of self-play threads can update it without locks; every update is a compare-and-set on a single entry.
+ * A saved table is loaded by memory-mapping its file read-only, so a bot starts without reading or copying it.
+ * <p>
+ * File format: the magic number, the number of states and the number of actions as ints,
+ * followed by the values as floats, all big-endian.
+ */
+public class QTable {
+
+    private static final int MAGIC = 0x51544231; // "QTB1"
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+
+    private final int states;
+    private final int actions;
+    private final AtomicIntegerArray trainingValues; // null for a loaded table
+    private final FloatBuffer mappedValues; // null for a table created for training
+
+    private QTable(int states, int actions, AtomicIntegerArray trainingValues, FloatBuffer mappedValues) {
+        this.states = states;
+        this.actions = actions;
+        this.trainingValues = trainingValues;
+        this.mappedValues = mappedValues;
+    }
+
+    /**
+     * Creates a table for training with every value set to the same initial value.
+     *
+     * @param states       The number of states.
+     * @param actions      The number of actions per state.
+     * @param initialValue The value of every entry.
+     * @return A new trainable table.
+     */
+    public static QTable create(int states, int actions, float initialValue) {
+        AtomicIntegerArray values = new AtomicIntegerArray(Math.multiplyExact(states, actions));
+        int bits = Float.floatToRawIntBits(initialValue);
+        for (int i = 0; i < values.length(); i++) {
+            values.set(i, bits);
+        }
+        return new QTable(states, actions, values, null);
+    }
+
+    /**
+     * Loads a saved table by mapping its file into memory. The table is read-only.
+     *
+     * @param file The file written by {@link #save(Path)}.
+     * @return The mapped table.
+     * @throws IOException If the file cannot be read or is not a table file.
+     */
+    public static QTable load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+                throw new IOException("Not a Q-table file: " + file);
+            }
+            int states = buffer.getInt();
+            int actions = buffer.getInt();
+            if ((long) states * actions * Float.BYTES != buffer.remaining()) {
+                throw new IOException("The Q-table file is truncated: " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            return new QTable(states, actions, null, buffer.asFloatBuffer());
+        }
+    }
+
+    /**
+     * Writes the table to a file, replacing it if it exists.
+     *
+     * @param file The file to write.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        buffer.putInt(MAGIC).putInt(states).putInt(actions);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            int size = states * actions;
+            for (int i = 0; i < size; i++) {
+                if (buffer.remaining() < Float.BYTES) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                buffer.putFloat(get(i));
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Gets the number of states.
+     *
+     * @return The number of states.
+     */
+    public int getStates() {
+        return states;
+    }
+
+    /**
+     * Gets the number of actions per state.
+     *
+     * @return The number of actions.
+     */
+    public int getActions() {
+        return actions;
+    }
+
+    /**
+     * Checks if the table can be updated.
+     *
+     * @return True for a table created for training, false for a loaded table.
+     */
+    public boolean isTrainable() {
+        return trainingValues != null;
+    }
+
+    /**
+     * Gets the value of an action in a state.
+     *
+     * @param state  The state index.
+     * @param action The action index.
+     * @return The action value.
+     */
+    public float get(int state, int action) {
+        return get(state * actions + action);
+    }
+
+    private float get(int index) {
+        return trainingValues != null ? Float.intBitsToFloat(trainingValues.get(index)) : mappedValues.get(index);
+    }
+
+    /**
+     * Moves the value of an action in a state towards a target, atomically with respect to other updates.
+     *
+     * @param state        The state index.
+     * @param action       The action index.
+     * @param target       The new estimate of the value.
+     * @param learningRate The share of the difference that is applied.
+     * @throws IllegalStateException If the table was loaded from a file.
+     */
+    public void update(int state, int action, float target, float learningRate) {
+        if (trainingValues == null) {
+            throw new IllegalStateException("A loaded Q-table is read-only.");
+        }
+        int index = state * actions + action;
+        while (true) {
+            int bits = trainingValues.get(index);
+            float value = Float.intBitsToFloat(bits);
+            float updated = value + learningRate * (target - value);
+            if (trainingValues.compareAndSet(index, bits, Float.floatToRawIntBits(updated))) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package game.bots;
+
+import game.Game;
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.players.Player;
+import game.traps.Trap;
+
+/**
+ * The original bot: every decision is a uniform random choice.
+ * It always sets a trap, sets a steal plan half of the time and keeps investing a random amount
+ * until it randomly decides to stop. The strategy is stateless and can be shared by all games.
+ */
+public class RandomBotStrategy implements BotStrategy {
+
+    private static final Trap[] TRAPS = Trap.values();
+    private static final SquareType[] STEAL_TARGETS = {SquareType.CHANCE, SquareType.TRAP, SquareType.STEAL};
+
+    @Override
+    public String getName() {
+        return "Random";
+    }
+
+    @Override
+    public Trap chooseTrap(Player player, Game game) {
+        return TRAPS[game.getRandom().nextInt(TRAPS.length)];
+    }
+
+    @Override
+    public boolean wantsStealPlan(Player player, Game game) {
+        return game.getRandom().nextInt(2) == 0;
+    }
+
+    @Override
+    public SquareType chooseStealTarget(Player player, Game game) {
+        return STEAL_TARGETS[game.getRandom().nextInt(STEAL_TARGETS.length)];
+    }
+
+    @Override
+    public Company chooseInvestment(Player player, Game game, Company first, Company second) {
+        return switch (game.getRandom().nextInt(3)) {
+            case 0 -> first;
+            case 1 -> second;
+            default -> null;
+        };
+    }
+
+    @Override
+    public double chooseInvestmentAmount(Player player, Game game, Company company) {
+        return (int) game.getRandom().nextDouble(company.getMinInvestment(), player.getBalance());
+    }
+}
@@ -1,13 +1,62 @@
 package game.dice;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * The Dice class simulates rolling a dice with a variable number of sides.
  * It provides methods to generate random number for different game mechanics.
+ * Every game owns its own Dice, so games running on different threads never share a generator.
+ * <p>
+ * Rolls are not drawn one at a time. Every 64-bit draw from the generator is split into many rolls
+ * that are kept in primitive buffers and handed out until the buffer is empty:
+ * <ul>
+ *     <li>a 2-sided roll uses a single bit, so one draw gives 64 rolls;</li>
+ *     <li>10- and 100-sided rolls use 32 bits each, so one draw gives 2 rolls;</li>
+ *     <li>rolls with any other number of sides, for {@link MovementDice}, use 32 bits each as well.</li>
+ * </ul>
+ * A 32-bit value {@code u} is mapped to a roll with {@code (u * sides) >>> 32}, which needs no rejection
+ * loop. Its bias is below {@code sides / 2^32}, far beyond what any simulation can observe.
+ * A Dice belongs to one game and is not thread-safe.
  */
 public class Dice {
-    private final static Random random = new Random();
+    /**
+     * The number of rolls pre-filled into the 10- and 100-sided buffers at once.
+     */
+    private static final int BUFFER_SIZE = 64;
+
+    private final RandomGenerator random;
+
+    private long twoSidedBits; // Unused random bits, one per 2-sided roll
+    private int twoSidedBitsLeft;
+
+    private final byte[] tenSidedRolls = new byte[BUFFER_SIZE];
+    private int tenSidedIndex = BUFFER_SIZE;
+
+    private final byte[] hundredSidedRolls = new byte[BUFFER_SIZE];
+    private int hundredSidedIndex = BUFFER_SIZE;
+
+    private long spareBits; // The unused low half of the last draw of roll(sides)
+    private boolean hasSpareBits;
+
+    /**
+     * Constructs a new Dice object.
+     *
+     * @param random The generator the rolls are drawn from. It is used by this game only.
+     */
+    public Dice(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Discards all buffered rolls, so the next rolls are drawn fresh from the generator.
+     * Used when the game reseeds its generator to start a new game.
+     */
+    public void reset() {
+        twoSidedBitsLeft = 0;
+        tenSidedIndex = BUFFER_SIZE;
+        hundredSidedIndex = BUFFER_SIZE;
+        hasSpareBits = false;
+    }
 
     /**
      * Rolls a 2-sided dice for player movement.
@@ -15,8 +64,15 @@ public class Dice {
      *
      * @return A random integer (1 or 2).
      */
-    public static int rollTwoSidedDice() {
-        return random.nextInt(1, 3);
+    public int rollTwoSidedDice() {
+        if (twoSidedBitsLeft == 0) {
+            twoSidedBits = random.nextLong();
+            twoSidedBitsLeft = Long.SIZE;
+        }
+        int roll = (int) (twoSidedBits & 1) + 1;
+        twoSidedBits >>>= 1;
+        twoSidedBitsLeft--;
+        return roll;
     }
 
     /**
@@ -26,8 +82,12 @@ public class Dice {
      *
      * @return A random integer (1-10).
      */
-    public static int rollTenSidedDice() {
-        return random.nextInt(1, 11);
+    public int rollTenSidedDice() {
+        if (tenSidedIndex == BUFFER_SIZE) {
+            fill(tenSidedRolls, 10);
+            tenSidedIndex = 0;
+        }
+        return tenSidedRolls[tenSidedIndex++];
     }
 
     /**
@@ -37,7 +97,45 @@ public class Dice {
      *
      * @return A random integer (1-100).
      */
-    public static int rollHundredSidedDice() {
-        return random.nextInt(1, 101);
+    public int rollHundredSidedDice() {
+        if (hundredSidedIndex == BUFFER_SIZE) {
+            fill(hundredSidedRolls, 100);
+            hundredSidedIndex = 0;
+        }
+        return hundredSidedRolls[hundredSidedIndex++];
+    }
+
+    /**
+     * Rolls a dice with any number of sides, used for configurable movement.
+     * The result is a random integer between 1 and sides, inclusive.
+     *
+     * @param sides The number of sides of the dice, at least 1.
+     * @return A random integer (1-sides).
+     */
+    public int roll(int sides) {
+        long bits;
+        if (hasSpareBits) {
+            bits = spareBits & 0xFFFFFFFFL;
+            hasSpareBits = false;
+        } else {
+            spareBits = random.nextLong();
+            hasSpareBits = true;
+            bits = spareBits >>> 32;
+        }
+        return (int) ((bits * sides) >>> 32) + 1;
+    }
+
+    /**
+     * Fills a roll buffer, taking two rolls from every 64-bit draw.
+     *
+     * @param rolls The buffer to fill.
+     * @param sides The number of sides of the dice, at most 127.
+     */
+    private void fill(byte[] rolls, int sides) {
+        for (int i = 0; i < rolls.length; i += 2) {
+            long bits = random.nextLong();
+            rolls[i] = (byte) (((bits >>> 32) * sides >>> 32) + 1);
+            rolls[i + 1] = (byte) (((bits & 0xFFFFFFFFL) * sides >>> 32) + 1);
+        }
     }
 }
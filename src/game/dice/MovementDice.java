@@ -0,0 +1,163 @@
+package game.dice;
+
+/**
+ * The dice a player rolls to move: a number of dice with the same number of sides, written as {@code 2d6}.
+ * The steps of a move are the sum of the rolls. The original game moves with a single 2-sided dice,
+ * {@link #STANDARD}, whose rolls come from the 2-sided bit buffer of {@link Dice}, so games on the
+ * standard board draw exactly the same numbers as before the dice were configurable.
+ * <p>
+ * Movement dice are immutable and shared by all games.
+ */
+public class MovementDice {
+
+    /**
+     * The single 2-sided dice of the original game.
+     */
+    public static final MovementDice STANDARD = new MovementDice(1, 2);
+
+    /**
+     * The largest number of dice rolled per move.
+     */
+    public static final int MAX_DICE = 100;
+
+    /**
+     * The largest number of steps a single move may have.
+     */
+    public static final int MAX_STEPS = 1 << 16;
+
+    private final int count;
+    private final int sides;
+    private final double[] stepProbabilities; // Indexed by the number of steps
+
+    /**
+     * Constructs a new MovementDice object.
+     *
+     * @param count The number of dice rolled per move, at least 1.
+     * @param sides The number of sides of every dice, at least 1.
+     * @throws IllegalArgumentException If there are no dice or sides, more than {@link #MAX_DICE} dice,
+     *                                  or a move could exceed {@link #MAX_STEPS}.
+     */
+    public MovementDice(int count, int sides) {
+        if (count < 1 || sides < 1) {
+            throw new IllegalArgumentException("The number of dice and of their sides must be positive: " + count + "d" + sides);
+        }
+        if (count > MAX_DICE) {
+            throw new IllegalArgumentException("At most " + MAX_DICE + " dice can be rolled per move: " + count);
+        }
+        if ((long) count * sides > MAX_STEPS) {
+            throw new IllegalArgumentException("A move of " + count + "d" + sides + " could exceed " + MAX_STEPS + " steps.");
+        }
+        this.count = count;
+        this.sides = sides;
+        this.stepProbabilities = computeStepProbabilities(count, sides);
+    }
+
+    /**
+     * Parses movement dice written as {@code <count>d<sides>}, for example {@code 2d6}. The count may be left out.
+     *
+     * @param text The text of the dice.
+     * @return The movement dice.
+     * @throws IllegalArgumentException If the text is not a valid dice.
+     */
+    public static MovementDice parse(String text) {
+        String trimmed = text.trim().toLowerCase();
+        int separator = trimmed.indexOf('d');
+        if (separator < 0) {
+            throw new IllegalArgumentException("Movement dice must be written as <count>d<sides>: " + text);
+        }
+        try {
+            int count = separator == 0 ? 1 : Integer.parseInt(trimmed.substring(0, separator));
+            return new MovementDice(count, Integer.parseInt(trimmed.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Movement dice must be written as <count>d<sides>: " + text, e);
+        }
+    }
+
+    /**
+     * Rolls the dice of one move.
+     *
+     * @param dice The dice of the game the player is moving in.
+     * @return The number of steps, between {@link #getMinSteps()} and {@link #getMaxSteps()}.
+     */
+    public int roll(Dice dice) {
+        int steps = 0;
+        for (int i = 0; i < count; i++) {
+            steps += sides == 2 ? dice.rollTwoSidedDice() : dice.roll(sides);
+        }
+        return steps;
+    }
+
+    /**
+     * Gets the number of dice rolled per move.
+     *
+     * @return The number of dice.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the number of sides of every dice.
+     *
+     * @return The number of sides.
+     */
+    public int getSides() {
+        return sides;
+    }
+
+    /**
+     * Gets the smallest number of steps of a move.
+     *
+     * @return The number of dice, as every dice shows at least 1.
+     */
+    public int getMinSteps() {
+        return count;
+    }
+
+    /**
+     * Gets the largest number of steps of a move.
+     *
+     * @return The number of dice times their sides.
+     */
+    public int getMaxSteps() {
+        return count * sides;
+    }
+
+    /**
+     * Gets the probability of a move of the given number of steps.
+     *
+     * @param steps The number of steps.
+     * @return The probability, 0 outside of the possible moves.
+     */
+    public double getStepProbability(int steps) {
+        return steps >= 0 && steps < stepProbabilities.length ? stepProbabilities[steps] : 0;
+    }
+
+    /**
+     * Computes the distribution of the sum of the dice by convolving the distribution of a single dice once per dice.
+     * Every convolution with the uniform dice is a moving sum, taken from the running totals of the previous sum.
+     */
+    private static double[] computeStepProbabilities(int count, int sides) {
+        double[] probabilities = {1}; // Zero dice always sum to 0
+        for (int die = 0; die < count; die++) {
+            double[] totals = new double[probabilities.length + 1]; // totals[i] is the probability of a sum below i
+            for (int sum = 0; sum < probabilities.length; sum++) {
+                totals[sum + 1] = totals[sum] + probabilities[sum];
+            }
+            double[] next = new double[probabilities.length + sides];
+            for (int sum = 1; sum < next.length; sum++) {
+                // The previous sums sum - sides to sum - 1 reach this sum with one face each
+                int from = Math.max(0, sum - sides);
+                int to = Math.min(probabilities.length, sum);
+                next[sum] = from < to ? Math.max(0, totals[to] - totals[from]) / sides : 0; // No rounding below 0
+            }
+            probabilities = next;
+        }
+        return probabilities;
+    }
+
+    @Override
+    public String toString() {
+        return count + "d" + sides;
+    }
+}
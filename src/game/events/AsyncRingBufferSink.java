@@ -0,0 +1,397 @@
+package game.events;
+
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.players.Player;
+import game.simulation.GameResult;
+import game.traps.Trap;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands events to another sink on a background thread, so the threads that play games never write output.
+ * <p>
+ * Events are copied into the pre-allocated slots of a ring buffer; nothing is allocated per event.
+ * Any number of games on any threads may publish to the same sink. Every publisher claims the next
+ * sequence number, fills its slot and marks it as published. The background thread hands the events to
+ * the delegate in sequence order, in batches of up to {@link #BATCH_SIZE}, and flushes the delegate after
+ * every batch, so a console renderer on a buffered stream writes one block per batch instead of one
+ * synchronized call per line. When the ring is full, publishers wait for the background thread.
+ * <p>
+ * The sink must be closed after the last event to write out the rest and stop the background thread.
+ */
+public class AsyncRingBufferSink implements GameEventSink, AutoCloseable {
+
+    /**
+     * The default number of slots.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 14;
+
+    /**
+     * The maximum number of events handed to the delegate between two flushes.
+     */
+    public static final int BATCH_SIZE = 256;
+
+    private static final long IDLE_PARK_NANOS = 100_000;
+    private static final long FULL_PARK_NANOS = 10_000;
+
+    private enum Kind {
+        LAYOUT, FIRST_PLAYER, TURN, MOVED, LANDED, BALANCE, TRAP_OFFERED, TRAP_SET, TRAP_TRIGGERED, STEAL_PLAN,
+        INVESTMENT_OFFERED, AMOUNT_REQUESTED, INVESTED, SETTLEMENT_STARTED, SETTLED, SETTLEMENT_FINISHED,
+        NEUTRAL_TURN, BANKRUPT, GAME_ENDED, PLAYER_MESSAGE, MESSAGE, PROMPT
+    }
+
+    private final GameEventSink delegate;
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(); // The next sequence number to claim
+    private final AtomicLongArray published; // The sequence number last published in every slot
+    private volatile long consumed; // Every event before this sequence number has been handed over and flushed
+    private volatile boolean closed;
+    private final Thread consumer;
+
+    /**
+     * Constructs a new AsyncRingBufferSink object and starts its background thread.
+     *
+     * @param delegate The sink the events are handed to. It is only called from the background thread.
+     * @param capacity The number of slots, a power of two.
+     */
+    public AsyncRingBufferSink(GameEventSink delegate, int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two.");
+        }
+        this.delegate = delegate;
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        consumer = new Thread(this::consume, "game-events");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * Creates a sink that renders the events to the console through a buffered stream.
+     *
+     * @return A new AsyncRingBufferSink with the default capacity.
+     */
+    public static AsyncRingBufferSink console() {
+        PrintStream output = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16), false);
+        return new AsyncRingBufferSink(new ConsoleRenderer(output), DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public void layoutShown(String layout) {
+        Slot slot = claim(Kind.LAYOUT);
+        slot.text = layout;
+        publish(slot);
+    }
+
+    @Override
+    public void firstPlayerChosen(Player player) {
+        Slot slot = claim(Kind.FIRST_PLAYER);
+        slot.player = player;
+        publish(slot);
+    }
+
+    @Override
+    public void turnStarted(Player player, PlayerStatus status) {
+        Slot slot = claim(Kind.TURN);
+        slot.player = player;
+        if (slot.status == null) {
+            slot.status = new PlayerStatus(); // Allocated once per slot
+        }
+        slot.status.copyFrom(status);
+        publish(slot);
+    }
+
+    @Override
+    public void moved(Player player, int steps, int position) {
+        Slot slot = claim(Kind.MOVED);
+        slot.player = player;
+        slot.first = steps;
+        slot.second = position;
+        publish(slot);
+    }
+
+    @Override
+    public void landed(Player player, SquareType type) {
+        Slot slot = claim(Kind.LANDED);
+        slot.player = player;
+        slot.ref = type;
+        publish(slot);
+    }
+
+    @Override
+    public void balanceChanged(Player player, BalanceChange reason, double amount, double balance) {
+        Slot slot = claim(Kind.BALANCE);
+        slot.player = player;
+        slot.ref = reason;
+        slot.x = amount;
+        slot.y = balance;
+        publish(slot);
+    }
+
+    @Override
+    public void trapOffered(Player player) {
+        Slot slot = claim(Kind.TRAP_OFFERED);
+        slot.player = player;
+        publish(slot);
+    }
+
+    @Override
+    public void trapSet(Player owner, Trap trap) {
+        Slot slot = claim(Kind.TRAP_SET);
+        slot.player = owner;
+        slot.ref = trap;
+        publish(slot);
+    }
+
+    @Override
+    public void trapTriggered(Player player, Trap trap) {
+        Slot slot = claim(Kind.TRAP_TRIGGERED);
+        slot.player = player;
+        slot.ref = trap;
+        publish(slot);
+    }
+
+    @Override
+    public void stealPlanSet(Player player, SquareType target) {
+        Slot slot = claim(Kind.STEAL_PLAN);
+        slot.player = player;
+        slot.ref = target;
+        publish(slot);
+    }
+
+    @Override
+    public void investmentOffered(Player player, Company first, Company second) {
+        Slot slot = claim(Kind.INVESTMENT_OFFERED);
+        slot.player = player;
+        slot.ref = first;
+        slot.otherRef = second;
+        publish(slot);
+    }
+
+    @Override
+    public void amountRequested(Player player, Company company, double balance) {
+        Slot slot = claim(Kind.AMOUNT_REQUESTED);
+        slot.player = player;
+        slot.ref = company;
+        slot.x = balance;
+        publish(slot);
+    }
+
+    @Override
+    public void invested(Player player, Company company, double amount) {
+        Slot slot = claim(Kind.INVESTED);
+        slot.player = player;
+        slot.ref = company;
+        slot.x = amount;
+        publish(slot);
+    }
+
+    @Override
+    public void settlementStarted(Player player) {
+        Slot slot = claim(Kind.SETTLEMENT_STARTED);
+        slot.player = player;
+        publish(slot);
+    }
+
+    @Override
+    public void settled(Player player, Company company, double invested, double change, double balance) {
+        Slot slot = claim(Kind.SETTLED);
+        slot.player = player;
+        slot.ref = company;
+        slot.x = invested;
+        slot.y = change;
+        slot.z = balance;
+        publish(slot);
+    }
+
+    @Override
+    public void settlementFinished(Player player) {
+        Slot slot = claim(Kind.SETTLEMENT_FINISHED);
+        slot.player = player;
+        publish(slot);
+    }
+
+    @Override
+    public void neutralTurn(Player player, int turnsLeft) {
+        Slot slot = claim(Kind.NEUTRAL_TURN);
+        slot.player = player;
+        slot.first = turnsLeft;
+        publish(slot);
+    }
+
+    @Override
+    public void bankrupt(Player loser, Player winner) {
+        Slot slot = claim(Kind.BANKRUPT);
+        slot.player = loser;
+        slot.ref = winner;
+        publish(slot);
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+        Slot slot = claim(Kind.GAME_ENDED);
+        slot.ref = result;
+        publish(slot);
+    }
+
+    @Override
+    public void message(Player player, String text) {
+        Slot slot = claim(Kind.PLAYER_MESSAGE);
+        slot.player = player;
+        slot.text = text;
+        publish(slot);
+    }
+
+    @Override
+    public void message(String text) {
+        Slot slot = claim(Kind.MESSAGE);
+        slot.text = text;
+        publish(slot);
+    }
+
+    @Override
+    public void prompt(String text) {
+        Slot slot = claim(Kind.PROMPT);
+        slot.text = text;
+        publish(slot);
+    }
+
+    /**
+     * Waits until every event published so far has been handed to the delegate and flushed.
+     */
+    @Override
+    public void flush() {
+        long target = claimed.get();
+        while (consumed < target) {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Writes out all published events and stops the background thread. No event may be published afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Claims the next slot, waiting while the ring is full.
+     */
+    private Slot claim(Kind kind) {
+        long sequence = claimed.getAndIncrement();
+        while (sequence - consumed >= slots.length) {
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        Slot slot = slots[(int) (sequence & mask)];
+        slot.sequence = sequence;
+        slot.kind = kind;
+        return slot;
+    }
+
+    /**
+     * Makes a filled slot visible to the background thread.
+     */
+    private void publish(Slot slot) {
+        published.set((int) (slot.sequence & mask), slot.sequence);
+    }
+
+    /**
+     * The loop of the background thread.
+     */
+    private void consume() {
+        long next = 0;
+        while (true) {
+            int count = 0;
+            while (count < BATCH_SIZE && published.get((int) (next & mask)) == next) {
+                dispatch(slots[(int) (next & mask)]);
+                next++;
+                count++;
+            }
+            if (count > 0) {
+                delegate.flush();
+                consumed = next;
+            } else if (closed && claimed.get() == next) {
+                return;
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Hands the event of a slot to the delegate and releases the references it holds.
+     */
+    private void dispatch(Slot slot) {
+        Player player = slot.player;
+        switch (slot.kind) {
+            case LAYOUT -> delegate.layoutShown(slot.text);
+            case FIRST_PLAYER -> delegate.firstPlayerChosen(player);
+            case TURN -> delegate.turnStarted(player, slot.status);
+            case MOVED -> delegate.moved(player, slot.first, slot.second);
+            case LANDED -> delegate.landed(player, (SquareType) slot.ref);
+            case BALANCE -> delegate.balanceChanged(player, (BalanceChange) slot.ref, slot.x, slot.y);
+            case TRAP_OFFERED -> delegate.trapOffered(player);
+            case TRAP_SET -> delegate.trapSet(player, (Trap) slot.ref);
+            case TRAP_TRIGGERED -> delegate.trapTriggered(player, (Trap) slot.ref);
+            case STEAL_PLAN -> delegate.stealPlanSet(player, (SquareType) slot.ref);
+            case INVESTMENT_OFFERED -> delegate.investmentOffered(player, (Company) slot.ref, (Company) slot.otherRef);
+            case AMOUNT_REQUESTED -> delegate.amountRequested(player, (Company) slot.ref, slot.x);
+            case INVESTED -> delegate.invested(player, (Company) slot.ref, slot.x);
+            case SETTLEMENT_STARTED -> delegate.settlementStarted(player);
+            case SETTLED -> delegate.settled(player, (Company) slot.ref, slot.x, slot.y, slot.z);
+            case SETTLEMENT_FINISHED -> delegate.settlementFinished(player);
+            case NEUTRAL_TURN -> delegate.neutralTurn(player, slot.first);
+            case BANKRUPT -> delegate.bankrupt(player, (Player) slot.ref);
+            case GAME_ENDED -> delegate.gameEnded((GameResult) slot.ref);
+            case PLAYER_MESSAGE -> delegate.message(player, slot.text);
+            case MESSAGE -> delegate.message(slot.text);
+            case PROMPT -> delegate.prompt(slot.text);
+        }
+        slot.player = null;
+        slot.ref = null;
+        slot.otherRef = null;
+        slot.text = null;
+    }
+
+    /**
+     * One event in the ring. The fields are reused by every event that passes through the slot.
+     */
+    private static final class Slot {
+        private long sequence;
+        private Kind kind;
+        private Player player;
+        private Object ref; // The square type, trap, company, reason, other player or result of the event
+        private Object otherRef;
+        private String text;
+        private int first;
+        private int second;
+        private double x;
+        private double y;
+        private double z;
+        private PlayerStatus status;
+    }
+}
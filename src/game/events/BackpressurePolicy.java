@@ -0,0 +1,18 @@
+package game.events;
+
+/**
+ * What a {@link GameEventPublisher} does when the buffer of a subscriber is full
+ * because the subscriber requests events more slowly than the games produce them.
+ */
+public enum BackpressurePolicy {
+    /**
+     * The game waits until the subscriber requests more events. No event is lost,
+     * but a subscriber that stops requesting stops the game.
+     */
+    PAUSE,
+    /**
+     * The game goes on and the events that do not fit are counted into a single summary event,
+     * which is delivered once the subscriber catches up.
+     */
+    SUMMARIZE
+}
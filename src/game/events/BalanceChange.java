@@ -0,0 +1,32 @@
+package game.events;
+
+/**
+ * The reasons for a change of a player's balance that are reported with
+ * {@link GameEventSink#balanceChanged}. Investments and their settlement have their own events.
+ */
+public enum BalanceChange {
+    /**
+     * The bonus paid on the Start square.
+     */
+    START_BONUS,
+    /**
+     * The cost of a Party Hard square.
+     */
+    PARTY_COST,
+    /**
+     * A positive Chance card.
+     */
+    CHANCE_GAIN,
+    /**
+     * A negative Chance card.
+     */
+    CHANCE_LOSS,
+    /**
+     * The reward of a steal plan that was triggered.
+     */
+    STEAL_PLAN_REWARD,
+    /**
+     * The share of the balance taken by a Tax Audit trap.
+     */
+    TAX_AUDIT
+}
@@ -0,0 +1,198 @@
+package game.events;
+
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.players.Player;
+import game.traps.Trap;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Renders game events as the text of the interactive game. Every event is written to the stream
+ * when it is published, so prompts always appear before the game waits for input.
+ */
+public class ConsoleRenderer implements GameEventSink {
+
+    private final PrintStream output;
+
+    /**
+     * Constructs a new ConsoleRenderer object.
+     *
+     * @param output The stream the text is written to, usually System.out.
+     */
+    public ConsoleRenderer(PrintStream output) {
+        this.output = output;
+    }
+
+    @Override
+    public void layoutShown(String layout) {
+        output.println();
+        output.println(layout);
+    }
+
+    @Override
+    public void firstPlayerChosen(Player player) {
+        output.println("\n--- Determining First Player ---");
+        output.println("The first player is: " + player.getName() + "!");
+    }
+
+    @Override
+    public void turnStarted(Player player, PlayerStatus status) {
+        output.println("\n===== " + player.getName() + "'s Turn =====");
+        output.printf("Balance: %.2f%n", status.getBalance());
+        output.printf("Current position: %d (%s)%n", status.getPosition() + 1, status.getSquareType());
+        output.println("Steal Plan: " + (status.getStealPlan() != null ? "Active (" + status.getStealPlan() + ")" : "None"));
+        output.println("Investments (" + status.getCompanyCount() + "): ");
+        if (status.getCompanyCount() == 0) {
+            output.println("\t- None");
+        } else {
+            List<Company> companies = InvestmentManager.getAllCompanies();
+            for (int i = 0; i < companies.size(); i++) {
+                if (status.getInvested(i) > 0) {
+                    output.printf("\t- %s: %.2f invested%n", companies.get(i).getName(), status.getInvested(i));
+                }
+            }
+        }
+        output.println("Turns in Neutral State: " + status.getTurnsInNeutralState());
+        output.println("Cannot Use Steal Square: " + status.isCanNotUseStealSquare());
+        output.println("Is Under Bad Luck Effect: " + status.isUnderBadLuckEffect());
+        output.println("Cannot Place Trap: " + status.isCanNotPlaceTrap());
+    }
+
+    @Override
+    public void moved(Player player, int steps, int position) {
+        output.println(player.getName() + " moved " + steps + " steps forward.");
+        output.println("(Position : " + (position + 1) + ")");
+    }
+
+    @Override
+    public void landed(Player player, SquareType type) {
+        switch (type) {
+            case START -> output.println(player.getName() + " landed on " + type);
+            case INVEST -> output.println(player.getName() + " landed on " + type + " square.");
+            case PARTY_HARD -> output.println(player.getName() + " has passed through the " + type + " square.");
+            default -> output.println(player.getName() + " landed on a " + type + " square.");
+        }
+    }
+
+    @Override
+    public void balanceChanged(Player player, BalanceChange reason, double amount, double balance) {
+        switch (reason) {
+            case START_BONUS -> output.println(player.getName() + " received " + amount + " money. New balance: " + balance);
+            case PARTY_COST -> output.println(player.getName() + " paid " + amount + " for the party. New balance: " + balance);
+            case CHANCE_GAIN -> output.println(player.getName() + " received " + (int) amount);
+            case CHANCE_LOSS -> output.println(player.getName() + " loses " + (int) amount);
+            case STEAL_PLAN_REWARD -> output.println("Success! " + player.getName() + " gained " + (int) amount + " money because of your steal plan!");
+            case TAX_AUDIT -> {
+                // The trap description already explains the loss
+            }
+        }
+    }
+
+    @Override
+    public void trapOffered(Player player) {
+        output.println("\nDo you want to set a trap, " + player.getName() + "?");
+        output.println("*(1) Tax Audit (10 money, 10% of profit)");
+        output.println("*(2) Cat Divorce (20 money, dice roll 2 or 8)");
+        output.println("*(3) Propaganda (100 money, cannot set)");
+        output.println("*(4) Seeing the Light (50 money, Steal right)");
+        output.println("*(5) Gambling Boss (100 money, Chance square)");
+        output.println("*(N) No, thanks, I don't believe in evil");
+        output.print("Your choice: ");
+    }
+
+    @Override
+    public void trapSet(Player owner, Trap trap) {
+        output.println(owner.getName() + " successfully set a trap of type: " + trap.getType());
+    }
+
+    @Override
+    public void trapTriggered(Player player, Trap trap) {
+        output.println("You landed on an enemy trap.");
+        output.println(trap.getDescription());
+    }
+
+    @Override
+    public void stealPlanSet(Player player, SquareType target) {
+        output.println("Your steal plan is now active for " + target + " squares.");
+    }
+
+    @Override
+    public void investmentOffered(Player player, Company first, Company second) {
+        output.printf("""
+                        Инвестирайте разумно и изберете компания:
+                        (1): %s | min : %f | risk/reward : %f
+                        (2): %s | min : %f | risk/reward : %f
+                        (N): Не ми се инвестира!
+                        Your choice:%n""", first.getName(), first.getMinInvestment(), first.getReturnCoefficient(),
+                second.getName(), second.getMinInvestment(), second.getReturnCoefficient());
+    }
+
+    @Override
+    public void amountRequested(Player player, Company company, double balance) {
+        output.printf("""
+                \nYou chose to invest in "%s". Please enter the amount you wish to invest,
+                or press 'N' to return to the previous menu:
+                Current balance: %.2f
+                Your amount: %n""", company.getName(), balance);
+    }
+
+    @Override
+    public void invested(Player player, Company company, double amount) {
+        output.printf("Successfully invested %f in %s!%n", amount, company.getName());
+    }
+
+    @Override
+    public void settlementStarted(Player player) {
+        output.println("\n--- Processing Investments for " + player.getName() + " ---");
+    }
+
+    @Override
+    public void settled(Player player, Company company, double invested, double change, double balance) {
+        output.printf("  Investment in %s (invested %.2f): You %s %.2f. New balance: %.2f%n",
+                company.getName(), invested, change >= 0 ? "gained" : "lost", Math.abs(change), balance);
+    }
+
+    @Override
+    public void settlementFinished(Player player) {
+        output.println("--- Investments Processed ---");
+    }
+
+    @Override
+    public void neutralTurn(Player player, int turnsLeft) {
+        output.println("Не може да печелите и губите пари още " + turnsLeft + " пъти.");
+    }
+
+    @Override
+    public void bankrupt(Player loser, Player winner) {
+        output.println("\n----------------------------------------");
+        output.println(loser.getName() + " has run out of money!");
+        output.println("GAME OVER!");
+        if (winner != null) {
+            output.println("The winner is " + winner.getName() + "!");
+        }
+        output.println("----------------------------------------");
+    }
+
+    @Override
+    public void message(Player player, String text) {
+        output.println(player.getName() + " " + text);
+    }
+
+    @Override
+    public void message(String text) {
+        output.println(text);
+    }
+
+    @Override
+    public void prompt(String text) {
+        output.print(text);
+    }
+
+    @Override
+    public void flush() {
+        output.flush();
+    }
+}
@@ -0,0 +1,149 @@
+package game.events;
+
+import game.board.squares.SquareType;
+
+/**
+ * An immutable event published by a {@link GameEventPublisher}.
+ * Which fields are set depends on the type:
+ * <ul>
+ *     <li>TURN_STARTED: the player and their balance;</li>
+ *     <li>SQUARE_ACTION: the player, their balance and the square type;</li>
+ *     <li>BALANCE_CHANGED: the player, the signed amount and the new balance;</li>
+ *     <li>GAME_ENDED: the winner and their balance, or no player for a draw, and the number of turns;</li>
+ *     <li>SUMMARY: the number of dropped events, the number of games that ended among them
+ *     and the net amount of the dropped balance changes.</li>
+ * </ul>
+ */
+public class GameEvent {
+
+    private final GameEventType type;
+    private final long gameIndex;
+    private final int turn;
+    private final String player;
+    private final SquareType square;
+    private final double amount;
+    private final double balance;
+    private final long dropped;
+    private final long droppedGames;
+
+    /**
+     * Constructs a new GameEvent object.
+     *
+     * @param type         The type of the event.
+     * @param gameIndex    The index of the game the event belongs to.
+     * @param turn         The number of completed turns of the game.
+     * @param player       The name of the player, or null.
+     * @param square       The square type, or null.
+     * @param amount       The signed balance change, 0 if there is none.
+     * @param balance      The balance of the player after the event.
+     * @param dropped      The number of events a summary stands for.
+     * @param droppedGames The number of game ends a summary stands for.
+     */
+    GameEvent(GameEventType type, long gameIndex, int turn, String player, SquareType square,
+              double amount, double balance, long dropped, long droppedGames) {
+        this.type = type;
+        this.gameIndex = gameIndex;
+        this.turn = turn;
+        this.player = player;
+        this.square = square;
+        this.amount = amount;
+        this.balance = balance;
+        this.dropped = dropped;
+        this.droppedGames = droppedGames;
+    }
+
+    /**
+     * Gets the type of the event.
+     *
+     * @return The event type.
+     */
+    public GameEventType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the index of the game the event belongs to. A summary belongs to the game of its last dropped event.
+     *
+     * @return The game index.
+     */
+    public long getGameIndex() {
+        return gameIndex;
+    }
+
+    /**
+     * Gets the number of turns the game had completed when the event happened.
+     *
+     * @return The turn number.
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Gets the name of the player of the event; for GAME_ENDED the name of the winner.
+     *
+     * @return The player name, or null if the event has no player or the game was a draw.
+     */
+    public String getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the type of the square of a SQUARE_ACTION event.
+     *
+     * @return The square type, or null for other events.
+     */
+    public SquareType getSquare() {
+        return square;
+    }
+
+    /**
+     * Gets the signed balance change of a BALANCE_CHANGED event, or the net change of the dropped events
+     * of a SUMMARY.
+     *
+     * @return The amount, negative for a loss.
+     */
+    public double getAmount() {
+        return amount;
+    }
+
+    /**
+     * Gets the balance of the player after the event.
+     *
+     * @return The balance.
+     */
+    public double getBalance() {
+        return balance;
+    }
+
+    /**
+     * Gets the number of dropped events a SUMMARY stands for.
+     *
+     * @return The number of dropped events, 0 for other events.
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * Gets the number of GAME_ENDED events among the dropped events of a SUMMARY.
+     *
+     * @return The number of dropped game ends, 0 for other events.
+     */
+    public long getDroppedGames() {
+        return droppedGames;
+    }
+
+    @Override
+    public String toString() {
+        return switch (type) {
+            case TURN_STARTED -> String.format("game %d turn %d: %s starts with %.2f", gameIndex, turn, player, balance);
+            case SQUARE_ACTION -> String.format("game %d turn %d: %s on %s", gameIndex, turn, player, square);
+            case BALANCE_CHANGED -> String.format("game %d turn %d: %s %+.2f = %.2f", gameIndex, turn, player, amount, balance);
+            case GAME_ENDED -> String.format("game %d ended after %d turns: %s", gameIndex, turn,
+                    player != null ? player + " wins" : "draw");
+            case SUMMARY -> String.format("summary up to game %d: %d events dropped, %d games ended, net %+.2f",
+                    gameIndex, dropped, droppedGames, amount);
+        };
+    }
+}
@@ -0,0 +1,294 @@
+package game.events;
+
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.players.Player;
+import game.simulation.GameResult;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Publishes the events of a game, or of a batch of games played one after another, as a
+ * {@link Flow.Publisher}. The publisher is the event sink of the games, so it is attached with
+ * {@link game.Game#createHeadless(java.util.random.RandomGenerator, game.investments.MarketModel, GameEventSink)}
+ * or for a whole simulation batch with {@link game.simulation.SimulationRunner#run(long, java.util.function.LongFunction, BackpressurePolicy)}.
+ * <p>
+ * Every subscriber has its own buffer of at most {@code bufferSize} events. Events are delivered only as far as
+ * the subscriber has requested them, either on the game thread right after they are published or on the thread
+ * that calls {@link Flow.Subscription#request(long)}, never concurrently. When a buffer is full the
+ * {@link BackpressurePolicy} decides whether the game waits or the events are summarized, so a slow subscriber
+ * never makes the publisher keep the whole history of a game. Without subscribers no event is created.
+ * <p>
+ * The games must be played on one thread at a time. {@link #close()} completes all subscriptions.
+ */
+public class GameEventPublisher implements Flow.Publisher<GameEvent>, GameEventSink, AutoCloseable {
+
+    /**
+     * The default number of events buffered per subscriber.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final BackpressurePolicy policy;
+    private final int bufferSize;
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private long gameIndex; // The index of the game being played
+    private int turn; // Completed turns of the game being played
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new GameEventPublisher object.
+     *
+     * @param policy         What happens when the buffer of a subscriber is full.
+     * @param bufferSize     The number of events buffered per subscriber.
+     * @param firstGameIndex The index of the first game; every finished game increments it.
+     */
+    public GameEventPublisher(BackpressurePolicy policy, int bufferSize, long firstGameIndex) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("The buffer size must be positive.");
+        }
+        this.policy = policy;
+        this.bufferSize = bufferSize;
+        this.gameIndex = firstGameIndex;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GameEvent> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        EventSubscription subscription = new EventSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        if (closed) {
+            subscription.complete();
+        }
+    }
+
+    @Override
+    public void turnStarted(Player player, PlayerStatus status) {
+        if (!subscriptions.isEmpty()) {
+            publish(new GameEvent(GameEventType.TURN_STARTED, gameIndex, turn, player.getName(), null,
+                    0, status.getBalance(), 0, 0));
+        }
+        turn++;
+    }
+
+    @Override
+    public void landed(Player player, SquareType type) {
+        if (!subscriptions.isEmpty()) {
+            publish(new GameEvent(GameEventType.SQUARE_ACTION, gameIndex, turn, player.getName(), type,
+                    0, player.getBalance(), 0, 0));
+        }
+    }
+
+    @Override
+    public void balanceChanged(Player player, BalanceChange reason, double amount, double balance) {
+        boolean loss = reason == BalanceChange.PARTY_COST || reason == BalanceChange.CHANCE_LOSS
+                || reason == BalanceChange.TAX_AUDIT;
+        publishBalance(player, loss ? -amount : amount, balance);
+    }
+
+    @Override
+    public void invested(Player player, Company company, double amount) {
+        publishBalance(player, -amount, player.getBalance());
+    }
+
+    @Override
+    public void settled(Player player, Company company, double invested, double change, double balance) {
+        publishBalance(player, change, balance);
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+        if (!subscriptions.isEmpty()) {
+            String winner = result.isDraw() ? null : result.getWinnerName();
+            publish(new GameEvent(GameEventType.GAME_ENDED, gameIndex, result.getTurns(), winner, null,
+                    0, result.isDraw() ? 0 : result.getFinalBalances()[result.getWinnerIndex()], 0, 0));
+        }
+        gameIndex++;
+        turn = 0;
+    }
+
+    /**
+     * Completes every subscription once its buffered events are delivered. Later subscribers are completed at once.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (EventSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    private void publishBalance(Player player, double amount, double balance) {
+        if (!subscriptions.isEmpty()) {
+            publish(new GameEvent(GameEventType.BALANCE_CHANGED, gameIndex, turn, player.getName(), null,
+                    amount, balance, 0, 0));
+        }
+    }
+
+    private void publish(GameEvent event) {
+        for (EventSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * The buffer and the demand of one subscriber.
+     */
+    private final class EventSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super GameEvent> subscriber;
+        private final ArrayDeque<GameEvent> buffer = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition spaceAvailable = lock.newCondition();
+        private long demand;
+        private boolean draining; // True while a thread delivers events, so onNext is never called concurrently
+        private boolean cancelled;
+        private boolean completing; // close() was called, onComplete follows the last buffered event
+        private boolean terminated;
+
+        // The events dropped since the last summary
+        private long dropped;
+        private long droppedGames;
+        private double droppedAmount;
+        private long droppedGameIndex;
+
+        private EventSubscription(Flow.Subscriber<? super GameEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("The number of requested events must be positive: " + n));
+                return;
+            }
+            lock.lock();
+            try {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n; // Unbounded once it overflows
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                buffer.clear();
+                spaceAvailable.signalAll(); // Releases a paused game
+            } finally {
+                lock.unlock();
+            }
+            subscriptions.remove(this);
+        }
+
+        /**
+         * Buffers an event on the game thread, waiting or summarizing while the buffer is full.
+         */
+        private void offer(GameEvent event) {
+            lock.lock();
+            try {
+                if (policy == BackpressurePolicy.PAUSE) {
+                    while (buffer.size() >= bufferSize && !cancelled) {
+                        spaceAvailable.awaitUninterruptibly();
+                    }
+                }
+                if (cancelled) {
+                    return;
+                }
+                addPendingSummary();
+                if (buffer.size() < bufferSize) {
+                    buffer.add(event);
+                } else {
+                    dropped++;
+                    droppedAmount += event.getAmount();
+                    droppedGameIndex = event.getGameIndex();
+                    if (event.getType() == GameEventType.GAME_ENDED) {
+                        droppedGames++;
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        private void complete() {
+            lock.lock();
+            try {
+                completing = true;
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        /**
+         * Buffers the summary of the dropped events if there is room. Called with the lock held.
+         */
+        private void addPendingSummary() {
+            if (dropped > 0 && buffer.size() < bufferSize) {
+                buffer.add(new GameEvent(GameEventType.SUMMARY, droppedGameIndex, 0, null, null,
+                        droppedAmount, 0, dropped, droppedGames));
+                dropped = 0;
+                droppedGames = 0;
+                droppedAmount = 0;
+            }
+        }
+
+        /**
+         * Delivers buffered events as far as they are requested, then completes the subscription if it is closing.
+         */
+        private void drain() {
+            boolean finished;
+            lock.lock();
+            try {
+                if (draining) {
+                    return; // The delivering thread will see the new demand or events
+                }
+                draining = true;
+                while (!cancelled && !terminated) {
+                    addPendingSummary();
+                    GameEvent next = null;
+                    if (demand > 0 && !buffer.isEmpty()) {
+                        next = buffer.poll();
+                        demand--;
+                        spaceAvailable.signalAll();
+                    } else if (completing && buffer.isEmpty() && dropped == 0) {
+                        terminated = true;
+                    } else {
+                        break;
+                    }
+                    lock.unlock();
+                    try {
+                        if (next != null) {
+                            subscriber.onNext(next);
+                        } else {
+                            subscriber.onComplete();
+                        }
+                    } catch (RuntimeException e) {
+                        cancel(); // A subscriber that throws is treated as cancelled
+                    } finally {
+                        lock.lock();
+                    }
+                }
+            } finally {
+                draining = false;
+                finished = terminated;
+                lock.unlock();
+            }
+            if (finished) {
+                subscriptions.remove(this);
+            }
+        }
+    }
+}
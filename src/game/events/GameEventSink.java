@@ -0,0 +1,230 @@
+package game.events;
+
+import game.board.squares.SquareType;
+import game.investments.Company;
+import game.players.Player;
+import game.simulation.GameResult;
+import game.traps.Trap;
+
+/**
+ * Receives the typed events of a game instead of the text the game used to print.
+ * Every method has an empty default, so a sink only overrides the events it is interested in.
+ * <p>
+ * Events are published on the thread that plays the game, in the order they happen. Every argument
+ * is a value of the moment of the event, except for the players, whose names are the only part a sink
+ * should read. A headless game publishes to the {@link NoOpSink}, so a simulation pays only for the
+ * empty calls, which the JIT removes.
+ * <ul>
+ *     <li>{@link ConsoleRenderer} renders the events as the text of the interactive game;</li>
+ *     <li>{@link NoOpSink} ignores all events;</li>
+ *     <li>{@link AsyncRingBufferSink} hands the events to another sink on a background thread;</li>
+ *     <li>{@link GameEventPublisher} publishes the events to reactive subscribers.</li>
+ * </ul>
+ */
+public interface GameEventSink {
+
+    /**
+     * The layout of the board is shown before a turn of the interactive game.
+     *
+     * @param layout The text of the layout.
+     */
+    default void layoutShown(String layout) {
+    }
+
+    /**
+     * The dice decided which player starts.
+     *
+     * @param player The first player.
+     */
+    default void firstPlayerChosen(Player player) {
+    }
+
+    /**
+     * A player starts their turn.
+     *
+     * @param player The player.
+     * @param status The state of the player, reused for the next turn.
+     */
+    default void turnStarted(Player player, PlayerStatus status) {
+    }
+
+    /**
+     * A player rolled the dice and moved.
+     *
+     * @param player   The player.
+     * @param steps    The number of steps.
+     * @param position The index of the new square.
+     */
+    default void moved(Player player, int steps, int position) {
+    }
+
+    /**
+     * A player landed on a square, before its action is performed.
+     *
+     * @param player The player.
+     * @param type   The type of the square.
+     */
+    default void landed(Player player, SquareType type) {
+    }
+
+    /**
+     * The balance of a player changed because of a square or a trap.
+     *
+     * @param player  The player.
+     * @param reason  The reason for the change.
+     * @param amount  The amount gained or lost, always positive.
+     * @param balance The balance after the change.
+     */
+    default void balanceChanged(Player player, BalanceChange reason, double amount, double balance) {
+    }
+
+    /**
+     * A player may set a trap on an empty Trap square.
+     *
+     * @param player The player.
+     */
+    default void trapOffered(Player player) {
+    }
+
+    /**
+     * A player set a trap.
+     *
+     * @param owner The player who set the trap.
+     * @param trap  The trap.
+     */
+    default void trapSet(Player owner, Trap trap) {
+    }
+
+    /**
+     * A player landed on the trap of another player, before its effect is applied.
+     *
+     * @param player The player who triggered the trap.
+     * @param trap   The trap.
+     */
+    default void trapTriggered(Player player, Trap trap) {
+    }
+
+    /**
+     * A player set a steal plan.
+     *
+     * @param player The player.
+     * @param target The square type that triggers the plan.
+     */
+    default void stealPlanSet(Player player, SquareType target) {
+    }
+
+    /**
+     * Two companies are offered to a player on an Invest square.
+     *
+     * @param player The player.
+     * @param first  The first company.
+     * @param second The second company.
+     */
+    default void investmentOffered(Player player, Company first, Company second) {
+    }
+
+    /**
+     * A player is asked for the amount to invest in a company.
+     *
+     * @param player  The player.
+     * @param company The company.
+     * @param balance The balance of the player.
+     */
+    default void amountRequested(Player player, Company company, double balance) {
+    }
+
+    /**
+     * A player invested in a company.
+     *
+     * @param player  The player.
+     * @param company The company.
+     * @param amount  The amount invested.
+     */
+    default void invested(Player player, Company company, double amount) {
+    }
+
+    /**
+     * The investments of a player are about to be settled at the end of their turn.
+     *
+     * @param player The player.
+     */
+    default void settlementStarted(Player player) {
+    }
+
+    /**
+     * The invested total of one company was settled.
+     *
+     * @param player   The player.
+     * @param company  The company.
+     * @param invested The invested total.
+     * @param change   The profit, negative for a loss.
+     * @param balance  The balance after the settlement.
+     */
+    default void settled(Player player, Company company, double invested, double change, double balance) {
+    }
+
+    /**
+     * All investments of a player were settled.
+     *
+     * @param player The player.
+     */
+    default void settlementFinished(Player player) {
+    }
+
+    /**
+     * A player is in a neutral state and neither gains nor loses money on a square.
+     *
+     * @param player    The player.
+     * @param turnsLeft The number of neutral turns left, including this one.
+     */
+    default void neutralTurn(Player player, int turnsLeft) {
+    }
+
+    /**
+     * A player ran out of money and the game is over.
+     *
+     * @param loser  The player who ran out of money.
+     * @param winner The other player.
+     */
+    default void bankrupt(Player loser, Player winner) {
+    }
+
+    /**
+     * The game is over, either because a player ran out of money or because the turn limit was reached.
+     *
+     * @param result The result of the game.
+     */
+    default void gameEnded(GameResult result) {
+    }
+
+    /**
+     * A line of text about a player, such as "is rolling the dice...", that follows the player's name.
+     *
+     * @param player The player.
+     * @param text   The text after the name.
+     */
+    default void message(Player player, String text) {
+    }
+
+    /**
+     * A line of text without a typed event, such as an effect description or a reply to invalid input.
+     *
+     * @param text The text.
+     */
+    default void message(String text) {
+    }
+
+    /**
+     * A request for input that is followed by the input on the same line.
+     *
+     * @param text The text of the request.
+     */
+    default void prompt(String text) {
+    }
+
+    /**
+     * Writes out everything the sink has buffered. Called by the game before it reads input.
+     */
+    default void flush() {
+    }
+}
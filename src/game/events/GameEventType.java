@@ -0,0 +1,27 @@
+package game.events;
+
+/**
+ * The kinds of events a {@link GameEventPublisher} publishes.
+ */
+public enum GameEventType {
+    /**
+     * A player starts their turn.
+     */
+    TURN_STARTED,
+    /**
+     * A player landed on a square and its action is performed.
+     */
+    SQUARE_ACTION,
+    /**
+     * The balance of a player changed.
+     */
+    BALANCE_CHANGED,
+    /**
+     * A game is over.
+     */
+    GAME_ENDED,
+    /**
+     * Stands for events that were dropped because a subscriber could not keep up.
+     */
+    SUMMARY
+}
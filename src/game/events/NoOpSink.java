@@ -0,0 +1,15 @@
+package game.events;
+
+/**
+ * A sink that ignores every event. Headless games publish to it, so simulations pay nothing for output.
+ */
+public final class NoOpSink implements GameEventSink {
+
+    /**
+     * The only instance, shared by all games.
+     */
+    public static final NoOpSink INSTANCE = new NoOpSink();
+
+    private NoOpSink() {
+    }
+}
@@ -0,0 +1,155 @@
+package game.events;
+
+import game.board.Board;
+import game.board.squares.SquareType;
+import game.investments.InvestmentManager;
+import game.players.Player;
+
+/**
+ * A snapshot of the state of a player at the start of their turn, reported with
+ * {@link GameEventSink#turnStarted}. The game fills one status object again for every turn,
+ * so a sink that keeps the status after the call must copy it with {@link #copyFrom(PlayerStatus)}.
+ */
+public class PlayerStatus {
+
+    private double balance;
+    private int position;
+    private SquareType squareType;
+    private SquareType stealPlan;
+    private final double[] invested = new double[InvestmentManager.getAllCompanies().size()];
+    private int companyCount;
+    private int turnsInNeutralState;
+    private boolean canNotUseStealSquare;
+    private boolean underBadLuckEffect;
+    private boolean canNotPlaceTrap;
+
+    /**
+     * Fills this status from the current state of a player.
+     *
+     * @param player The player.
+     * @param board  The board the player stands on.
+     */
+    public void capture(Player player, Board board) {
+        balance = player.getBalance();
+        position = player.getCurrentPositionIndex();
+        squareType = board.getType(position);
+        stealPlan = player.getStealPlan();
+        for (int i = 0; i < invested.length; i++) {
+            invested[i] = player.getPortfolio().getInvested(i);
+        }
+        companyCount = player.getPortfolio().getCompanyCount();
+        turnsInNeutralState = player.getTurnsInNeutralState();
+        canNotUseStealSquare = player.isCanNotUseSteelSquare();
+        underBadLuckEffect = player.isUnderBadLuckEffect();
+        canNotPlaceTrap = player.isCanNotPlaceTrap();
+    }
+
+    /**
+     * Makes this status a copy of another one.
+     *
+     * @param other The status to copy.
+     */
+    public void copyFrom(PlayerStatus other) {
+        balance = other.balance;
+        position = other.position;
+        squareType = other.squareType;
+        stealPlan = other.stealPlan;
+        System.arraycopy(other.invested, 0, invested, 0, invested.length);
+        companyCount = other.companyCount;
+        turnsInNeutralState = other.turnsInNeutralState;
+        canNotUseStealSquare = other.canNotUseStealSquare;
+        underBadLuckEffect = other.underBadLuckEffect;
+        canNotPlaceTrap = other.canNotPlaceTrap;
+    }
+
+    /**
+     * Gets the balance of the player.
+     *
+     * @return The balance.
+     */
+    public double getBalance() {
+        return balance;
+    }
+
+    /**
+     * Gets the index of the square the player stands on.
+     *
+     * @return The position, starting at 0.
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the type of the square the player stands on.
+     *
+     * @return The square type.
+     */
+    public SquareType getSquareType() {
+        return squareType;
+    }
+
+    /**
+     * Gets the active steal plan.
+     *
+     * @return The square type of the plan, or null if no plan is active.
+     */
+    public SquareType getStealPlan() {
+        return stealPlan;
+    }
+
+    /**
+     * Gets the total invested in a company.
+     *
+     * @param companyIndex The index of the company in {@link InvestmentManager#getAllCompanies()}.
+     * @return The invested total, 0 if the player holds nothing of the company.
+     */
+    public double getInvested(int companyIndex) {
+        return invested[companyIndex];
+    }
+
+    /**
+     * Gets the number of companies the player holds.
+     *
+     * @return The number of companies with a positive invested total.
+     */
+    public int getCompanyCount() {
+        return companyCount;
+    }
+
+    /**
+     * Gets the number of turns the player cannot gain or lose money.
+     *
+     * @return The remaining neutral turns.
+     */
+    public int getTurnsInNeutralState() {
+        return turnsInNeutralState;
+    }
+
+    /**
+     * Checks whether the player cannot use the next Steal square.
+     *
+     * @return True if the penalty is active.
+     */
+    public boolean isCanNotUseStealSquare() {
+        return canNotUseStealSquare;
+    }
+
+    /**
+     * Checks whether the next Chance card of the player is bad.
+     *
+     * @return True if the effect is active.
+     */
+    public boolean isUnderBadLuckEffect() {
+        return underBadLuckEffect;
+    }
+
+    /**
+     * Checks whether the player cannot set the next trap.
+     *
+     * @return True if the penalty is active.
+     */
+    public boolean isCanNotPlaceTrap() {
+        return canNotPlaceTrap;
+    }
+}
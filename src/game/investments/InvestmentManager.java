@@ -1,39 +1,79 @@
 package game.investments;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 public class InvestmentManager {
     /**
-     * A list to store all available companies in the game.
+     * A list to store all available companies in the game. Companies are immutable, so all games share it.
      */
-    private final Company[] allCompanies = {new Company("Evel Co", 500, 0.2, -5, 100),
+    private static final Company[] allCompanies = {new Company("Evel Co", 500, 0.2, -5, 100),
             new Company("Bombs Away", 400, 0.5, -10, 50),
             new Company("Clock Work Orange", 300, 1.5, -15, 35),
             new Company("Maroders unated", 200, 2, -18, 50),
             new Company("Fatcat incorporated", 100, 2.5, -25, 100),
             new Company("Macrosoft", 50, 5, -20, 10)};
 
+    /**
+     * The number of companies, from the start of the list, that can be offered on an 'Invest' square.
+     */
+    public static final int OFFERED_COMPANIES = 5;
+
+    private static final List<Company> COMPANY_LIST = List.of(allCompanies);
+
+    /**
+     * Gets all companies of the game.
+     *
+     * @return An unmodifiable list of all companies.
+     */
+    public static List<Company> getAllCompanies() {
+        return COMPANY_LIST;
+    }
+
+    /**
+     * Gets the index of a company in {@link #getAllCompanies()}, which is its slot in a {@link Portfolio}.
+     *
+     * @param company One of the companies of the game.
+     * @return The index of the company.
+     * @throws IllegalArgumentException If the company is not one of the game's companies.
+     */
+    public static int indexOf(Company company) {
+        for (int i = 0; i < allCompanies.length; i++) {
+            if (allCompanies[i] == company) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown company: " + company.getName());
+    }
+
     /**
      * This method will be used when a player lands on an 'Invest' square.
      *
+     * @param random The random generator of the game the companies are chosen for.
      * @return A random Company object from the list.
      */
-    public List<Company> getTwoRandomCompanies() {
-        Random random = new Random();
+    public List<Company> getTwoRandomCompanies(RandomGenerator random) {
+        Company[] offer = new Company[2];
+        chooseTwoRandomCompanies(random, offer);
+        return List.of(offer);
+    }
 
-        List<Company> chosenCompanies = new ArrayList<>(2);
+    /**
+     * Chooses the same two different companies as {@link #getTwoRandomCompanies(RandomGenerator)} into an array
+     * the caller reuses, so a turn on an 'Invest' square allocates nothing.
+     *
+     * @param random The random generator of the game the companies are chosen for.
+     * @param offer  An array of at least two elements that receives the companies.
+     */
+    public void chooseTwoRandomCompanies(RandomGenerator random, Company[] offer) {
         int randomIndex1;
         int randomIndex2;
         do {
-            randomIndex1 = random.nextInt(0, 5);
-            randomIndex2 = random.nextInt(0, 5);
+            randomIndex1 = random.nextInt(0, OFFERED_COMPANIES);
+            randomIndex2 = random.nextInt(0, OFFERED_COMPANIES);
         } while (randomIndex1 == randomIndex2);
 
-        chosenCompanies.add(allCompanies[randomIndex1]);
-        chosenCompanies.add(allCompanies[randomIndex2]);
-
-        return chosenCompanies;
+        offer[0] = allCompanies[randomIndex1];
+        offer[1] = allCompanies[randomIndex2];
     }
 }
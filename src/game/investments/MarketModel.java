@@ -0,0 +1,17 @@
+package game.investments;
+
+/**
+ * Defines how the risk factors that settle investments are drawn.
+ */
+public enum MarketModel {
+    /**
+     * Every holding draws its own risk factor from its company's risk interval, as in the original rules.
+     */
+    INDEPENDENT,
+
+    /**
+     * Every company draws one risk factor per market round, and all holders of that company share it,
+     * so the fortunes of the players are correlated.
+     */
+    SHARED
+}
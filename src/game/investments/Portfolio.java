@@ -0,0 +1,87 @@
+package game.investments;
+
+import java.util.Arrays;
+
+/**
+ * The investments of a player, consolidated per company.
+ * Each company of {@link InvestmentManager#getAllCompanies()} has one total, stored by its index,
+ * so buying more of a company adds to its total instead of opening a new position.
+ */
+public class Portfolio {
+
+    private final double[] invested; // Total amount invested, by company index
+    private int companyCount; // Number of companies with a non-zero total
+
+    /**
+     * Constructs an empty portfolio with a slot for every company of the game.
+     */
+    public Portfolio() {
+        this.invested = new double[InvestmentManager.getAllCompanies().size()];
+        this.companyCount = 0;
+    }
+
+    /**
+     * Adds an amount to the total invested in a company.
+     *
+     * @param companyIndex The index of the company in {@link InvestmentManager#getAllCompanies()}.
+     * @param amount       The positive amount to add.
+     */
+    public void add(int companyIndex, double amount) {
+        if (invested[companyIndex] == 0) {
+            companyCount++;
+        }
+        invested[companyIndex] += amount;
+    }
+
+    /**
+     * Gets the total amount invested in a company.
+     *
+     * @param companyIndex The index of the company in {@link InvestmentManager#getAllCompanies()}.
+     * @return The invested total, or 0 if the player holds nothing in that company.
+     */
+    public double getInvested(int companyIndex) {
+        return invested[companyIndex];
+    }
+
+    /**
+     * Gets the number of slots in the portfolio, one for every company of the game.
+     *
+     * @return The number of company slots.
+     */
+    public int size() {
+        return invested.length;
+    }
+
+    /**
+     * Gets the number of companies the player holds money in.
+     *
+     * @return The number of companies with a non-zero total.
+     */
+    public int getCompanyCount() {
+        return companyCount;
+    }
+
+    /**
+     * Checks if the player holds no investments.
+     *
+     * @return True if nothing is invested, false otherwise.
+     */
+    public boolean isEmpty() {
+        return companyCount == 0;
+    }
+
+    /**
+     * Removes all investments.
+     */
+    public void clear() {
+        Arrays.fill(invested, 0);
+        companyCount = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Portfolio{" +
+                "invested=" + Arrays.toString(invested) +
+                '}';
+    }
+}
@@ -0,0 +1,135 @@
+package game.investments;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * Settles investments for one turn from primitive per-company totals.
+ * <p>
+ * The totals of many holders are laid out in one array, {@code holder * companyCount + companyIndex},
+ * so the holders of a whole batch of games can be settled in a single pass. With the
+ * {@link MarketModel#SHARED} model the engine draws one return rate per company each time the market
+ * opens and applies it to every holder until it opens again.
+ */
+public class SettlementEngine {
+
+    private final MarketModel model;
+    private final int companyCount;
+    private final int[] riskMin;
+    private final int[] riskSpan; // Number of values in the risk interval of each company
+    private final double[] marketRates; // Return rates of the current market round, SHARED model only
+
+    /**
+     * Constructs a new SettlementEngine object for all companies of the game.
+     *
+     * @param model The way risk factors are drawn.
+     */
+    public SettlementEngine(MarketModel model) {
+        this.model = model;
+        List<Company> companies = InvestmentManager.getAllCompanies();
+        companyCount = companies.size();
+        riskMin = new int[companyCount];
+        riskSpan = new int[companyCount];
+        for (int i = 0; i < companyCount; i++) {
+            riskMin[i] = companies.get(i).getRiskMin();
+            riskSpan[i] = companies.get(i).getRiskMax() - riskMin[i] + 1;
+        }
+        marketRates = new double[companyCount];
+    }
+
+    /**
+     * Gets the way risk factors are drawn.
+     *
+     * @return The market model.
+     */
+    public MarketModel getModel() {
+        return model;
+    }
+
+    /**
+     * Gets the number of companies, which is the width of one holder's row of totals.
+     *
+     * @return The number of companies.
+     */
+    public int getCompanyCount() {
+        return companyCount;
+    }
+
+    /**
+     * Starts a new market round. With the SHARED model a new return rate is drawn for every company;
+     * with the INDEPENDENT model nothing happens and nothing is drawn.
+     *
+     * @param random The random generator the rates are drawn from.
+     */
+    public void openMarket(RandomGenerator random) {
+        if (model != MarketModel.SHARED) {
+            return;
+        }
+        for (int i = 0; i < companyCount; i += 2) {
+            long bits = random.nextLong();
+            marketRates[i] = rate(i, (int) bits);
+            if (i + 1 < companyCount) {
+                marketRates[i + 1] = rate(i + 1, (int) (bits >>> 32));
+            }
+        }
+    }
+
+    /**
+     * Gets the return rate of one holding of a company for this turn.
+     * The SHARED model returns the rate of the current market round; the INDEPENDENT model draws a new one.
+     *
+     * @param companyIndex The index of the company in {@link InvestmentManager#getAllCompanies()}.
+     * @param random       The random generator an independent rate is drawn from.
+     * @return The profit or loss per invested unit, for example -0.05 for a 5% loss.
+     */
+    public double getReturnRate(int companyIndex, RandomGenerator random) {
+        if (model == MarketModel.SHARED) {
+            return marketRates[companyIndex];
+        }
+        return (double) random.nextInt(riskMin[companyIndex], riskMin[companyIndex] + riskSpan[companyIndex]) / 100;
+    }
+
+    /**
+     * Settles one turn for a list of holders in a single pass and adds every outcome to its balance.
+     * The INDEPENDENT model takes two risk factors from each 64-bit draw.
+     *
+     * @param invested    The totals of all holders, {@code holder * companyCount + companyIndex}.
+     * @param balances    The balances of all holders, by holder index.
+     * @param holders     The indices of the holders to settle.
+     * @param holderCount The number of entries of holders to use.
+     * @param random      The random generator independent rates are drawn from.
+     */
+    public void settle(double[] invested, double[] balances, int[] holders, int holderCount, RandomGenerator random) {
+        long bits = 0;
+        boolean bitsLeft = false;
+        for (int h = 0; h < holderCount; h++) {
+            int holder = holders[h];
+            int base = holder * companyCount;
+            double outcome = 0;
+            for (int company = 0; company < companyCount; company++) {
+                double amount = invested[base + company];
+                if (amount <= 0) {
+                    continue;
+                }
+                if (model == MarketModel.SHARED) {
+                    outcome += amount * marketRates[company];
+                } else {
+                    if (!bitsLeft) {
+                        bits = random.nextLong();
+                    }
+                    outcome += amount * rate(company, bitsLeft ? (int) (bits >>> 32) : (int) bits);
+                    bitsLeft = !bitsLeft;
+                }
+            }
+            balances[holder] += outcome;
+        }
+    }
+
+    /**
+     * Maps 32 random bits onto the risk interval of a company with a multiply-shift, as the dice do.
+     */
+    private double rate(int companyIndex, int bits) {
+        int factor = riskMin[companyIndex] + (int) (((bits & 0xFFFFFFFFL) * riskSpan[companyIndex]) >>> 32);
+        return (double) factor / 100;
+    }
+}
@@ -0,0 +1,230 @@
+package game.metrics;
+
+import game.board.squares.SquareType;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics registry of the game: turn and square action timers, allocations per turn and counters of
+ * settlements and trap activations, updated from all game threads with striped adders.
+ * <p>
+ * The metrics are collected only when the JVM is started with {@code -Dgame.metrics=true}. {@link #ENABLED}
+ * is a constant, so when it is false the JIT removes every call from the hot path and a batch pays nothing.
+ * When enabled, the registry is also registered as the MXBean {@value #OBJECT_NAME}, so it can be read
+ * from the running process. The Flight Recorder events of the game are independent of this switch.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+
+    /**
+     * True if the JVM was started with {@code -Dgame.metrics=true}.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("game.metrics");
+
+    /**
+     * The name the registry is registered under with the platform MBean server.
+     */
+    public static final String OBJECT_NAME = "game:type=GameMetrics";
+
+    private static final SquareType[] SQUARE_TYPES = SquareType.values();
+    private static final com.sun.management.ThreadMXBean THREADS = ENABLED ? allocationCounter() : null;
+    private static final ThreadLocal<long[]> TURN_START_BYTES = ThreadLocal.withInitial(() -> new long[1]);
+    private static final GameMetrics INSTANCE = new GameMetrics();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                System.err.println("The game metrics could not be registered: " + e.getMessage());
+            }
+        }
+    }
+
+    private final LongAdder turns = new LongAdder();
+    private final LongAdder turnNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder[] actions = new LongAdder[SQUARE_TYPES.length];
+    private final LongAdder[] actionNanos = new LongAdder[SQUARE_TYPES.length];
+    private final LongAdder settlements = new LongAdder();
+    private final LongAdder trapActivations = new LongAdder();
+    private volatile long resetTime = System.nanoTime();
+
+    private GameMetrics() {
+        for (int i = 0; i < SQUARE_TYPES.length; i++) {
+            actions[i] = new LongAdder();
+            actionNanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Gets the registry.
+     *
+     * @return The only GameMetrics instance.
+     */
+    public static GameMetrics get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts timing a turn on the current thread.
+     *
+     * @return The start time to pass to {@link #turnFinished(long)}, 0 when the metrics are disabled.
+     */
+    public static long startTurn() {
+        if (!ENABLED) {
+            return 0;
+        }
+        if (THREADS != null) {
+            TURN_START_BYTES.get()[0] = THREADS.getCurrentThreadAllocatedBytes();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a finished turn.
+     *
+     * @param started The value returned by {@link #startTurn()}.
+     */
+    public static void turnFinished(long started) {
+        if (ENABLED) {
+            INSTANCE.turnNanos.add(System.nanoTime() - started);
+            if (THREADS != null) {
+                INSTANCE.allocatedBytes.add(THREADS.getCurrentThreadAllocatedBytes() - TURN_START_BYTES.get()[0]);
+            }
+            INSTANCE.turns.increment();
+        }
+    }
+
+    /**
+     * Starts timing a square action.
+     *
+     * @return The start time to pass to {@link #squareActionFinished(SquareType, long)}, 0 when the metrics are disabled.
+     */
+    public static long startSquareAction() {
+        return ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records a finished square action.
+     *
+     * @param type    The type of the square.
+     * @param started The value returned by {@link #startSquareAction()}.
+     */
+    public static void squareActionFinished(SquareType type, long started) {
+        if (ENABLED) {
+            INSTANCE.actionNanos[type.ordinal()].add(System.nanoTime() - started);
+            INSTANCE.actions[type.ordinal()].increment();
+        }
+    }
+
+    /**
+     * Counts a settlement of the invested total of one company.
+     */
+    public static void settled() {
+        if (ENABLED) {
+            INSTANCE.settlements.increment();
+        }
+    }
+
+    /**
+     * Counts a triggered trap.
+     */
+    public static void trapActivated() {
+        if (ENABLED) {
+            INSTANCE.trapActivations.increment();
+        }
+    }
+
+    @Override
+    public long getTurns() {
+        return turns.sum();
+    }
+
+    @Override
+    public double getTurnsPerSecond() {
+        return turns.sum() / ((System.nanoTime() - resetTime) / 1e9);
+    }
+
+    @Override
+    public double getAverageTurnNanos() {
+        return (double) turnNanos.sum() / turns.sum();
+    }
+
+    @Override
+    public double getAllocatedBytesPerTurn() {
+        return THREADS == null ? Double.NaN : (double) allocatedBytes.sum() / turns.sum();
+    }
+
+    @Override
+    public Map<String, Long> getActionCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (SquareType type : SQUARE_TYPES) {
+            counts.put(type.name(), actions[type.ordinal()].sum());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getAverageActionNanos() {
+        Map<String, Double> averages = new LinkedHashMap<>();
+        for (SquareType type : SQUARE_TYPES) {
+            averages.put(type.name(), (double) actionNanos[type.ordinal()].sum() / actions[type.ordinal()].sum());
+        }
+        return averages;
+    }
+
+    @Override
+    public long getSettlements() {
+        return settlements.sum();
+    }
+
+    @Override
+    public long getTrapActivations() {
+        return trapActivations.sum();
+    }
+
+    @Override
+    public void reset() {
+        turns.reset();
+        turnNanos.reset();
+        allocatedBytes.reset();
+        for (int i = 0; i < SQUARE_TYPES.length; i++) {
+            actions[i].reset();
+            actionNanos[i].reset();
+        }
+        settlements.reset();
+        trapActivations.reset();
+        resetTime = System.nanoTime();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Turns: %d (%.0f/s), %.0f ns and %.0f bytes allocated per turn%n",
+                getTurns(), getTurnsPerSecond(), getAverageTurnNanos(), getAllocatedBytesPerTurn()));
+        text.append("Square actions (count, average ns):");
+        Map<String, Double> averages = getAverageActionNanos();
+        getActionCounts().forEach((type, count) -> text.append(String.format(" %s=%d/%.0f", type, count, averages.get(type))));
+        text.append(String.format("%nSettlements: %d, trap activations: %d%n", getSettlements(), getTrapActivations()));
+        return text.toString();
+    }
+
+    /**
+     * Gets the allocation counter of the current JVM.
+     *
+     * @return The thread bean, or null if the JVM cannot count allocated bytes per thread.
+     */
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
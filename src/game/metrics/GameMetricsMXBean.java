@@ -0,0 +1,71 @@
+package game.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link GameMetrics}, registered as {@value GameMetrics#OBJECT_NAME}
+ * so the metrics of a running batch can be read with JConsole, VisualVM or any JMX client.
+ */
+public interface GameMetricsMXBean {
+
+    /**
+     * Gets the number of turns played since the last reset.
+     *
+     * @return The number of turns.
+     */
+    long getTurns();
+
+    /**
+     * Gets the number of turns played per second since the last reset, over all threads.
+     *
+     * @return The turn rate.
+     */
+    double getTurnsPerSecond();
+
+    /**
+     * Gets the average duration of a turn.
+     *
+     * @return The average in nanoseconds.
+     */
+    double getAverageTurnNanos();
+
+    /**
+     * Gets the average number of bytes a turn allocates.
+     *
+     * @return The average in bytes, or NaN if the JVM cannot measure allocations.
+     */
+    double getAllocatedBytesPerTurn();
+
+    /**
+     * Gets the number of square actions per square type.
+     *
+     * @return The counts by square type name.
+     */
+    Map<String, Long> getActionCounts();
+
+    /**
+     * Gets the average duration of the action of each square type.
+     *
+     * @return The averages in nanoseconds by square type name.
+     */
+    Map<String, Double> getAverageActionNanos();
+
+    /**
+     * Gets the number of investment settlements since the last reset.
+     *
+     * @return The number of settlements.
+     */
+    long getSettlements();
+
+    /**
+     * Gets the number of triggered traps since the last reset.
+     *
+     * @return The number of trap activations.
+     */
+    long getTrapActivations();
+
+    /**
+     * Sets all metrics back to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,49 @@
+package game.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for the settlement of the invested total of one company.
+ */
+@Name("game.Settlement")
+@Label("Investment Settlement")
+@Category("Evil Geniuses")
+@StackTrace(false)
+public class SettlementEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Company")
+    String company;
+
+    @Label("Invested")
+    double invested;
+
+    @Label("Change")
+    @Description("The profit, negative for a loss")
+    double change;
+
+    /**
+     * Commits a settlement event if a recording wants it.
+     *
+     * @param player   The name of the player.
+     * @param company  The name of the company.
+     * @param invested The invested total.
+     * @param change   The profit, negative for a loss.
+     */
+    public static void emit(String player, String company, double invested, double change) {
+        SettlementEvent event = new SettlementEvent();
+        if (event.shouldCommit()) {
+            event.player = player;
+            event.company = company;
+            event.invested = invested;
+            event.change = change;
+            event.commit();
+        }
+    }
+}
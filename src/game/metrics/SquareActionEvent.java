@@ -0,0 +1,45 @@
+package game.metrics;
+
+import game.board.squares.SquareType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for the action of the square a player landed on.
+ */
+@Name("game.SquareAction")
+@Label("Square Action")
+@Category("Evil Geniuses")
+@Description("The action of a square, including the decisions of the player")
+@StackTrace(false)
+public class SquareActionEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Square Type")
+    String squareType;
+
+    @Label("Position")
+    int position;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param player   The name of the player.
+     * @param type     The type of the square.
+     * @param position The index of the square.
+     */
+    public void finish(String player, SquareType type, int position) {
+        end();
+        if (shouldCommit()) {
+            this.player = player;
+            this.squareType = type.name();
+            this.position = position;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package game.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for a player who triggered the trap of another player.
+ */
+@Name("game.TrapActivation")
+@Label("Trap Activation")
+@Category("Evil Geniuses")
+@StackTrace(false)
+public class TrapActivationEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Trap")
+    String trap;
+
+    /**
+     * Commits a trap activation event if a recording wants it.
+     *
+     * @param player The name of the player who triggered the trap.
+     * @param trap   The name of the trap.
+     */
+    public static void emit(String player, String trap) {
+        TrapActivationEvent event = new TrapActivationEvent();
+        if (event.shouldCommit()) {
+            event.player = player;
+            event.trap = trap;
+            event.commit();
+        }
+    }
+}
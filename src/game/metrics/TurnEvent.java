@@ -0,0 +1,46 @@
+package game.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Flight Recorder event for one player turn, from the start of the turn to the end of the settlement.
+ * Like all events of the game it costs next to nothing while no recording has it enabled.
+ */
+@Name("game.Turn")
+@Label("Turn")
+@Category("Evil Geniuses")
+@Description("A player turn: the move, the square action and the settlement")
+@StackTrace(false)
+public class TurnEvent extends jdk.jfr.Event {
+
+    @Label("Player")
+    String player;
+
+    @Label("Turn")
+    int turn;
+
+    @Label("Balance")
+    @Description("The balance of the player at the end of the turn")
+    double balance;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param player  The name of the player.
+     * @param turn    The number of turns completed before this one.
+     * @param balance The balance of the player at the end of the turn.
+     */
+    public void finish(String player, int turn, double balance) {
+        end();
+        if (shouldCommit()) {
+            this.player = player;
+            this.turn = turn;
+            this.balance = balance;
+            commit();
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package game.players;
 
+import game.board.Board;
 import game.board.squares.SquareType;
+import game.bots.BotStrategy;
+import game.bots.RandomBotStrategy;
 import game.dice.Dice;
-import game.investments.Investment;
-
-import java.util.ArrayList;
-import java.util.List;
+import game.events.GameEventSink;
+import game.investments.Portfolio;
 
 
 /**
@@ -22,8 +23,8 @@ public class Player {
     private final String name; // of the player
     private double balance;
     private int currentPositionIndex;
-    private final List<Investment> investments;
-    private final boolean isBot; // true for the bot, false for the human player
+    private final Portfolio portfolio;
+    private final BotStrategy strategy; // Makes the decisions of a bot, null for the human player
     private int turnsInNeutralState;
     private boolean canNotUseSteelSquare;
     private boolean isUnderBadLuckEffect;
@@ -31,14 +32,24 @@ public class Player {
     private SquareType stealPlan;
 
     /**
-     * Constructs a new Player object.
+     * Constructs a new Player object. Bots play the random strategy.
      */
     public Player(String name, boolean isBot) {
+        this(name, isBot ? new RandomBotStrategy() : null);
+    }
+
+    /**
+     * Constructs a new Player object.
+     *
+     * @param name     The name of the player.
+     * @param strategy The strategy that makes the bot's decisions, or null for a human player.
+     */
+    public Player(String name, BotStrategy strategy) {
         this.name = name;
         this.balance = INITIAL_BALANCE; // All players start with a fixed amount
-        this.isBot = isBot;
+        this.strategy = strategy;
         this.currentPositionIndex = 0; // All players start at position 0 (Start Square)
-        this.investments = new ArrayList<>();
+        this.portfolio = new Portfolio();
         this.turnsInNeutralState = 0;
         canNotUseSteelSquare = false;
         isUnderBadLuckEffect = false;
@@ -46,15 +57,18 @@ public class Player {
     }
 
     /**
-     * Moves the player forward on the board by rolling a dice.
+     * Moves the player forward on the board by rolling the movement dice of the board.
      * The player's position wraps around if they go beyond the board size.
+     *
+     * @param dice  The dice of the game the player is moving in.
+     * @param board The board of the game, which defines its size and movement dice.
+     * @return The number of steps the player moved.
      */
-    public void move() {
-        int steps = Dice.rollTwoSidedDice();
+    public int move(Dice dice, Board board) {
+        int steps = board.getMovement().roll(dice);
         int newPosition = currentPositionIndex + steps;
-        currentPositionIndex = newPosition % 20;
-
-        System.out.println(this.name + " moved " + steps + " steps forward.");
+        currentPositionIndex = newPosition % board.getSize();
+        return steps;
     }
 
     /**
@@ -189,11 +203,12 @@ public class Player {
      * Checks if the player is currently in a neutral state, meaning they cannot
      * gain or lose money. If in neutral state, decrements the remaining turns.
      *
+     * @param events The sink the remaining neutral turns are reported to.
      * @return True if the player is in a neutral state and cannot gain/lose money, false otherwise.
      */
-    public boolean isInNeutralState() {
+    public boolean isInNeutralState(GameEventSink events) {
         if (turnsInNeutralState > 0) {
-            System.out.println("Не може да печелите и губите пари още " + turnsInNeutralState-- + " пъти.");
+            events.neutralTurn(this, turnsInNeutralState--);
             return true;
         }
         return false;
@@ -214,24 +229,24 @@ public class Player {
      * @return True if the player is a bot, false if human.
      */
     public boolean isBot() {
-        return isBot;
+        return strategy != null;
     }
 
     /**
-     * Gets the list of investments made by the player.
+     * Gets the strategy that makes the decisions of a bot.
      *
-     * @return A list of Investment objects.
+     * @return The bot's strategy, or null for a human player.
      */
-    public List<Investment> getInvestments() {
-        return investments;
+    public BotStrategy getStrategy() {
+        return strategy;
     }
 
     /**
-     * Adds a new investment to the player's portfolio.
+     * Gets the investments made by the player, consolidated per company.
      *
-     * @param investment The Investment object to add.
+     * @return The player's portfolio.
      */
-    public void addInvestment(Investment investment) {
-        this.investments.add(investment);
+    public Portfolio getPortfolio() {
+        return portfolio;
     }
 }
\ No newline at end of file
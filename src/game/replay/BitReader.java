@@ -0,0 +1,99 @@
+package game.replay;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the values written by a {@link BitWriter} back in the same order and with the same widths.
+ */
+class BitReader {
+
+    private final byte[] bytes;
+    private final long bitLength;
+    private long position;
+
+    /**
+     * Constructs a new BitReader object.
+     *
+     * @param bytes     The bytes of the stream.
+     * @param bitLength The number of valid bits.
+     */
+    BitReader(byte[] bytes, long bitLength) {
+        this.bytes = bytes;
+        this.bitLength = bitLength;
+    }
+
+    /**
+     * Reads a value of the given width.
+     *
+     * @param count The number of bits, 0 to 64.
+     * @return The value in the lowest bits.
+     * @throws IllegalStateException If the stream has fewer bits left, which means the replay diverged.
+     */
+    long readBits(int count) {
+        if (position + count > bitLength) {
+            throw new IllegalStateException("The replay log ended early: the game diverged from the recording.");
+        }
+        long value = 0;
+        for (int read = 0; read < count; ) {
+            int index = (int) (position >>> 3);
+            int offset = (int) (position & 7);
+            int take = Math.min(8 - offset, count - read);
+            long chunk = ((bytes[index] & 0xFF) >>> offset) & ((1 << take) - 1);
+            value |= chunk << read;
+            read += take;
+            position += take;
+        }
+        return value;
+    }
+
+    /**
+     * Reads an unsigned variable-length integer.
+     *
+     * @return The value.
+     */
+    long readVarint() {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            long group = readBits(8);
+            value |= (group & 0x7F) << shift;
+            if ((group & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Reads an amount of money.
+     *
+     * @return The amount.
+     */
+    double readAmount() {
+        if (readBits(1) == 1) {
+            long zigzag = readVarint();
+            return (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+        return Double.longBitsToDouble(readBits(Long.SIZE));
+    }
+
+    /**
+     * Reads a string.
+     *
+     * @return The string.
+     */
+    String readString() {
+        byte[] text = new byte[(int) readVarint()];
+        for (int i = 0; i < text.length; i++) {
+            text[i] = (byte) readBits(8);
+        }
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the number of bits not read yet.
+     *
+     * @return The remaining bits.
+     */
+    long remaining() {
+        return bitLength - position;
+    }
+}
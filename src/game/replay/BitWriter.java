@@ -0,0 +1,124 @@
+package game.replay;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Appends values of any bit width to a growing bit stream. The buffer is kept and reused
+ * by {@link #clear()}, so recording many games allocates only when a game is longer than all before.
+ */
+class BitWriter {
+
+    private long[] words = new long[64];
+    private long bitLength;
+
+    /**
+     * Appends the lowest bits of a value.
+     *
+     * @param value The value; bits above {@code count} are ignored.
+     * @param count The number of bits, 0 to 64.
+     */
+    void writeBits(long value, int count) {
+        if (count == 0) {
+            return;
+        }
+        if (count < Long.SIZE) {
+            value &= (1L << count) - 1;
+        }
+        int word = (int) (bitLength >>> 6);
+        int offset = (int) (bitLength & 63);
+        if (word + 1 >= words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+        words[word] |= value << offset;
+        if (offset + count > Long.SIZE) {
+            words[word + 1] |= value >>> (Long.SIZE - offset);
+        }
+        bitLength += count;
+    }
+
+    /**
+     * Appends an unsigned variable-length integer: groups of 7 bits, each followed by a continuation bit.
+     *
+     * @param value The value, treated as unsigned.
+     */
+    void writeVarint(long value) {
+        while ((value & ~0x7FL) != 0) {
+            writeBits((value & 0x7F) | 0x80, 8);
+            value >>>= 7;
+        }
+        writeBits(value, 8);
+    }
+
+    /**
+     * Appends an amount of money. Whole amounts, which every bot chooses, take a flag bit and a varint;
+     * any other amount takes a flag bit and the 64 bits of the double.
+     *
+     * @param amount The amount.
+     */
+    void writeAmount(double amount) {
+        long whole = (long) amount;
+        if (whole == amount && Math.abs(whole) < 1L << 53 && Double.doubleToRawLongBits(amount) != Double.doubleToRawLongBits(-0.0)) {
+            writeBits(1, 1);
+            writeVarint((whole << 1) ^ (whole >> 63)); // Zigzag, so small negative amounts stay short
+        } else {
+            writeBits(0, 1);
+            writeBits(Double.doubleToRawLongBits(amount), Long.SIZE);
+        }
+    }
+
+    /**
+     * Appends a string as its UTF-8 length and bytes.
+     *
+     * @param text The string.
+     */
+    void writeString(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        for (byte b : bytes) {
+            writeBits(b, 8);
+        }
+    }
+
+    /**
+     * Gets the number of bits written since the last clear.
+     *
+     * @return The length of the stream in bits.
+     */
+    long getBitLength() {
+        return bitLength;
+    }
+
+    /**
+     * Writes the stream as whole bytes, the last byte padded with zero bits.
+     *
+     * @param output The output.
+     * @throws IOException If the output fails.
+     */
+    void writeTo(DataOutput output) throws IOException {
+        long bytes = (bitLength + 7) >>> 3;
+        for (long i = 0; i < bytes; i++) {
+            output.writeByte((int) (words[(int) (i >>> 3)] >>> ((i & 7) << 3)));
+        }
+    }
+
+    /**
+     * Empties the stream and keeps the buffer.
+     */
+    void clear() {
+        Arrays.fill(words, 0, (int) Math.min(words.length, (bitLength >>> 6) + 2), 0);
+        bitLength = 0;
+    }
+
+    /**
+     * Gets the number of bits needed for a value in [0, range).
+     *
+     * @param range The number of possible values.
+     * @return The number of bits, 0 if there is only one value.
+     */
+    static int bitsFor(long range) {
+        return range <= 1 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(range - 1);
+    }
+}
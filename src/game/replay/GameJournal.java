@@ -0,0 +1,46 @@
+package game.replay;
+
+import game.bots.BotStrategy;
+import game.simulation.GameResult;
+
+import java.util.Scanner;
+
+/**
+ * Sits between a game and its decisions while the game is recorded or replayed.
+ * The game hands it every bot strategy and every line of human input, and tells it when the game
+ * starts and ends. The random draws are recorded or replayed by the generator and the dice the game is created with.
+ */
+public interface GameJournal {
+
+    /**
+     * Wraps the strategy of a bot player before it is given to the player.
+     *
+     * @param strategy The strategy the bot was set up with.
+     * @return The strategy the bot plays with.
+     */
+    BotStrategy wrap(BotStrategy strategy);
+
+    /**
+     * Reads a line of human input.
+     *
+     * @param scanner The source of human input of the game, null while replaying.
+     * @return The line.
+     */
+    String readLine(Scanner scanner);
+
+    /**
+     * The game is about to set up its players.
+     *
+     * @param maxTurns The turn limit of a bot game, 0 for the interactive game.
+     * @param first    The name of the strategy of "Bot 1", null for the interactive game.
+     * @param second   The name of the strategy of "Bot 2", null for the interactive game.
+     */
+    void gameStarted(int maxTurns, String first, String second);
+
+    /**
+     * The game is over.
+     *
+     * @param result The result of the game.
+     */
+    void gameEnded(GameResult result);
+}
@@ -0,0 +1,55 @@
+package game.replay;
+
+import game.dice.Dice;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Dice that record every roll with the bits its number of sides needs: 1 bit for a 2-sided roll,
+ * 4 bits for a 10-sided roll, 7 bits for a 100-sided roll and as many bits as its sides need for any other roll.
+ * The rolls are drawn from the real generator of the game, not from the {@link RecordingRandom},
+ * so the 64-bit draws that fill the roll buffers are not recorded as well.
+ */
+class RecordingDice extends Dice {
+
+    private final BitWriter bits;
+
+    /**
+     * Constructs a new RecordingDice object.
+     *
+     * @param random The real generator of the game.
+     * @param bits   The stream the rolls are recorded to.
+     */
+    RecordingDice(RandomGenerator random, BitWriter bits) {
+        super(random);
+        this.bits = bits;
+    }
+
+    @Override
+    public int rollTwoSidedDice() {
+        int roll = super.rollTwoSidedDice();
+        bits.writeBits(roll - 1, 1);
+        return roll;
+    }
+
+    @Override
+    public int rollTenSidedDice() {
+        int roll = super.rollTenSidedDice();
+        bits.writeBits(roll - 1, 4);
+        return roll;
+    }
+
+    @Override
+    public int rollHundredSidedDice() {
+        int roll = super.rollHundredSidedDice();
+        bits.writeBits(roll - 1, 7);
+        return roll;
+    }
+
+    @Override
+    public int roll(int sides) {
+        int roll = super.roll(sides);
+        bits.writeBits(roll - 1, BitWriter.bitsFor(sides));
+        return roll;
+    }
+}
@@ -0,0 +1,136 @@
+package game.replay;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Passes every draw of a game through to its real generator and records the value with as few bits as
+ * its range needs: a draw from {@code nextInt(1, 20)} takes 5 bits, a full {@code nextLong()} 64.
+ * <p>
+ * Draws made while a bot decides are not recorded, because the replay plays back the decision
+ * instead of asking the bot again. {@link RecordingStrategy} pauses the recording around every decision.
+ */
+class RecordingRandom implements RandomGenerator {
+
+    private final RandomGenerator source;
+    private final BitWriter bits;
+    private boolean paused;
+
+    /**
+     * Constructs a new RecordingRandom object.
+     *
+     * @param source The generator the values are drawn from.
+     * @param bits   The stream the values are recorded to.
+     */
+    RecordingRandom(RandomGenerator source, BitWriter bits) {
+        this.source = source;
+        this.bits = bits;
+    }
+
+    /**
+     * Stops or resumes recording.
+     *
+     * @param paused True while a bot decides.
+     */
+    void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Checks if the recording is paused.
+     *
+     * @return True while a bot decides.
+     */
+    boolean isPaused() {
+        return paused;
+    }
+
+    @Override
+    public long nextLong() {
+        long value = source.nextLong();
+        record(value, Long.SIZE);
+        return value;
+    }
+
+    @Override
+    public int nextInt() {
+        int value = source.nextInt();
+        record(value, Integer.SIZE);
+        return value;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        int value = source.nextInt(bound);
+        record(value, BitWriter.bitsFor(bound));
+        return value;
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        int value = source.nextInt(origin, bound);
+        record((long) value - origin, BitWriter.bitsFor((long) bound - origin));
+        return value;
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        long value = source.nextLong(bound);
+        record(value, BitWriter.bitsFor(bound));
+        return value;
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        long value = source.nextLong(origin, bound);
+        record(value - origin, bound - origin > 0 ? BitWriter.bitsFor(bound - origin) : Long.SIZE);
+        return value;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        boolean value = source.nextBoolean();
+        record(value ? 1 : 0, 1);
+        return value;
+    }
+
+    @Override
+    public float nextFloat() {
+        float value = source.nextFloat();
+        record(Float.floatToRawIntBits(value), Integer.SIZE);
+        return value;
+    }
+
+    @Override
+    public double nextDouble() {
+        double value = source.nextDouble();
+        record(Double.doubleToRawLongBits(value), Long.SIZE);
+        return value;
+    }
+
+    @Override
+    public double nextDouble(double bound) {
+        double value = source.nextDouble(bound);
+        record(Double.doubleToRawLongBits(value), Long.SIZE);
+        return value;
+    }
+
+    @Override
+    public double nextDouble(double origin, double bound) {
+        double value = source.nextDouble(origin, bound);
+        record(Double.doubleToRawLongBits(value), Long.SIZE);
+        return value;
+    }
+
+    @Override
+    public double nextGaussian() {
+        double value = source.nextGaussian();
+        record(Double.doubleToRawLongBits(value), Long.SIZE);
+        return value;
+    }
+
+    private void record(long value, int count) {
+        if (!paused) {
+            bits.writeBits(value, count);
+        }
+    }
+}
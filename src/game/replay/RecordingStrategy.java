@@ -0,0 +1,126 @@
+package game.replay;
+
+import game.Game;
+import game.board.squares.SquareType;
+import game.bots.BotStrategy;
+import game.investments.Company;
+import game.players.Player;
+import game.traps.Trap;
+
+/**
+ * Records every decision of a bot strategy. The recording of random draws is paused while the strategy
+ * decides, so only the decision itself is recorded and the replay never needs the strategy:
+ * <ul>
+ *     <li>a trap as 0 for none or 1 plus its ordinal, in 3 bits;</li>
+ *     <li>a steal plan decision in 1 bit and its target as the ordinal of the square type in 3 bits;</li>
+ *     <li>a company as 0 for none, 1 for the first or 2 for the second offer, in 2 bits;</li>
+ *     <li>an amount as a varint when it is whole.</li>
+ * </ul>
+ */
+class RecordingStrategy implements BotStrategy {
+
+    static final int TRAP_BITS = BitWriter.bitsFor(Trap.values().length + 1);
+    static final int SQUARE_TYPE_BITS = BitWriter.bitsFor(SquareType.values().length);
+    static final int COMPANY_BITS = 2;
+
+    private final BotStrategy delegate;
+    private final RecordingRandom random;
+    private final BitWriter bits;
+
+    /**
+     * Constructs a new RecordingStrategy object.
+     *
+     * @param delegate The strategy that makes the decisions.
+     * @param random   The recording generator of the game, paused while the strategy decides.
+     * @param bits     The stream the decisions are recorded to.
+     */
+    RecordingStrategy(BotStrategy delegate, RecordingRandom random, BitWriter bits) {
+        this.delegate = delegate;
+        this.random = random;
+        this.bits = bits;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Trap chooseTrap(Player player, Game game) {
+        boolean paused = pause();
+        Trap trap;
+        try {
+            trap = delegate.chooseTrap(player, game);
+        } finally {
+            random.setPaused(paused);
+        }
+        bits.writeBits(trap == null ? 0 : trap.ordinal() + 1, TRAP_BITS);
+        return trap;
+    }
+
+    @Override
+    public boolean wantsStealPlan(Player player, Game game) {
+        boolean paused = pause();
+        boolean wants;
+        try {
+            wants = delegate.wantsStealPlan(player, game);
+        } finally {
+            random.setPaused(paused);
+        }
+        bits.writeBits(wants ? 1 : 0, 1);
+        return wants;
+    }
+
+    @Override
+    public SquareType chooseStealTarget(Player player, Game game) {
+        boolean paused = pause();
+        SquareType target;
+        try {
+            target = delegate.chooseStealTarget(player, game);
+        } finally {
+            random.setPaused(paused);
+        }
+        bits.writeBits(target.ordinal(), SQUARE_TYPE_BITS);
+        return target;
+    }
+
+    @Override
+    public Company chooseInvestment(Player player, Game game, Company first, Company second) {
+        boolean paused = pause();
+        Company choice;
+        try {
+            choice = delegate.chooseInvestment(player, game, first, second);
+        } finally {
+            random.setPaused(paused);
+        }
+        if (choice != null && choice != first && choice != second) {
+            throw new IllegalStateException(getName() + " chose a company that was not offered: " + choice.getName());
+        }
+        bits.writeBits(choice == null ? 0 : choice == first ? 1 : 2, COMPANY_BITS);
+        return choice;
+    }
+
+    @Override
+    public double chooseInvestmentAmount(Player player, Game game, Company company) {
+        boolean paused = pause();
+        double amount;
+        try {
+            amount = delegate.chooseInvestmentAmount(player, game, company);
+        } finally {
+            random.setPaused(paused);
+        }
+        bits.writeAmount(amount);
+        return amount;
+    }
+
+    /**
+     * Pauses the recording of random draws.
+     *
+     * @return Whether the recording was paused before, so nested decisions restore it correctly.
+     */
+    private boolean pause() {
+        boolean paused = random.isPaused();
+        random.setPaused(true);
+        return paused;
+    }
+}
@@ -0,0 +1,41 @@
+package game.replay;
+
+import game.dice.Dice;
+
+/**
+ * Dice that play back the rolls recorded by {@link RecordingDice} instead of rolling.
+ */
+class ReplayDice extends Dice {
+
+    private final BitReader bits;
+
+    /**
+     * Constructs a new ReplayDice object.
+     *
+     * @param bits The recorded stream.
+     */
+    ReplayDice(BitReader bits) {
+        super(null); // Never draws
+        this.bits = bits;
+    }
+
+    @Override
+    public int rollTwoSidedDice() {
+        return (int) bits.readBits(1) + 1;
+    }
+
+    @Override
+    public int rollTenSidedDice() {
+        return (int) bits.readBits(4) + 1;
+    }
+
+    @Override
+    public int rollHundredSidedDice() {
+        return (int) bits.readBits(7) + 1;
+    }
+
+    @Override
+    public int roll(int sides) {
+        return (int) bits.readBits(BitWriter.bitsFor(sides)) + 1;
+    }
+}
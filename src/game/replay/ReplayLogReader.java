@@ -0,0 +1,121 @@
+package game.replay;
+
+import game.events.ConsoleRenderer;
+import game.events.NoOpSink;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Reads the games of a replay log written by {@link ReplayLogWriter} one record at a time.
+ */
+public class ReplayLogReader implements AutoCloseable {
+
+    private final DataInputStream input;
+
+    private ReplayLogReader(DataInputStream input) {
+        this.input = input;
+    }
+
+    /**
+     * Opens a log for reading.
+     *
+     * @param file The log file.
+     * @return The reader, positioned at the first game.
+     * @throws IOException If the file cannot be read or is not a replay log of this version.
+     */
+    public static ReplayLogReader open(Path file) throws IOException {
+        DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16));
+        try {
+            if (input.readInt() != ReplayLogWriter.MAGIC) {
+                throw new IOException(file + " is not a replay log.");
+            }
+            int version = input.readInt();
+            if (version != ReplayLogWriter.VERSION) {
+                throw new IOException(file + " has replay log version " + version + ", expected " + ReplayLogWriter.VERSION + ".");
+            }
+        } catch (IOException e) {
+            input.close();
+            throw e;
+        }
+        return new ReplayLogReader(input);
+    }
+
+    /**
+     * Reads the next game.
+     *
+     * @return The next record, or null at the end of the log.
+     * @throws IOException If the file cannot be read or ends inside a record.
+     */
+    public ReplayRecord next() throws IOException {
+        input.mark(1);
+        if (input.read() < 0) {
+            return null;
+        }
+        input.reset();
+        return ReplayRecord.read(input);
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    /**
+     * Reads an unsigned varint written by {@link ReplayLogWriter#writeVarint(java.io.DataOutput, long)}.
+     *
+     * @param input The input.
+     * @return The value.
+     * @throws IOException If the input fails or ends inside the varint.
+     */
+    static long readVarint(DataInput input) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int group = input.readUnsignedByte();
+            value |= (long) (group & 0x7F) << shift;
+            if ((group & 0x80) == 0) {
+                return value;
+            }
+            if (shift > 56) {
+                throw new EOFException("The replay log is corrupt: varint too long.");
+            }
+        }
+    }
+
+    /**
+     * Replays the games of a log. With a game number, that game is printed as it was played;
+     * otherwise every game is replayed at full speed and checked against its recorded result.
+     * Arguments: the log file and optionally the number of the game, starting at 0.
+     *
+     * @param args The command-line arguments.
+     * @throws IOException If the log cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "games.replay");
+        long only = args.length > 1 ? Long.parseLong(args[1]) : -1;
+
+        long startTime = System.nanoTime();
+        long games = 0;
+        try (ReplayLogReader log = open(file)) {
+            for (ReplayRecord record = log.next(); record != null; record = log.next(), games++) {
+                if (only < 0) {
+                    record.replay(NoOpSink.INSTANCE);
+                } else if (games == only) {
+                    System.out.println(record.replay(new ConsoleRenderer(System.out)));
+                    return;
+                }
+            }
+        }
+        if (only >= 0) {
+            System.out.println("The log has only " + games + " games.");
+            return;
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.printf("Replayed and verified %d games in %.2f s (%.0f games/s)%n", games, seconds, games / seconds);
+    }
+}
@@ -0,0 +1,201 @@
+package game.replay;
+
+import game.Game;
+import game.Simulator;
+import game.bots.BotStrategies;
+import game.bots.BotStrategy;
+import game.events.ConsoleRenderer;
+import game.events.GameEventSink;
+import game.events.NoOpSink;
+import game.investments.MarketModel;
+import game.simulation.GameResult;
+import game.simulation.RandomStreams;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Scanner;
+import java.util.SplittableRandom;
+
+/**
+ * Appends recorded games to a replay log file. Games are created by the writer, recorded while they are
+ * played and appended as one record when they end, so a log can be written by many simulation threads at once.
+ * <p>
+ * Every random draw of a game and every decision of its players is recorded in order, each with the
+ * bits it needs and without tags, because the replay asks for them in the same order:
+ * <ul>
+ *     <li>dice rolls take 1, 4 or 7 bits and the shuffle of the board a few bits per square,
+ *     see {@link RecordingDice} and {@link RecordingRandom};</li>
+ *     <li>bot decisions take 1 to 3 bits and amounts a varint, see {@link RecordingStrategy};</li>
+ *     <li>human input is kept as text.</li>
+ * </ul>
+ * A record starts with the setup and the result of the game, so the replay can check that it reproduces
+ * the game. A bot game takes a few hundred bytes; the file starts with a magic number and a version.
+ */
+public class ReplayLogWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x45475250; // "EGRP"
+    static final int VERSION = 1;
+
+    private final OutputStream output;
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream(); // Reused for every record
+    private final DataOutputStream recordOutput = new DataOutputStream(record);
+    private long games;
+    private long bytes;
+
+    private ReplayLogWriter(OutputStream output) {
+        this.output = output;
+    }
+
+    /**
+     * Opens a log for appending, creating it if it does not exist.
+     *
+     * @param file The log file.
+     * @return The writer.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static ReplayLogWriter open(Path file) throws IOException {
+        boolean empty = !Files.exists(file) || Files.size(file) == 0;
+        OutputStream stream = new BufferedOutputStream(Files.newOutputStream(file,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), 1 << 16);
+        if (empty) {
+            DataOutputStream header = new DataOutputStream(stream);
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+        }
+        return new ReplayLogWriter(stream);
+    }
+
+    /**
+     * Creates a headless game that is recorded and appended to this log when it ends.
+     * It is played like {@code Game.createHeadless(new SplittableRandom(seed), market)}.
+     *
+     * @param seed   The seed of the game.
+     * @param market The way the return rates of investments are drawn.
+     * @return A new headless Game, to be played with {@link Game#playBotGame(int, BotStrategy, BotStrategy)}.
+     */
+    public Game createGame(long seed, MarketModel market) {
+        return createGame(seed, market, NoOpSink.INSTANCE);
+    }
+
+    /**
+     * Creates a headless game that is recorded and appended to this log when it ends.
+     *
+     * @param seed   The seed of the game.
+     * @param market The way the return rates of investments are drawn.
+     * @param events The sink the events of the game are published to.
+     * @return A new headless Game.
+     */
+    public Game createGame(long seed, MarketModel market, GameEventSink events) {
+        return new ReplayRecorder(this, seed, market, new SplittableRandom(seed)).createGame(null, events, true);
+    }
+
+    /**
+     * Creates an interactive game on the console that is recorded and appended to this log when it ends.
+     *
+     * @param seed The seed of the game.
+     * @return A new interactive Game, to be played with {@link Game#startGame()}.
+     */
+    public Game createInteractiveGame(long seed) {
+        return new ReplayRecorder(this, seed, MarketModel.INDEPENDENT, new SplittableRandom(seed))
+                .createGame(new Scanner(System.in), new ConsoleRenderer(System.out), false);
+    }
+
+    /**
+     * Appends a finished game.
+     *
+     * @param recorder The recorder of the game.
+     * @param result   The result of the game.
+     * @throws UncheckedIOException If the file cannot be written.
+     */
+    synchronized void append(ReplayRecorder recorder, GameResult result) {
+        try {
+            record.reset();
+            recorder.writeTo(recordOutput, result);
+            record.writeTo(output);
+            games++;
+            bytes += record.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException("The replay log could not be written.", e);
+        }
+    }
+
+    /**
+     * Gets the number of games appended by this writer.
+     *
+     * @return The number of games.
+     */
+    public synchronized long getGameCount() {
+        return games;
+    }
+
+    /**
+     * Gets the number of bytes appended by this writer.
+     *
+     * @return The number of bytes.
+     */
+    public synchronized long getByteCount() {
+        return bytes;
+    }
+
+    /**
+     * Writes out the buffered records and closes the file.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        output.close();
+    }
+
+    /**
+     * Writes an unsigned varint of 7 bits per byte.
+     *
+     * @param output The output.
+     * @param value  The value, treated as unsigned.
+     * @throws IOException If the output fails.
+     */
+    static void writeVarint(DataOutput output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    /**
+     * Records bot games into a log.
+     * Arguments: the log file, the number of games, the master seed, the strategies of "Bot 1" and "Bot 2"
+     * and the turn limit.
+     *
+     * @param args The command-line arguments.
+     * @throws IOException If the log cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "games.replay");
+        long games = args.length > 1 ? Long.parseLong(args[1]) : 10_000;
+        long masterSeed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+        BotStrategy first = BotStrategies.get(args.length > 3 ? args[3] : "Random");
+        BotStrategy second = BotStrategies.get(args.length > 4 ? args[4] : "Random");
+        int maxTurns = args.length > 5 ? Integer.parseInt(args[5]) : Simulator.DEFAULT_MAX_TURNS;
+
+        long startTime = System.nanoTime();
+        try (ReplayLogWriter log = open(file)) {
+            for (long i = 0; i < games; i++) {
+                log.createGame(RandomStreams.gameSeed(masterSeed, i), MarketModel.INDEPENDENT)
+                        .playBotGame(maxTurns, first, second);
+            }
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+            System.out.printf("Master seed: %d%n", masterSeed);
+            System.out.printf("Recorded %d games in %.2f s: %d bytes, %.1f bytes per game%n",
+                    log.getGameCount(), seconds, log.getByteCount(), (double) log.getByteCount() / log.getGameCount());
+        }
+    }
+}
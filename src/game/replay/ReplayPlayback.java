@@ -0,0 +1,53 @@
+package game.replay;
+
+import game.bots.BotStrategy;
+import game.simulation.GameResult;
+
+import java.util.Scanner;
+
+/**
+ * Plays back the decisions of a recorded game: bots get a {@link ReplayStrategy} and human input
+ * is read from the log instead of the console.
+ */
+class ReplayPlayback implements GameJournal {
+
+    private final BitReader bits;
+    private GameResult result;
+
+    /**
+     * Constructs a new ReplayPlayback object.
+     *
+     * @param bits The recorded stream.
+     */
+    ReplayPlayback(BitReader bits) {
+        this.bits = bits;
+    }
+
+    @Override
+    public BotStrategy wrap(BotStrategy strategy) {
+        return strategy instanceof ReplayStrategy ? strategy : new ReplayStrategy(strategy.getName(), bits);
+    }
+
+    @Override
+    public String readLine(Scanner scanner) {
+        return bits.readString();
+    }
+
+    @Override
+    public void gameStarted(int maxTurns, String first, String second) {
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+        this.result = result;
+    }
+
+    /**
+     * Gets the result of the replayed game.
+     *
+     * @return The result, or null before the game ended.
+     */
+    GameResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package game.replay;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays back the draws recorded by a {@link RecordingRandom}. Every method reads exactly the bits
+ * its recording counterpart wrote, so the game sees the recorded values in the recorded order.
+ */
+class ReplayRandom implements RandomGenerator {
+
+    private final BitReader bits;
+
+    /**
+     * Constructs a new ReplayRandom object.
+     *
+     * @param bits The recorded stream.
+     */
+    ReplayRandom(BitReader bits) {
+        this.bits = bits;
+    }
+
+    @Override
+    public long nextLong() {
+        return bits.readBits(Long.SIZE);
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) bits.readBits(Integer.SIZE);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return (int) bits.readBits(BitWriter.bitsFor(bound));
+    }
+
+    @Override
+    public int nextInt(int origin, int bound) {
+        return (int) (origin + bits.readBits(BitWriter.bitsFor((long) bound - origin)));
+    }
+
+    @Override
+    public long nextLong(long bound) {
+        return bits.readBits(BitWriter.bitsFor(bound));
+    }
+
+    @Override
+    public long nextLong(long origin, long bound) {
+        return origin + bits.readBits(bound - origin > 0 ? BitWriter.bitsFor(bound - origin) : Long.SIZE);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return bits.readBits(1) != 0;
+    }
+
+    @Override
+    public float nextFloat() {
+        return Float.intBitsToFloat((int) bits.readBits(Integer.SIZE));
+    }
+
+    @Override
+    public double nextDouble() {
+        return Double.longBitsToDouble(bits.readBits(Long.SIZE));
+    }
+
+    @Override
+    public double nextDouble(double bound) {
+        return nextDouble();
+    }
+
+    @Override
+    public double nextDouble(double origin, double bound) {
+        return nextDouble();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return nextDouble();
+    }
+}
@@ -0,0 +1,170 @@
+package game.replay;
+
+import game.Game;
+import game.events.GameEventSink;
+import game.investments.MarketModel;
+import game.simulation.GameResult;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * One recorded game of a replay log: how the game was set up, its result and the bit stream
+ * of its random draws and decisions.
+ */
+public class ReplayRecord {
+
+    private static final MarketModel[] MARKETS = MarketModel.values();
+
+    private final boolean interactive;
+    private final MarketModel market;
+    private final long seed;
+    private final int maxTurns;
+    private final String first;
+    private final String second;
+    private final GameResult result;
+    private final byte[] payload;
+    private final long bitLength;
+
+    private ReplayRecord(boolean interactive, MarketModel market, long seed, int maxTurns, String first, String second,
+                         GameResult result, byte[] payload, long bitLength) {
+        this.interactive = interactive;
+        this.market = market;
+        this.seed = seed;
+        this.maxTurns = maxTurns;
+        this.first = first;
+        this.second = second;
+        this.result = result;
+        this.payload = payload;
+        this.bitLength = bitLength;
+    }
+
+    /**
+     * Reads a record in the format {@link ReplayRecorder} writes.
+     *
+     * @param input The input, positioned at the start of a record.
+     * @return The record.
+     * @throws IOException If the input fails or ends inside the record.
+     */
+    static ReplayRecord read(DataInput input) throws IOException {
+        boolean interactive = input.readBoolean();
+        MarketModel market = MARKETS[input.readUnsignedByte()];
+        long seed = input.readLong();
+        int maxTurns = (int) ReplayLogReader.readVarint(input);
+        String first = interactive ? null : input.readUTF();
+        String second = interactive ? null : input.readUTF();
+        String[] names = new String[input.readUnsignedByte()];
+        double[] balances = new double[names.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = input.readUTF();
+            balances[i] = input.readDouble();
+        }
+        int winnerIndex = (int) ReplayLogReader.readVarint(input) - 1;
+        int turns = (int) ReplayLogReader.readVarint(input);
+        long bitLength = ReplayLogReader.readVarint(input);
+        byte[] payload = new byte[(int) ((bitLength + 7) >>> 3)];
+        input.readFully(payload);
+        return new ReplayRecord(interactive, market, seed, maxTurns, first, second,
+                new GameResult(names, balances, winnerIndex, turns), payload, bitLength);
+    }
+
+    /**
+     * Re-executes the recorded game. The game is headless and takes every random draw and every decision
+     * from the record, so it runs at full speed without the original bots or any input.
+     *
+     * @param events The sink the events of the replayed game are published to, for example a
+     *               {@link game.events.ConsoleRenderer} to read the game as it was played.
+     * @return The result of the replayed game.
+     * @throws IllegalStateException If the replay does not end exactly like the recording, which means the game
+     *                               code changed since the game was recorded.
+     */
+    public GameResult replay(GameEventSink events) {
+        BitReader bits = new BitReader(payload, bitLength);
+        ReplayPlayback playback = new ReplayPlayback(bits);
+        Game game = Game.createJournaled(null, events, true, new ReplayRandom(bits), new ReplayDice(bits), market, playback);
+        GameResult replayed;
+        if (interactive) {
+            game.startGame();
+            replayed = playback.getResult();
+        } else {
+            replayed = game.playBotGame(maxTurns, new ReplayStrategy(first, bits), new ReplayStrategy(second, bits));
+        }
+        if (bits.remaining() != 0 || !matches(replayed)) {
+            throw new IllegalStateException("The replay diverged from the recording: recorded " + result
+                    + ", replayed " + replayed + " with " + bits.remaining() + " bits left.");
+        }
+        return replayed;
+    }
+
+    /**
+     * Checks if the interactive game was recorded, rather than a bot game.
+     *
+     * @return True for the interactive game.
+     */
+    public boolean isInteractive() {
+        return interactive;
+    }
+
+    /**
+     * Gets the market model of the game.
+     *
+     * @return The market model.
+     */
+    public MarketModel getMarket() {
+        return market;
+    }
+
+    /**
+     * Gets the seed the game was played from. The replay does not need it.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the turn limit of a bot game.
+     *
+     * @return The turn limit, 0 for the interactive game.
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Gets the names of the strategies of "Bot 1" and "Bot 2".
+     *
+     * @return The strategy names, or null for the interactive game.
+     */
+    public String[] getStrategyNames() {
+        return interactive ? null : new String[]{first, second};
+    }
+
+    /**
+     * Gets the result the game had when it was recorded.
+     *
+     * @return The recorded result.
+     */
+    public GameResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the length of the recorded draws and decisions.
+     *
+     * @return The length in bits.
+     */
+    public long getBitLength() {
+        return bitLength;
+    }
+
+    private boolean matches(GameResult replayed) {
+        return replayed != null
+                && replayed.getWinnerIndex() == result.getWinnerIndex()
+                && replayed.getTurns() == result.getTurns()
+                && Arrays.equals(replayed.getPlayerNames(), result.getPlayerNames())
+                && Arrays.equals(replayed.getFinalBalances(), result.getFinalBalances());
+    }
+}
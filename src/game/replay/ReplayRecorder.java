@@ -0,0 +1,111 @@
+package game.replay;
+
+import game.Game;
+import game.bots.BotStrategy;
+import game.events.GameEventSink;
+import game.investments.MarketModel;
+import game.simulation.GameResult;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Scanner;
+import java.util.random.RandomGenerator;
+
+/**
+ * Records one game into a bit stream and appends it to the log when the game ends.
+ * A recorder is created with its game by {@link ReplayLogWriter} and is used by that game only.
+ */
+class ReplayRecorder implements GameJournal {
+
+    private final ReplayLogWriter log;
+    private final long seed;
+    private final MarketModel market;
+    private final BitWriter bits = new BitWriter();
+    private final RecordingRandom random;
+    private final RecordingDice dice;
+    private boolean interactive = true;
+    private int maxTurns;
+    private String first;
+    private String second;
+
+    /**
+     * Constructs a new ReplayRecorder object.
+     *
+     * @param log    The log the game is appended to.
+     * @param seed   The seed of the game, kept in the log for reference.
+     * @param market The market model of the game.
+     * @param source The real generator of the game.
+     */
+    ReplayRecorder(ReplayLogWriter log, long seed, MarketModel market, RandomGenerator source) {
+        this.log = log;
+        this.seed = seed;
+        this.market = market;
+        this.random = new RecordingRandom(source, bits);
+        this.dice = new RecordingDice(source, bits);
+    }
+
+    @Override
+    public BotStrategy wrap(BotStrategy strategy) {
+        return new RecordingStrategy(strategy, random, bits);
+    }
+
+    @Override
+    public String readLine(Scanner scanner) {
+        String line = scanner.nextLine();
+        bits.writeString(line);
+        return line;
+    }
+
+    @Override
+    public void gameStarted(int maxTurns, String first, String second) {
+        this.interactive = first == null;
+        this.maxTurns = maxTurns;
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+        log.append(this, result);
+    }
+
+    /**
+     * Creates the game this recorder records.
+     *
+     * @param scanner  The source of human input, or null if only bots play.
+     * @param events   The sink the events of the game are published to.
+     * @param headless True to skip pauses, false for the interactive game.
+     * @return The new Game.
+     */
+    Game createGame(Scanner scanner, GameEventSink events, boolean headless) {
+        return Game.createJournaled(scanner, events, headless, random, dice, market, this);
+    }
+
+    /**
+     * Writes the recorded game as one record of the log, in the format {@link ReplayRecord#read} reads.
+     *
+     * @param output The output.
+     * @param result The result of the game.
+     * @throws IOException If the output fails.
+     */
+    void writeTo(DataOutput output, GameResult result) throws IOException {
+        output.writeBoolean(interactive);
+        output.writeByte(market.ordinal());
+        output.writeLong(seed);
+        ReplayLogWriter.writeVarint(output, maxTurns);
+        if (!interactive) {
+            output.writeUTF(first);
+            output.writeUTF(second);
+        }
+        String[] names = result.getPlayerNames();
+        output.writeByte(names.length);
+        for (int i = 0; i < names.length; i++) {
+            output.writeUTF(names[i]);
+            output.writeDouble(result.getFinalBalances()[i]);
+        }
+        ReplayLogWriter.writeVarint(output, result.getWinnerIndex() + 1);
+        ReplayLogWriter.writeVarint(output, result.getTurns());
+        ReplayLogWriter.writeVarint(output, bits.getBitLength());
+        bits.writeTo(output);
+    }
+}
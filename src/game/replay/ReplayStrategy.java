@@ -0,0 +1,68 @@
+package game.replay;
+
+import game.Game;
+import game.board.squares.SquareType;
+import game.bots.BotStrategy;
+import game.investments.Company;
+import game.players.Player;
+import game.traps.Trap;
+
+/**
+ * Plays back the decisions recorded by a {@link RecordingStrategy} without running the original strategy,
+ * so a game of even the slowest search bot is replayed at full speed.
+ */
+class ReplayStrategy implements BotStrategy {
+
+    private static final Trap[] TRAPS = Trap.values();
+    private static final SquareType[] SQUARE_TYPES = SquareType.values();
+
+    private final String name;
+    private final BitReader bits;
+
+    /**
+     * Constructs a new ReplayStrategy object.
+     *
+     * @param name The name of the recorded strategy.
+     * @param bits The recorded stream.
+     */
+    ReplayStrategy(String name, BitReader bits) {
+        this.name = name;
+        this.bits = bits;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Trap chooseTrap(Player player, Game game) {
+        int choice = (int) bits.readBits(RecordingStrategy.TRAP_BITS);
+        return choice == 0 ? null : TRAPS[choice - 1];
+    }
+
+    @Override
+    public boolean wantsStealPlan(Player player, Game game) {
+        return bits.readBits(1) != 0;
+    }
+
+    @Override
+    public SquareType chooseStealTarget(Player player, Game game) {
+        return SQUARE_TYPES[(int) bits.readBits(RecordingStrategy.SQUARE_TYPE_BITS)];
+    }
+
+    @Override
+    public Company chooseInvestment(Player player, Game game, Company first, Company second) {
+        return switch ((int) bits.readBits(RecordingStrategy.COMPANY_BITS)) {
+            case 0 -> null;
+            case 1 -> first;
+            case 2 -> second;
+            default -> throw new IllegalStateException("The replay log is corrupt: unknown company choice.");
+        };
+    }
+
+    @Override
+    public double chooseInvestmentAmount(Player player, Game game, Company company) {
+        return bits.readAmount();
+    }
+}
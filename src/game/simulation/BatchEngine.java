@@ -0,0 +1,702 @@
+package game.simulation;
+
+import game.Simulator;
+import game.board.Board;
+import game.board.BoardSpec;
+import game.board.squares.ChanceSquare;
+import game.board.squares.PartyHardSquare;
+import game.board.squares.SquareType;
+import game.board.squares.StartSquare;
+import game.board.squares.TrapSquare;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.investments.MarketModel;
+import game.investments.SettlementEngine;
+import game.players.Player;
+import game.traps.Trap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Plays many bot-vs-bot games at once with the whole state of every game kept in primitive arrays.
+ * <p>
+ * Each game occupies a lane. Player data is stored per slot ({@code lane * 2 + turnOrder}) and square data
+ * per cell ({@code lane * boardSize + position}). All lanes advance one player turn per pass, so a batch
+ * allocates nothing after the engine is created. The board and the movement dice come from a {@link BoardSpec};
+ * as every lane keeps its own squares, the lanes of a large board take {@code 3 * boardSize} bytes each.
+ * <p>
+ * The engine implements the same rules and the same bot choices as the object model
+ * ({@link game.Game} and the squares), so its results are statistically identical. It draws from its own
+ * SplitMix64 stream per lane, seeded like {@link RandomStreams}, so it does not reproduce the exact
+ * games of the object model, only their distribution. Player 0 of every lane is the first player.
+ * <p>
+ * Investments are settled once per pass for all lanes. With the {@link MarketModel#SHARED} model the
+ * return rates are drawn once per round from a market stream of the batch and shared by every lane,
+ * so the results then also depend on which games are played together.
+ */
+public class BatchEngine {
+
+    private static final SquareType[] SQUARE_TYPES = SquareType.values();
+    private static final Trap[] TRAPS = Trap.values();
+    private static final int NO_OWNER = -1;
+    private static final int NO_STEAL_PLAN = -1;
+
+    private final int lanes;
+    private final int maxTurns;
+    private final BoardSpec spec;
+    private final int boardSize;
+    private final int movementDice; // The number of movement dice
+    private final int movementSides; // The number of sides of every movement dice
+    private final int companyCount;
+    private final SettlementEngine settlement;
+    private final byte[] defaultLayout;
+    private final int[] trapCosts;
+    private final double[] companyMinInvestment;
+    private final int[] companyRiskMin;
+    private final int[] companyRiskMax;
+
+    // --- Per lane ---
+    private final long[] rngState;
+    private final long[] twoSidedBits;
+    private final int[] twoSidedBitsLeft;
+    private final int[] currentPlayer;
+    private final int[] turns;
+    private final int[] winner;
+    private final boolean[] finished;
+    private int games;
+    private int runningGames;
+    private final int[] pendingSettlements; // Slots that finished their turn in the current pass
+    private int pendingCount;
+
+    // --- Per square (lane * boardSize + position) ---
+    private final byte[] squareType;
+    private final byte[] trapOwner;
+    private final byte[] trapKind;
+
+    // --- Per player (lane * 2 + turn order) ---
+    private final int[] position;
+    private final double[] balance;
+    private final int[] turnsInNeutralState;
+    private final boolean[] canNotUseStealSquare;
+    private final boolean[] underBadLuckEffect;
+    private final boolean[] canNotPlaceTrap;
+    private final byte[] stealPlan;
+
+    // --- Per holding (slot * companyCount + company) ---
+    private final double[] invested;
+
+    /**
+     * Constructs a new BatchEngine object and allocates the state of all lanes.
+     *
+     * @param lanes    The maximum number of games played at once.
+     * @param maxTurns The maximum number of player turns per game.
+     */
+    public BatchEngine(int lanes, int maxTurns) {
+        this(lanes, maxTurns, MarketModel.INDEPENDENT);
+    }
+
+    /**
+     * Constructs a new BatchEngine object with the given market model.
+     *
+     * @param lanes    The maximum number of games played at once.
+     * @param maxTurns The maximum number of player turns per game.
+     * @param market   The way the return rates of investments are drawn.
+     */
+    public BatchEngine(int lanes, int maxTurns, MarketModel market) {
+        this(lanes, maxTurns, market, BoardSpec.STANDARD);
+    }
+
+    /**
+     * Constructs a new BatchEngine object that plays on the given board.
+     *
+     * @param lanes    The maximum number of games played at once.
+     * @param maxTurns The maximum number of player turns per game.
+     * @param market   The way the return rates of investments are drawn.
+     * @param spec     The board and the movement dice of every game.
+     */
+    public BatchEngine(int lanes, int maxTurns, MarketModel market, BoardSpec spec) {
+        if (lanes <= 0 || maxTurns <= 0) {
+            throw new IllegalArgumentException("The number of lanes and the turn limit must be positive.");
+        }
+        if ((long) lanes * spec.getSize() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many lanes for a board of " + spec.getSize() + " squares: " + lanes);
+        }
+        this.lanes = lanes;
+        this.maxTurns = maxTurns;
+
+        // The layout is taken from a real board so the engine always plays the same squares.
+        this.spec = spec;
+        Board board = new Board(spec, new SplittableRandom(0));
+        boardSize = board.getSize();
+        movementDice = spec.getMovement().getCount();
+        movementSides = spec.getMovement().getSides();
+        defaultLayout = new byte[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            defaultLayout[i] = (byte) board.getType(i).ordinal();
+        }
+
+        trapCosts = new int[TRAPS.length];
+        for (int i = 0; i < trapCosts.length; i++) {
+            trapCosts[i] = TRAPS[i].getInvestmentCost();
+        }
+
+        List<Company> companies = InvestmentManager.getAllCompanies();
+        companyCount = companies.size();
+        settlement = new SettlementEngine(market);
+        companyMinInvestment = new double[companies.size()];
+        companyRiskMin = new int[companies.size()];
+        companyRiskMax = new int[companies.size()];
+        for (int i = 0; i < companies.size(); i++) {
+            companyMinInvestment[i] = companies.get(i).getMinInvestment();
+            companyRiskMin[i] = companies.get(i).getRiskMin();
+            companyRiskMax[i] = companies.get(i).getRiskMax();
+        }
+
+        rngState = new long[lanes];
+        twoSidedBits = new long[lanes];
+        twoSidedBitsLeft = new int[lanes];
+        currentPlayer = new int[lanes];
+        turns = new int[lanes];
+        winner = new int[lanes];
+        finished = new boolean[lanes];
+        pendingSettlements = new int[lanes];
+
+        squareType = new byte[lanes * boardSize];
+        trapOwner = new byte[lanes * boardSize];
+        trapKind = new byte[lanes * boardSize];
+
+        int players = lanes * 2;
+        position = new int[players];
+        balance = new double[players];
+        turnsInNeutralState = new int[players];
+        canNotUseStealSquare = new boolean[players];
+        underBadLuckEffect = new boolean[players];
+        canNotPlaceTrap = new boolean[players];
+        stealPlan = new byte[players];
+        invested = new double[players * companyCount];
+    }
+
+    /**
+     * Gets the board the games of this engine are played on.
+     *
+     * @return The board spec.
+     */
+    public BoardSpec getSpec() {
+        return spec;
+    }
+
+    /**
+     * Gets the number of player turns after which a game of this engine is a draw.
+     *
+     * @return The turn limit.
+     */
+    public int getMaxTurns() {
+        return maxTurns;
+    }
+
+    /**
+     * Gets the maximum number of games played at once.
+     *
+     * @return The number of lanes.
+     */
+    public int getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Plays a range of games of a batch to the end, one game per lane.
+     * Game {@code firstGameIndex + lane} is played in lane {@code lane}.
+     *
+     * @param masterSeed     The seed of the whole batch.
+     * @param firstGameIndex The index of the game played in lane 0.
+     * @param games          The number of games to play, at most the number of lanes.
+     */
+    public void play(long masterSeed, long firstGameIndex, int games) {
+        if (games < 0 || games > lanes) {
+            throw new IllegalArgumentException("The number of games must be between 0 and " + lanes + ": " + games);
+        }
+        this.games = games;
+        runningGames = games;
+        for (int lane = 0; lane < games; lane++) {
+            reset(lane, RandomStreams.gameSeed(masterSeed, firstGameIndex + lane));
+        }
+
+        // Only the SHARED model draws from the market stream of the batch
+        SplittableRandom market = new SplittableRandom(RandomStreams.mix64(masterSeed ^ firstGameIndex));
+        for (int turn = 0; turn < maxTurns && runningGames > 0; turn++) {
+            pendingCount = 0;
+            for (int lane = 0; lane < games; lane++) {
+                if (!finished[lane]) {
+                    playTurn(lane);
+                }
+            }
+            settlePending(turn, market);
+        }
+    }
+
+    /**
+     * Loads a snapshot of a game into a lane, for example to play it out from a search.
+     * A snapshot taken in the middle of a turn has that turn finished right away, including settlement.
+     * Loaded lanes are played with {@link #playLoaded(int, int)}.
+     *
+     * @param lane  The lane to load the game into.
+     * @param state The game to continue; it must be on a board of the engine's size.
+     * @param seed  The seed of the lane's random stream from this point on.
+     */
+    public void load(int lane, GameState state, long seed) {
+        if (state.getBoardSize() != boardSize) {
+            throw new IllegalArgumentException("The state's board has " + state.getBoardSize() + " squares, not " + boardSize);
+        }
+        rngState[lane] = seed;
+        twoSidedBitsLeft[lane] = 0;
+        currentPlayer[lane] = state.getCurrentPlayer();
+        turns[lane] = state.getTurns();
+        winner[lane] = GameResult.NO_WINNER;
+        finished[lane] = false;
+
+        int cell = lane * boardSize;
+        for (int i = 0; i < boardSize; i++) {
+            squareType[cell + i] = (byte) state.getSquareType(i).ordinal();
+            trapOwner[cell + i] = (byte) state.getTrapOwner(i);
+            trapKind[cell + i] = state.getTrap(i) == null ? 0 : (byte) state.getTrap(i).ordinal();
+        }
+
+        for (int player = 0; player < 2; player++) {
+            int slot = lane * 2 + player;
+            position[slot] = state.getPosition(player);
+            balance[slot] = state.getBalance(player);
+            turnsInNeutralState[slot] = state.getTurnsInNeutralState(player);
+            canNotUseStealSquare[slot] = state.isCanNotUseStealSquare(player);
+            underBadLuckEffect[slot] = state.isUnderBadLuckEffect(player);
+            canNotPlaceTrap[slot] = state.isCanNotPlaceTrap(player);
+            SquareType plan = state.getStealPlan(player);
+            stealPlan[slot] = plan == null ? NO_STEAL_PLAN : (byte) plan.ordinal();
+            for (int company = 0; company < companyCount; company++) {
+                invested[slot * companyCount + company] = state.getInvested(player, company);
+            }
+        }
+
+        if (state.isMidTurn()) {
+            int player = currentPlayer[lane];
+            if (endTurn(lane, lane * 2 + player, player)) {
+                settleInvestments(lane, lane * 2 + player);
+            }
+        }
+    }
+
+    /**
+     * Plays the games loaded into lanes 0 to games - 1 for a number of passes, one player turn per pass,
+     * or until they end. A game also stops when it reaches the engine's turn limit.
+     * Investments are always settled with independent rates.
+     *
+     * @param games  The number of loaded lanes.
+     * @param passes The maximum number of player turns to play in every lane.
+     */
+    public void playLoaded(int games, int passes) {
+        if (games < 0 || games > lanes) {
+            throw new IllegalArgumentException("The number of games must be between 0 and " + lanes + ": " + games);
+        }
+        this.games = games;
+        runningGames = 0;
+        for (int lane = 0; lane < games; lane++) {
+            if (!finished[lane]) {
+                runningGames++;
+            }
+        }
+
+        for (int pass = 0; pass < passes && runningGames > 0; pass++) {
+            for (int lane = 0; lane < games; lane++) {
+                if (finished[lane]) {
+                    continue;
+                }
+                if (turns[lane] >= maxTurns) {
+                    finished[lane] = true; // A draw by the turn limit
+                    runningGames--;
+                    continue;
+                }
+                pendingCount = 0;
+                playTurn(lane);
+                if (pendingCount > 0) {
+                    settleInvestments(lane, pendingSettlements[0]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a game of the last call to play or playLoaded has ended.
+     *
+     * @param lane The lane of the game.
+     * @return True if a player ran out of money or the turn limit was reached.
+     */
+    public boolean isFinished(int lane) {
+        return finished[lane];
+    }
+
+    /**
+     * Adds the games of the last call to play to a summary, in lane order.
+     *
+     * @param summary The summary to add the games to.
+     */
+    public void addResultsTo(SimulationSummary summary) {
+        for (int lane = 0; lane < games; lane++) {
+            double winnerBalance = winner[lane] == GameResult.NO_WINNER ? 0 : balance[lane * 2 + winner[lane]];
+            summary.add(winner[lane], turns[lane], winnerBalance);
+        }
+    }
+
+    /**
+     * Gets the winner of a game of the last call to play.
+     *
+     * @param lane The lane of the game.
+     * @return The index of the winner in turn order, or GameResult.NO_WINNER for a draw.
+     */
+    public int getWinnerIndex(int lane) {
+        return winner[lane];
+    }
+
+    /**
+     * Gets the length of a game of the last call to play.
+     *
+     * @param lane The lane of the game.
+     * @return The number of player turns that were played.
+     */
+    public int getTurns(int lane) {
+        return turns[lane];
+    }
+
+    /**
+     * Gets a final balance of a game of the last call to play.
+     *
+     * @param lane        The lane of the game.
+     * @param playerIndex The index of the player in turn order.
+     * @return The balance of the player at the end of the game.
+     */
+    public double getBalance(int lane, int playerIndex) {
+        return balance[lane * 2 + playerIndex];
+    }
+
+    /**
+     * Puts a lane into the state of a new game: a freshly shuffled board and two new players.
+     *
+     * @param lane The lane to reset.
+     * @param seed The seed of the lane's random stream.
+     */
+    private void reset(int lane, long seed) {
+        rngState[lane] = seed;
+        twoSidedBitsLeft[lane] = 0;
+        currentPlayer[lane] = 0;
+        turns[lane] = 0;
+        winner[lane] = GameResult.NO_WINNER;
+        finished[lane] = false;
+
+        int cell = lane * boardSize;
+        System.arraycopy(defaultLayout, 0, squareType, cell, boardSize);
+        Arrays.fill(trapOwner, cell, cell + boardSize, (byte) NO_OWNER);
+        // Same Fisher-Yates shuffle as Board, keeping the START square at index 0
+        if (spec.isShuffled()) {
+            for (int i = boardSize - 1; i > 1; i--) {
+                int j = 1 + nextInt(lane, i);
+                byte type = squareType[cell + i];
+                squareType[cell + i] = squareType[cell + j];
+                squareType[cell + j] = type;
+            }
+        }
+
+        for (int slot = lane * 2; slot < lane * 2 + 2; slot++) {
+            position[slot] = 0;
+            balance[slot] = Player.INITIAL_BALANCE;
+            turnsInNeutralState[slot] = 0;
+            canNotUseStealSquare[slot] = false;
+            underBadLuckEffect[slot] = false;
+            canNotPlaceTrap[slot] = false;
+            stealPlan[slot] = NO_STEAL_PLAN;
+        }
+        Arrays.fill(invested, lane * 2 * companyCount, (lane * 2 + 2) * companyCount, 0);
+    }
+
+    /**
+     * Plays the turn of the current player of a lane, mirroring Game.playTurn.
+     *
+     * @param lane The lane whose current player moves.
+     */
+    private void playTurn(int lane) {
+        int player = currentPlayer[lane];
+        int slot = lane * 2 + player;
+
+        position[slot] = (position[slot] + rollMovement(lane)) % boardSize;
+        int cell = lane * boardSize + position[slot];
+        switch (SQUARE_TYPES[squareType[cell]]) {
+            case START -> {
+                if (!isInNeutralState(slot)) {
+                    balance[slot] += StartSquare.BONUS_AMOUNT;
+                }
+            }
+            case PARTY_HARD -> {
+                if (!isInNeutralState(slot)) {
+                    balance[slot] -= PartyHardSquare.PARTY_COST;
+                }
+            }
+            case CHANCE -> playChance(lane, slot);
+            case STEAL -> playSteal(lane, slot);
+            case TRAP -> playTrap(lane, slot, player, cell);
+            case INVEST -> playInvest(lane, slot);
+        }
+        if (endTurn(lane, slot, player)) {
+            pendingSettlements[pendingCount++] = slot; // Settled with the other lanes at the end of the pass
+        }
+    }
+
+    /**
+     * Finishes a turn after the square action: counts it and ends the game if the player ran out of money.
+     *
+     * @return True if the game goes on and the player's investments have to be settled.
+     */
+    private boolean endTurn(int lane, int slot, int player) {
+        turns[lane]++;
+        if (balance[slot] <= 0) {
+            winner[lane] = 1 - player;
+            finished[lane] = true;
+            runningGames--;
+            return false;
+        }
+        currentPlayer[lane] = 1 - player;
+        return true;
+    }
+
+    /**
+     * Mirrors Player.isInNeutralState: consumes one neutral turn if any is left.
+     *
+     * @param slot The player slot.
+     * @return True if the player cannot gain or lose money this time.
+     */
+    private boolean isInNeutralState(int slot) {
+        if (turnsInNeutralState[slot] > 0) {
+            turnsInNeutralState[slot]--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Mirrors ChanceSquare.performAction.
+     */
+    private void playChance(int lane, int slot) {
+        int outcomeRoll;
+        if (underBadLuckEffect[slot]) {
+            underBadLuckEffect[slot] = false;
+            outcomeRoll = 1;
+        } else {
+            outcomeRoll = rollDice(lane, 10);
+        }
+        int amount = ChanceSquare.getAmountByChanceRoll(rollDice(lane, 100));
+        balance[slot] += outcomeRoll % 2 == 0 ? amount : -amount;
+    }
+
+    /**
+     * Mirrors StealSquare.performAction with the bot's random choices.
+     */
+    private void playSteal(int lane, int slot) {
+        if (canNotUseStealSquare[slot]) {
+            canNotUseStealSquare[slot] = false;
+            return;
+        }
+        if (isInNeutralState(slot) || stealPlan[slot] != NO_STEAL_PLAN) {
+            return;
+        }
+        if (nextInt(lane, 2) == 0) {
+            SquareType target = switch (nextInt(lane, 3)) {
+                case 0 -> SquareType.CHANCE;
+                case 1 -> SquareType.TRAP;
+                default -> SquareType.STEAL;
+            };
+            stealPlan[slot] = (byte) target.ordinal();
+        }
+    }
+
+    /**
+     * Mirrors TrapSquare.performAction with the bot's random choices.
+     */
+    private void playTrap(int lane, int slot, int player, int cell) {
+        if (stealPlan[slot] == SquareType.TRAP.ordinal()) {
+            balance[slot] += TrapSquare.STEAL_PLAN_REWARD;
+        }
+
+        if (trapOwner[cell] == NO_OWNER) {
+            if (balance[slot] <= 0) {
+                return;
+            }
+            // The penalty is consumed, but like in TrapSquare it does not stop the player.
+            canNotPlaceTrap[slot] = false;
+            int kind = nextInt(lane, trapCosts.length);
+            if (balance[slot] >= trapCosts[kind]) {
+                balance[slot] -= trapCosts[kind];
+                trapOwner[cell] = (byte) player;
+                trapKind[cell] = (byte) kind;
+            }
+            return;
+        }
+
+        if (trapOwner[cell] == player || isInNeutralState(slot)) {
+            return;
+        }
+        switch (TRAPS[trapKind[cell]]) {
+            case TAX_AUDIT -> balance[slot] -= balance[slot] * TrapSquare.TAX_AUDIT_RATE;
+            case CAT_DIVORCE -> {
+                int roll = rollDice(lane, 10);
+                if (roll == 2 || roll == 8) {
+                    turnsInNeutralState[slot] = TrapSquare.CAT_DIVORCE_NEUTRAL_TURNS;
+                }
+            }
+            case PROPAGANDA -> canNotPlaceTrap[slot] = true;
+            case SEEING_THE_LIGHT -> canNotUseStealSquare[slot] = true;
+            case GAMBLING_BOSS -> underBadLuckEffect[slot] = true;
+        }
+    }
+
+    /**
+     * Mirrors InvestSquare.performAction with the bot's random choices.
+     */
+    private void playInvest(int lane, int slot) {
+        if (balance[slot] <= 0) {
+            return;
+        }
+        int company1;
+        int company2;
+        do {
+            company1 = nextInt(lane, InvestmentManager.OFFERED_COMPANIES);
+            company2 = nextInt(lane, InvestmentManager.OFFERED_COMPANIES);
+        } while (company1 == company2);
+
+        while (true) {
+            int choice = nextInt(lane, 3);
+            if (choice == 2) {
+                return;
+            }
+            int company = choice == 0 ? company1 : company2;
+            double minInvestment = companyMinInvestment[company];
+            if (balance[slot] <= minInvestment) {
+                continue;
+            }
+            double amount = (int) (minInvestment + nextDouble(lane) * (balance[slot] - minInvestment));
+            balance[slot] -= amount;
+            invested[slot * companyCount + company] += amount;
+        }
+    }
+
+    /**
+     * Settles the investments of every player that finished a turn in this pass, in one go.
+     * A round is two passes, so both players of a game settle at the same SHARED rates.
+     */
+    private void settlePending(int turn, SplittableRandom market) {
+        if (settlement.getModel() == MarketModel.SHARED) {
+            if (turn % 2 == 0) {
+                settlement.openMarket(market);
+            }
+            settlement.settle(invested, balance, pendingSettlements, pendingCount, market);
+            return;
+        }
+        // Independent rates come from the lane streams, so every game stays reproducible on its own
+        for (int i = 0; i < pendingCount; i++) {
+            int slot = pendingSettlements[i];
+            settleInvestments(slot / 2, slot);
+        }
+    }
+
+    /**
+     * Mirrors Game.processInvestments: every company held draws one risk factor for its total.
+     */
+    private void settleInvestments(int lane, int slot) {
+        int base = slot * companyCount;
+        for (int company = 0; company < companyCount; company++) {
+            double amount = invested[base + company];
+            if (amount <= 0) {
+                continue;
+            }
+            int riskMin = companyRiskMin[company];
+            int randomFactor = riskMin + nextInt(lane, companyRiskMax[company] - riskMin + 1);
+            balance[slot] += amount * ((double) randomFactor / 100);
+        }
+    }
+
+    // --- Random stream of a lane (the SplitMix64 generator behind SplittableRandom) ---
+
+    private long nextLong(int lane) {
+        return RandomStreams.mix64(rngState[lane] += RandomStreams.GOLDEN_GAMMA);
+    }
+
+    /**
+     * Draws an integer in [0, bound) with the same multiply-shift mapping as Dice.
+     */
+    private int nextInt(int lane, int bound) {
+        return (int) (((nextLong(lane) >>> 32) * bound) >>> 32);
+    }
+
+    private double nextDouble(int lane) {
+        return (nextLong(lane) >>> 11) * 0x1.0p-53;
+    }
+
+    private int rollDice(int lane, int sides) {
+        return nextInt(lane, sides) + 1;
+    }
+
+    /**
+     * Mirrors MovementDice.roll: 2-sided dice come from the bit buffer, any other dice from a draw each.
+     */
+    private int rollMovement(int lane) {
+        int steps = 0;
+        for (int i = 0; i < movementDice; i++) {
+            steps += movementSides == 2 ? rollTwoSidedDice(lane) : rollDice(lane, movementSides);
+        }
+        return steps;
+    }
+
+    private int rollTwoSidedDice(int lane) {
+        if (twoSidedBitsLeft[lane] == 0) {
+            twoSidedBits[lane] = nextLong(lane);
+            twoSidedBitsLeft[lane] = Long.SIZE;
+        }
+        int roll = (int) (twoSidedBits[lane] & 1) + 1;
+        twoSidedBits[lane] >>>= 1;
+        twoSidedBitsLeft[lane]--;
+        return roll;
+    }
+
+    /**
+     * Plays a batch with the engine and prints the merged statistics.
+     *
+     * The board is read from the system properties of {@link BoardSpec#fromSystemProperties()}.
+     *
+     * @param args Optional number of games, maximum number of turns per game, number of lanes, master seed and market model.
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        int maxTurns = args.length > 1 ? Integer.parseInt(args[1]) : Simulator.DEFAULT_MAX_TURNS;
+        int lanes = args.length > 2 ? Integer.parseInt(args[2]) : 4096;
+        long masterSeed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+        MarketModel market = args.length > 4 ? MarketModel.valueOf(args[4].toUpperCase()) : MarketModel.INDEPENDENT;
+
+        BoardSpec board = BoardSpec.fromSystemProperties();
+
+        BatchEngine engine = new BatchEngine(lanes, maxTurns, market, board);
+        SimulationSummary summary = new SimulationSummary();
+        long startTime = System.nanoTime();
+        for (long first = 0; first < games; first += lanes) {
+            engine.play(masterSeed, first, (int) Math.min(lanes, games - first));
+            engine.addResultsTo(summary);
+        }
+        summary.setElapsedNanos(System.nanoTime() - startTime);
+
+        System.out.printf("Master seed: %d%n", masterSeed);
+        if (board != BoardSpec.STANDARD) {
+            System.out.printf("Board: %s%n", board);
+        }
+        System.out.printf("Games played: %d in %.2f s (%.0f games/s)%n",
+                summary.getGames(), summary.getElapsedNanos() / 1e9, summary.getGamesPerSecond());
+        System.out.printf("First player wins: %d, second player wins: %d, draws: %d%n",
+                summary.getFirstPlayerWins(), summary.getSecondPlayerWins(), summary.getDraws());
+        System.out.printf("Average turns per game: %.2f%n", summary.getAverageTurns());
+    }
+}
@@ -0,0 +1,80 @@
+package game.simulation;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Submits the chunks of a batch to worker threads with only a few chunks per thread in flight, and hands
+ * the result of every chunk to its merge step in submission order. Submitting waits for the oldest chunk
+ * once the window is full, so a run of any number of chunks keeps a bounded number of tasks and results,
+ * and merging in order keeps the totals independent of the scheduling.
+ * <p>
+ * A window is used by one thread, the one that submits the chunks.
+ *
+ * @param <T> The type of the result of a chunk.
+ */
+public class ChunkWindow<T> {
+
+    /**
+     * The number of chunks per worker thread that are submitted but not merged yet.
+     */
+    public static final int CHUNKS_PER_THREAD = 4;
+
+    private final ExecutorService executor;
+    private final int capacity;
+    private final ArrayDeque<Future<T>> chunks;
+    private final ArrayDeque<Consumer<? super T>> merges;
+
+    /**
+     * Constructs a new ChunkWindow object.
+     *
+     * @param executor The workers the chunks are played on.
+     * @param threads  The number of worker threads of the executor.
+     */
+    public ChunkWindow(ExecutorService executor, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive: " + threads);
+        }
+        this.executor = executor;
+        this.capacity = threads * CHUNKS_PER_THREAD;
+        this.chunks = new ArrayDeque<>(capacity);
+        this.merges = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Submits a chunk, first merging the oldest chunk if the window is full.
+     *
+     * @param chunk The work of the chunk.
+     * @param merge Receives the result of the chunk on the submitting thread, after every earlier chunk.
+     * @throws InterruptedException If the thread is interrupted while waiting for the oldest chunk.
+     * @throws ExecutionException   If a chunk failed.
+     */
+    public void submit(Callable<T> chunk, Consumer<? super T> merge) throws InterruptedException, ExecutionException {
+        if (chunks.size() == capacity) {
+            mergeOldest();
+        }
+        chunks.add(executor.submit(chunk));
+        merges.add(merge);
+    }
+
+    /**
+     * Waits for every submitted chunk and merges them in order.
+     *
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     * @throws ExecutionException   If a chunk failed.
+     */
+    public void finish() throws InterruptedException, ExecutionException {
+        while (!chunks.isEmpty()) {
+            mergeOldest();
+        }
+    }
+
+    private void mergeOldest() throws InterruptedException, ExecutionException {
+        T result = chunks.poll().get();
+        merges.poll().accept(result);
+    }
+}
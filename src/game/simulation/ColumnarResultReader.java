@@ -0,0 +1,229 @@
+package game.simulation;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Reads a results file written by {@link ColumnarResultWriter} one column at a time.
+ * A scan reads only the row count of every block and the bytes of the requested column, so scanning
+ * the turn counts of a batch reads about 2% of the file.
+ */
+public class ColumnarResultReader implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final ResultShape shape;
+    private final int rowWidth;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+    private ColumnarResultReader(FileChannel channel, ResultShape shape) {
+        this.channel = channel;
+        this.shape = shape;
+        this.rowWidth = shape.getRowWidth();
+    }
+
+    /**
+     * Opens a results file.
+     *
+     * @param file The results file.
+     * @return The reader.
+     * @throws IOException If the file cannot be read or is not a results file of this version.
+     */
+    public static ColumnarResultReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(ColumnarResultWriter.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, header, 0);
+            if (header.getInt() != ColumnarResultWriter.MAGIC) {
+                throw new IOException(file + " is not a results file.");
+            }
+            int version = header.getInt();
+            if (version != ColumnarResultWriter.VERSION) {
+                throw new IOException(file + " has results version " + version + ", expected " + ColumnarResultWriter.VERSION + ".");
+            }
+            return new ColumnarResultReader(channel, new ResultShape(header.getInt(), header.getInt(), header.getInt()));
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of elements per game of a column in this file.
+     *
+     * @param column The column.
+     * @return The number of elements, for example the number of squares for LANDINGS.
+     */
+    public int getElements(ResultColumn column) {
+        return column.getElements(shape);
+    }
+
+    /**
+     * Counts the games of the file by reading the row counts of the blocks.
+     *
+     * @return The number of games.
+     * @throws IOException If the file cannot be read.
+     */
+    public long getGameCount() throws IOException {
+        long[] games = new long[1];
+        scan(ResultColumn.SEED, 0, (chunk, rows, elements) -> games[0] += rows);
+        return games[0];
+    }
+
+    /**
+     * Reads one element of a LONG column for every game.
+     *
+     * @param column   The column.
+     * @param element  The index of the element within a game.
+     * @param consumer Receives the value of every game.
+     * @throws IOException If the file cannot be read.
+     */
+    public void scanLongs(ResultColumn column, int element, LongConsumer consumer) throws IOException {
+        requireType(column, ResultColumn.ElementType.LONG);
+        scan(column, element, (chunk, rows, elements) -> {
+            for (int row = 0; row < rows; row++) {
+                consumer.accept(chunk.getLong((row * elements + element) * Long.BYTES));
+            }
+        });
+    }
+
+    /**
+     * Reads one element of a BYTE or INT column for every game.
+     *
+     * @param column   The column.
+     * @param element  The index of the element within a game.
+     * @param consumer Receives the value of every game.
+     * @throws IOException If the file cannot be read.
+     */
+    public void scanInts(ResultColumn column, int element, IntConsumer consumer) throws IOException {
+        if (column.getType() == ResultColumn.ElementType.BYTE) {
+            scan(column, element, (chunk, rows, elements) -> {
+                for (int row = 0; row < rows; row++) {
+                    consumer.accept(chunk.get(row * elements + element));
+                }
+            });
+            return;
+        }
+        requireType(column, ResultColumn.ElementType.INT);
+        scan(column, element, (chunk, rows, elements) -> {
+            for (int row = 0; row < rows; row++) {
+                consumer.accept(chunk.getInt((row * elements + element) * Integer.BYTES));
+            }
+        });
+    }
+
+    /**
+     * Reads one element of a DOUBLE column for every game.
+     *
+     * @param column   The column.
+     * @param element  The index of the element within a game.
+     * @param consumer Receives the value of every game.
+     * @throws IOException If the file cannot be read.
+     */
+    public void scanDoubles(ResultColumn column, int element, DoubleConsumer consumer) throws IOException {
+        requireType(column, ResultColumn.ElementType.DOUBLE);
+        scan(column, element, (chunk, rows, elements) -> {
+            for (int row = 0; row < rows; row++) {
+                consumer.accept(chunk.getDouble((row * elements + element) * Double.BYTES));
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Receives the bytes of one column of one block.
+     */
+    private interface ChunkVisitor {
+        void visit(ByteBuffer chunk, int rows, int elements);
+    }
+
+    /**
+     * Reads the requested column of every block, skipping the other columns.
+     */
+    private void scan(ResultColumn column, int element, ChunkVisitor visitor) throws IOException {
+        int elements = column.getElements(shape);
+        if (element < 0 || element >= elements) {
+            throw new IndexOutOfBoundsException("Column " + column + " has " + elements + " elements, not " + element);
+        }
+        ByteBuffer rowCount = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long size = channel.size();
+        long position = ColumnarResultWriter.HEADER_BYTES;
+        while (position < size) {
+            rowCount.clear();
+            readFully(channel, rowCount, position);
+            int rows = rowCount.getInt();
+            long blockSize = Integer.BYTES + (long) rows * rowWidth;
+            if (position + blockSize > size) {
+                throw new EOFException("The results file ends inside a block.");
+            }
+            int length = rows * column.getWidth(shape);
+            if (buffer.capacity() < length) {
+                buffer = ByteBuffer.allocateDirect(length).order(ByteOrder.LITTLE_ENDIAN);
+            }
+            buffer.clear().limit(length);
+            readFully(channel, buffer, position + Integer.BYTES + shape.getColumnOffset(column, rows));
+            visitor.visit(buffer, rows, elements);
+            position += blockSize;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            int read = channel.read(target, position);
+            if (read < 0) {
+                throw new EOFException("The results file ends early.");
+            }
+            position += read;
+        }
+        target.flip();
+    }
+
+    private static void requireType(ResultColumn column, ResultColumn.ElementType type) {
+        if (column.getType() != type) {
+            throw new IllegalArgumentException("Column " + column + " holds " + column.getType() + " values, not " + type);
+        }
+    }
+
+    /**
+     * Prints the count, minimum, maximum and mean of one column of a results file.
+     * Arguments: the results file, the column name and optionally the element index.
+     *
+     * @param args The command-line arguments.
+     * @throws IOException If the file cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(args.length > 0 ? args[0] : "results.bin");
+        ResultColumn column = ResultColumn.valueOf(args.length > 1 ? args[1].toUpperCase() : "TURNS");
+        int element = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        double[] stats = {0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0}; // count, min, max, sum
+        DoubleConsumer accumulate = value -> {
+            stats[0]++;
+            stats[1] = Math.min(stats[1], value);
+            stats[2] = Math.max(stats[2], value);
+            stats[3] += value;
+        };
+        long startTime = System.nanoTime();
+        try (ColumnarResultReader reader = open(file)) {
+            switch (column.getType()) {
+                case LONG -> reader.scanLongs(column, element, accumulate::accept);
+                case DOUBLE -> reader.scanDoubles(column, element, accumulate);
+                default -> reader.scanInts(column, element, accumulate::accept);
+            }
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.printf("%s[%d]: %.0f games in %.3f s, min %s, max %s, mean %.4f%n", column, element,
+                stats[0], seconds, stats[1], stats[2], stats[3] / stats[0]);
+    }
+}
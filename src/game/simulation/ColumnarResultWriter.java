@@ -0,0 +1,269 @@
+package game.simulation;
+
+import game.board.BoardSpec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams the summary of every simulated game to a file in a columnar binary format.
+ * <p>
+ * Games are collected by {@link ResultCollector}s on the simulation threads into blocks of up to {@link #BLOCK_ROWS} games.
+ * A background thread encodes full blocks into a large direct buffer and writes it through a {@link FileChannel},
+ * forcing the data to disk at least every second. There are never more than {@code maxBlocks} blocks:
+ * when the writer falls behind, the collectors wait for a free block, so a batch of any size is written
+ * with bounded memory.
+ * <p>
+ * The file is little-endian. It starts with a header of five ints: magic, version and the number of
+ * squares, trap kinds and companies. Every block that follows is its row count and then each
+ * {@link ResultColumn} in order, with the elements of a game next to each other. A column of a block is
+ * found from the row count alone, so {@link ColumnarResultReader} can read one column and skip the rest.
+ * Blocks from different threads are interleaved, so games are not stored in index order; the SEED column
+ * identifies them.
+ */
+public class ColumnarResultWriter implements AutoCloseable {
+
+    static final int MAGIC = 0x45474352; // "EGCR"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    /**
+     * The number of games in a full block. Blocks of large boards hold fewer games, so a block fits the staging buffer.
+     */
+    public static final int BLOCK_ROWS = 1024;
+
+    /**
+     * The default number of blocks that may exist at once, being filled, waiting or being written.
+     */
+    public static final int DEFAULT_MAX_BLOCKS = 16;
+
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int STAGING_BYTES = 8 << 20; // Several blocks are written with one call
+
+    private final FileChannel channel;
+    private final ResultShape shape;
+    private final int blockRows; // The number of games in a full block of this shape
+    private final int maxBlocks;
+    private final BlockingQueue<ResultBlock> full = new LinkedBlockingQueue<>();
+    private final BlockingQueue<ResultBlock> free = new LinkedBlockingQueue<>();
+    private final ResultBlock end; // Tells the writer thread to finish
+    private final ByteBuffer staging;
+    private final Thread thread;
+    private int allocated; // Guarded by free
+    private long games; // Written by the writer thread, read after it finished
+    private volatile IOException failure;
+
+    private ColumnarResultWriter(FileChannel channel, ResultShape shape, int maxBlocks) {
+        this.channel = channel;
+        this.shape = shape;
+        this.maxBlocks = maxBlocks;
+        this.blockRows = Math.max(1, Math.min(BLOCK_ROWS, STAGING_BYTES / shape.getRowWidth()));
+        this.end = new ResultBlock(shape, 0);
+        this.staging = ByteBuffer.allocateDirect(Math.max(STAGING_BYTES, Integer.BYTES + blockRows * shape.getRowWidth()))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        staging.putInt(MAGIC).putInt(VERSION).putInt(shape.getSquares()).putInt(shape.getTraps()).putInt(shape.getCompanies());
+        this.thread = new Thread(this::writeBlocks, "columnar-result-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Creates or truncates a results file with the default number of blocks.
+     *
+     * @param file The results file.
+     * @return The writer.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static ColumnarResultWriter open(Path file) throws IOException {
+        return open(file, DEFAULT_MAX_BLOCKS);
+    }
+
+    /**
+     * Creates or truncates a results file.
+     *
+     * @param file      The results file.
+     * @param maxBlocks The number of blocks that may exist at once, which bounds the memory of the writer.
+     * @return The writer.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static ColumnarResultWriter open(Path file, int maxBlocks) throws IOException {
+        return open(file, maxBlocks, BoardSpec.STANDARD);
+    }
+
+    /**
+     * Creates or truncates a results file for games played on the given board.
+     *
+     * @param file      The results file.
+     * @param maxBlocks The number of blocks that may exist at once, which bounds the memory of the writer.
+     * @param board     The board of the games, which sets the width of the per-square columns.
+     * @return The writer.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static ColumnarResultWriter open(Path file, int maxBlocks, BoardSpec board) throws IOException {
+        if (maxBlocks <= 0) {
+            throw new IllegalArgumentException("The number of blocks must be positive: " + maxBlocks);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        return new ColumnarResultWriter(channel, ResultShape.of(board), maxBlocks);
+    }
+
+    /**
+     * Creates a collector for one simulation thread.
+     *
+     * @return A new collector that hands its blocks to this writer.
+     */
+    public ResultCollector newCollector() {
+        return new ResultCollector(this, shape);
+    }
+
+    /**
+     * Gets the number of games written. Complete once the writer is closed.
+     *
+     * @return The number of games.
+     */
+    public synchronized long getGamesWritten() {
+        return games;
+    }
+
+    /**
+     * Takes an empty block, waiting while all blocks are in use.
+     *
+     * @return The block.
+     * @throws UncheckedIOException If the file could not be written.
+     */
+    ResultBlock acquire() {
+        checkFailure();
+        ResultBlock block;
+        synchronized (free) {
+            block = free.poll();
+            if (block == null && allocated < maxBlocks) {
+                allocated++;
+                return new ResultBlock(shape, blockRows);
+            }
+        }
+        try {
+            return block != null ? block : free.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a free result block.", e);
+        }
+    }
+
+    /**
+     * Queues a filled block for writing.
+     *
+     * @param block The block.
+     * @throws UncheckedIOException If the file could not be written.
+     */
+    void submit(ResultBlock block) {
+        checkFailure();
+        full.add(block);
+    }
+
+    /**
+     * Returns an unused block.
+     *
+     * @param block The block.
+     */
+    void release(ResultBlock block) {
+        free.add(block);
+    }
+
+    /**
+     * Writes every submitted block, forces the file to disk and closes it.
+     * The collectors must be closed first, or their last games are lost.
+     *
+     * @throws IOException If the file could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        full.add(end);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing the results file.", e);
+        } finally {
+            channel.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * The loop of the writer thread: encodes blocks into the staging buffer and writes it when it is full
+     * or when the flush interval has passed.
+     */
+    private void writeBlocks() {
+        long lastFlush = System.nanoTime();
+        try {
+            while (true) {
+                ResultBlock block = full.poll(FLUSH_INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+                if (block == end) {
+                    break;
+                }
+                if (block != null) {
+                    if (failure == null) {
+                        write(block);
+                    }
+                    block.clear();
+                    free.add(block); // Recycled even after a failure, so no collector waits forever
+                }
+                if (System.nanoTime() - lastFlush >= FLUSH_INTERVAL_NANOS) {
+                    flush(false);
+                    lastFlush = System.nanoTime();
+                }
+            }
+            flush(true);
+        } catch (InterruptedException e) {
+            failure = new IOException("The results writer was interrupted.", e);
+        }
+    }
+
+    private void write(ResultBlock block) {
+        if (staging.remaining() < block.getEncodedSize()) {
+            flush(false);
+        }
+        block.encode(staging);
+        synchronized (this) {
+            games += block.rows;
+        }
+    }
+
+    /**
+     * Writes the staging buffer to the file and forces it to disk. A failure is kept for the producers.
+     *
+     * @param last True when the file is being closed, which also forces its metadata.
+     */
+    private void flush(boolean last) {
+        if (failure != null || (staging.position() == 0 && !last)) {
+            return;
+        }
+        try {
+            staging.flip();
+            while (staging.hasRemaining()) {
+                channel.write(staging);
+            }
+            staging.clear();
+            channel.force(last);
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            throw new UncheckedIOException("The results file could not be written.", failure);
+        }
+    }
+}
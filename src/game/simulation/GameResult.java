@@ -0,0 +1,99 @@
+package game.simulation;
+
+import java.util.Arrays;
+
+/**
+ * The compact result of a single finished game.
+ * Players are always listed in turn order, so index 0 is the player who started the game.
+ */
+public class GameResult {
+
+    /**
+     * The winner index of a game that was stopped by the turn limit before anyone ran out of money.
+     */
+    public static final int NO_WINNER = -1;
+
+    private final String[] playerNames;
+    private final double[] finalBalances;
+    private final int winnerIndex;
+    private final int turns;
+
+    /**
+     * Constructs a new GameResult object.
+     *
+     * @param playerNames   The names of the players in turn order.
+     * @param finalBalances The balances of the players at the end of the game, in turn order.
+     * @param winnerIndex   The index of the winner in turn order, or NO_WINNER for a draw.
+     * @param turns         The number of player turns that were played.
+     */
+    public GameResult(String[] playerNames, double[] finalBalances, int winnerIndex, int turns) {
+        this.playerNames = playerNames;
+        this.finalBalances = finalBalances;
+        this.winnerIndex = winnerIndex;
+        this.turns = turns;
+    }
+
+    /**
+     * Gets the names of the players in turn order.
+     *
+     * @return The player names.
+     */
+    public String[] getPlayerNames() {
+        return playerNames;
+    }
+
+    /**
+     * Gets the balances of the players at the end of the game, in turn order.
+     *
+     * @return The final balances.
+     */
+    public double[] getFinalBalances() {
+        return finalBalances;
+    }
+
+    /**
+     * Gets the index of the winner in turn order.
+     *
+     * @return The winner index, or NO_WINNER if the game ended in a draw.
+     */
+    public int getWinnerIndex() {
+        return winnerIndex;
+    }
+
+    /**
+     * Checks if the game was stopped by the turn limit.
+     *
+     * @return True if nobody won the game, false otherwise.
+     */
+    public boolean isDraw() {
+        return winnerIndex == NO_WINNER;
+    }
+
+    /**
+     * Gets the name of the winner.
+     *
+     * @return The winner's name, or null if the game ended in a draw.
+     */
+    public String getWinnerName() {
+        return isDraw() ? null : playerNames[winnerIndex];
+    }
+
+    /**
+     * Gets the number of player turns that were played.
+     *
+     * @return The number of turns.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    @Override
+    public String toString() {
+        return "GameResult{" +
+                "players=" + Arrays.toString(playerNames) +
+                ", finalBalances=" + Arrays.toString(finalBalances) +
+                ", winner=" + getWinnerName() +
+                ", turns=" + turns +
+                '}';
+    }
+}
@@ -0,0 +1,327 @@
+package game.simulation;
+
+import game.Game;
+import game.board.Board;
+import game.board.squares.SquareType;
+import game.board.squares.TrapSquare;
+import game.investments.InvestmentManager;
+import game.investments.Portfolio;
+import game.players.Player;
+import game.traps.Trap;
+
+import java.util.List;
+
+/**
+ * A compact, copyable snapshot of a two-player game: the board layout with the traps that are set,
+ * the players with their effects and portfolios, and whose turn it is.
+ * <p>
+ * The state lives in a few small primitive arrays, so a search can capture a game once and copy the
+ * snapshot into scratch states or {@link BatchEngine} lanes many times without allocating.
+ * Players are stored in turn order and squares by board position.
+ */
+public class GameState {
+
+    /**
+     * The trap owner of a square without a trap.
+     */
+    public static final int NO_OWNER = -1;
+
+    private static final SquareType[] SQUARE_TYPES = SquareType.values();
+    private static final Trap[] TRAPS = Trap.values();
+    private static final int PLAYERS = 2;
+
+    private final int boardSize;
+    private final int companyCount;
+
+    // --- Per square ---
+    private final byte[] squareType;
+    private final byte[] trapOwner;
+    private final byte[] trapKind;
+
+    // --- Per player, in turn order ---
+    private final int[] position = new int[PLAYERS];
+    private final double[] balance = new double[PLAYERS];
+    private final int[] turnsInNeutralState = new int[PLAYERS];
+    private final boolean[] canNotUseStealSquare = new boolean[PLAYERS];
+    private final boolean[] underBadLuckEffect = new boolean[PLAYERS];
+    private final boolean[] canNotPlaceTrap = new boolean[PLAYERS];
+    private final SquareType[] stealPlan = new SquareType[PLAYERS];
+    private final double[] invested; // player * companyCount + company
+
+    private int currentPlayer;
+    private int turns;
+    private boolean midTurn;
+
+    /**
+     * Constructs an empty GameState object for a board of the given size.
+     *
+     * @param boardSize The number of squares on the board.
+     */
+    public GameState(int boardSize) {
+        this.boardSize = boardSize;
+        this.companyCount = InvestmentManager.getAllCompanies().size();
+        squareType = new byte[boardSize];
+        trapOwner = new byte[boardSize];
+        trapKind = new byte[boardSize];
+        invested = new double[PLAYERS * companyCount];
+    }
+
+    /**
+     * Overwrites this state with a snapshot of a running game.
+     *
+     * @param game    A game with two players and a board of this state's size.
+     * @param midTurn True if the current player has already moved and acted on their square,
+     *                so only the end of the turn (the bankruptcy check and settlement) is left.
+     */
+    public void capture(Game game, boolean midTurn) {
+        Board board = game.getBoard();
+        List<Player> players = game.getPlayers();
+        if (board.getSize() != boardSize || players.size() != PLAYERS) {
+            throw new IllegalArgumentException("The game does not fit this state: " + board.getSize() + " squares, "
+                    + players.size() + " players.");
+        }
+
+        for (int i = 0; i < boardSize; i++) {
+            squareType[i] = (byte) board.getType(i).ordinal();
+            trapOwner[i] = NO_OWNER;
+        }
+        // Only TRAP squares can hold a trap, so only they are asked
+        for (int t = 0; t < board.getCount(SquareType.TRAP); t++) {
+            int i = board.getPosition(SquareType.TRAP, t);
+            TrapSquare trapSquare = (TrapSquare) board.getSquare(i);
+            if (trapSquare.getOwner() != null) {
+                trapOwner[i] = (byte) players.indexOf(trapSquare.getOwner());
+                trapKind[i] = (byte) trapSquare.getActiveTrap().ordinal();
+            }
+        }
+
+        for (int p = 0; p < PLAYERS; p++) {
+            Player player = players.get(p);
+            position[p] = player.getCurrentPositionIndex();
+            balance[p] = player.getBalance();
+            turnsInNeutralState[p] = player.getTurnsInNeutralState();
+            canNotUseStealSquare[p] = player.isCanNotUseSteelSquare();
+            underBadLuckEffect[p] = player.isUnderBadLuckEffect();
+            canNotPlaceTrap[p] = player.isCanNotPlaceTrap();
+            stealPlan[p] = player.getStealPlan();
+            Portfolio portfolio = player.getPortfolio();
+            for (int c = 0; c < companyCount; c++) {
+                invested[p * companyCount + c] = portfolio.getInvested(c);
+            }
+        }
+
+        currentPlayer = game.getCurrentPlayerIndex();
+        turns = game.getTurnCount();
+        this.midTurn = midTurn;
+    }
+
+    /**
+     * Overwrites this state with a copy of another state of the same board size.
+     *
+     * @param other The state to copy.
+     */
+    public void copyFrom(GameState other) {
+        if (other.boardSize != boardSize) {
+            throw new IllegalArgumentException("Board sizes differ: " + other.boardSize + " and " + boardSize);
+        }
+        System.arraycopy(other.squareType, 0, squareType, 0, boardSize);
+        System.arraycopy(other.trapOwner, 0, trapOwner, 0, boardSize);
+        System.arraycopy(other.trapKind, 0, trapKind, 0, boardSize);
+        System.arraycopy(other.position, 0, position, 0, PLAYERS);
+        System.arraycopy(other.balance, 0, balance, 0, PLAYERS);
+        System.arraycopy(other.turnsInNeutralState, 0, turnsInNeutralState, 0, PLAYERS);
+        System.arraycopy(other.canNotUseStealSquare, 0, canNotUseStealSquare, 0, PLAYERS);
+        System.arraycopy(other.underBadLuckEffect, 0, underBadLuckEffect, 0, PLAYERS);
+        System.arraycopy(other.canNotPlaceTrap, 0, canNotPlaceTrap, 0, PLAYERS);
+        System.arraycopy(other.stealPlan, 0, stealPlan, 0, PLAYERS);
+        System.arraycopy(other.invested, 0, invested, 0, invested.length);
+        currentPlayer = other.currentPlayer;
+        turns = other.turns;
+        midTurn = other.midTurn;
+    }
+
+    // --- Decisions of the current player, applied like the squares apply them ---
+
+    /**
+     * Sets a trap on the square of the current player if they can afford it, like TrapSquare does.
+     *
+     * @param trap The trap to set.
+     */
+    public void setTrap(Trap trap) {
+        int cell = position[currentPlayer];
+        if (balance[currentPlayer] >= trap.getInvestmentCost()) {
+            balance[currentPlayer] -= trap.getInvestmentCost();
+            trapOwner[cell] = (byte) currentPlayer;
+            trapKind[cell] = (byte) trap.ordinal();
+        }
+    }
+
+    /**
+     * Sets the steal plan of the current player.
+     *
+     * @param target The square type that triggers the plan.
+     */
+    public void setStealPlan(SquareType target) {
+        stealPlan[currentPlayer] = target;
+    }
+
+    /**
+     * Moves money of the current player into a company.
+     *
+     * @param companyIndex The index of the company in {@link InvestmentManager#getAllCompanies()}.
+     * @param amount       The amount to invest.
+     */
+    public void invest(int companyIndex, double amount) {
+        balance[currentPlayer] -= amount;
+        invested[currentPlayer * companyCount + companyIndex] += amount;
+    }
+
+    // --- Accessors ---
+
+    /**
+     * Gets the number of squares on the board.
+     *
+     * @return The board size.
+     */
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Gets the type of a square.
+     *
+     * @param cell The board position of the square.
+     * @return The square type.
+     */
+    public SquareType getSquareType(int cell) {
+        return SQUARE_TYPES[squareType[cell]];
+    }
+
+    /**
+     * Gets the player who set the trap on a square.
+     *
+     * @param cell The board position of the square.
+     * @return The owner in turn order, or NO_OWNER if no trap is set.
+     */
+    public int getTrapOwner(int cell) {
+        return trapOwner[cell];
+    }
+
+    /**
+     * Gets the trap that is set on a square.
+     *
+     * @param cell The board position of the square.
+     * @return The trap, or null if no trap is set.
+     */
+    public Trap getTrap(int cell) {
+        return trapOwner[cell] == NO_OWNER ? null : TRAPS[trapKind[cell]];
+    }
+
+    /**
+     * Gets the board position of a player.
+     *
+     * @param player The player index in turn order.
+     * @return The position.
+     */
+    public int getPosition(int player) {
+        return position[player];
+    }
+
+    /**
+     * Gets the balance of a player.
+     *
+     * @param player The player index in turn order.
+     * @return The balance.
+     */
+    public double getBalance(int player) {
+        return balance[player];
+    }
+
+    /**
+     * Gets the number of turns a player remains in the neutral state.
+     *
+     * @param player The player index in turn order.
+     * @return The remaining neutral turns.
+     */
+    public int getTurnsInNeutralState(int player) {
+        return turnsInNeutralState[player];
+    }
+
+    /**
+     * Checks if a player cannot use the next Steal square.
+     *
+     * @param player The player index in turn order.
+     * @return True if the Steal square is blocked for the player.
+     */
+    public boolean isCanNotUseStealSquare(int player) {
+        return canNotUseStealSquare[player];
+    }
+
+    /**
+     * Checks if a player is under the bad luck effect.
+     *
+     * @param player The player index in turn order.
+     * @return True if the next Chance square is a loss for the player.
+     */
+    public boolean isUnderBadLuckEffect(int player) {
+        return underBadLuckEffect[player];
+    }
+
+    /**
+     * Checks if a player is under the Propaganda effect.
+     *
+     * @param player The player index in turn order.
+     * @return True if the player is marked as unable to place a trap.
+     */
+    public boolean isCanNotPlaceTrap(int player) {
+        return canNotPlaceTrap[player];
+    }
+
+    /**
+     * Gets the steal plan of a player.
+     *
+     * @param player The player index in turn order.
+     * @return The square type of the plan, or null if no plan is active.
+     */
+    public SquareType getStealPlan(int player) {
+        return stealPlan[player];
+    }
+
+    /**
+     * Gets the total a player has invested in a company.
+     *
+     * @param player       The player index in turn order.
+     * @param companyIndex The index of the company in {@link InvestmentManager#getAllCompanies()}.
+     * @return The invested total.
+     */
+    public double getInvested(int player, int companyIndex) {
+        return invested[player * companyCount + companyIndex];
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return The index of the current player in turn order.
+     */
+    public int getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Gets the number of completed player turns.
+     *
+     * @return The number of turns.
+     */
+    public int getTurns() {
+        return turns;
+    }
+
+    /**
+     * Checks if the current player has already acted on their square and only has to finish the turn.
+     *
+     * @return True in the middle of a turn, false before the current player moves.
+     */
+    public boolean isMidTurn() {
+        return midTurn;
+    }
+}
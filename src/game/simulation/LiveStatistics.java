@@ -0,0 +1,347 @@
+package game.simulation;
+
+import game.Simulator;
+import game.board.squares.SquareType;
+import game.events.GameEventSink;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.players.Player;
+import game.traps.Trap;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregates the statistics of a simulation batch while it runs. One instance is the event sink of
+ * every game on every worker thread at once; all counters are striped adders and {@link LogHistogram}s,
+ * so the workers never take a lock and any thread may read the statistics at any time.
+ * <p>
+ * It counts the wins of the player who started and of the other player, the landings per square type,
+ * the trap triggers per trap kind and the profit and loss of the settled investments per company,
+ * and keeps histograms of the game lengths and of the final balances of both players.
+ * Statistics of different runs or processes are combined with {@link #merge(LiveStatistics)}
+ * and {@link #writeTo(DataOutput)}.
+ */
+public class LiveStatistics implements GameEventSink {
+
+    private static final SquareType[] SQUARE_TYPES = SquareType.values();
+    private static final Trap[] TRAPS = Trap.values();
+
+    private final LongAdder games = new LongAdder();
+    private final LongAdder firstPlayerWins = new LongAdder();
+    private final LongAdder secondPlayerWins = new LongAdder();
+    private final LongAdder draws = new LongAdder();
+    private final LongAdder[] landings = newLongAdders(SQUARE_TYPES.length);
+    private final LongAdder[] trapTriggers = newLongAdders(TRAPS.length);
+    private final DoubleAdder[] profits = new DoubleAdder[InvestmentManager.getAllCompanies().size()];
+    private final LogHistogram turns;
+    private final LogHistogram finalBalances;
+
+    /**
+     * Constructs a new LiveStatistics object with empty counters.
+     */
+    public LiveStatistics() {
+        this(new LogHistogram(1, 1e7, 0.01), new LogHistogram(1e-2, 1e18, 0.01));
+    }
+
+    private LiveStatistics(LogHistogram turns, LogHistogram finalBalances) {
+        this.turns = turns;
+        this.finalBalances = finalBalances;
+        for (int i = 0; i < profits.length; i++) {
+            profits[i] = new DoubleAdder();
+        }
+    }
+
+    @Override
+    public void landed(Player player, SquareType type) {
+        landings[type.ordinal()].increment();
+    }
+
+    @Override
+    public void trapTriggered(Player player, Trap trap) {
+        trapTriggers[trap.ordinal()].increment();
+    }
+
+    @Override
+    public void settled(Player player, Company company, double invested, double change, double balance) {
+        profits[InvestmentManager.indexOf(company)].add(change);
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+        if (result.isDraw()) {
+            draws.increment();
+        } else if (result.getWinnerIndex() == 0) {
+            firstPlayerWins.increment(); // Players are in turn order, so index 0 started the game
+        } else {
+            secondPlayerWins.increment();
+        }
+        turns.record(result.getTurns());
+        for (double balance : result.getFinalBalances()) {
+            finalBalances.record(balance);
+        }
+        games.increment(); // Last, so a reader never sees more games than outcomes
+    }
+
+    /**
+     * Adds the statistics of another aggregator, for example of another run or process.
+     * The other aggregator should not change meanwhile.
+     *
+     * @param other The other statistics.
+     */
+    public void merge(LiveStatistics other) {
+        firstPlayerWins.add(other.firstPlayerWins.sum());
+        secondPlayerWins.add(other.secondPlayerWins.sum());
+        draws.add(other.draws.sum());
+        for (int i = 0; i < landings.length; i++) {
+            landings[i].add(other.landings[i].sum());
+        }
+        for (int i = 0; i < trapTriggers.length; i++) {
+            trapTriggers[i].add(other.trapTriggers[i].sum());
+        }
+        for (int i = 0; i < profits.length; i++) {
+            profits[i].add(other.profits[i].sum());
+        }
+        turns.merge(other.turns);
+        finalBalances.merge(other.finalBalances);
+        games.add(other.games.sum());
+    }
+
+    /**
+     * Writes the statistics, so another process can read and merge them.
+     *
+     * @param output The output.
+     * @throws IOException If the output fails.
+     */
+    public void writeTo(DataOutput output) throws IOException {
+        output.writeLong(games.sum());
+        output.writeLong(firstPlayerWins.sum());
+        output.writeLong(secondPlayerWins.sum());
+        output.writeLong(draws.sum());
+        writeCounts(output, landings);
+        writeCounts(output, trapTriggers);
+        output.writeInt(profits.length);
+        for (DoubleAdder profit : profits) {
+            output.writeDouble(profit.sum());
+        }
+        turns.writeTo(output);
+        finalBalances.writeTo(output);
+    }
+
+    /**
+     * Reads statistics written by {@link #writeTo(DataOutput)}.
+     *
+     * @param input The input.
+     * @return The statistics.
+     * @throws IOException If the input fails or was written for a game with other squares, traps or companies.
+     */
+    public static LiveStatistics readFrom(DataInput input) throws IOException {
+        long games = input.readLong();
+        long firstPlayerWins = input.readLong();
+        long secondPlayerWins = input.readLong();
+        long draws = input.readLong();
+        long[] landings = readCounts(input, SQUARE_TYPES.length);
+        long[] trapTriggers = readCounts(input, TRAPS.length);
+        double[] profits = new double[input.readInt()];
+        for (int i = 0; i < profits.length; i++) {
+            profits[i] = input.readDouble();
+        }
+        LiveStatistics statistics = new LiveStatistics(LogHistogram.readFrom(input), LogHistogram.readFrom(input));
+        if (profits.length != statistics.profits.length) {
+            throw new IOException("The statistics were written for " + profits.length + " companies.");
+        }
+        statistics.games.add(games);
+        statistics.firstPlayerWins.add(firstPlayerWins);
+        statistics.secondPlayerWins.add(secondPlayerWins);
+        statistics.draws.add(draws);
+        for (int i = 0; i < landings.length; i++) {
+            statistics.landings[i].add(landings[i]);
+        }
+        for (int i = 0; i < trapTriggers.length; i++) {
+            statistics.trapTriggers[i].add(trapTriggers[i]);
+        }
+        for (int i = 0; i < profits.length; i++) {
+            statistics.profits[i].add(profits[i]);
+        }
+        return statistics;
+    }
+
+    /**
+     * Gets the number of finished games.
+     *
+     * @return The number of games.
+     */
+    public long getGames() {
+        return games.sum();
+    }
+
+    /**
+     * Gets the number of games won by the player who started.
+     *
+     * @return The number of first player wins.
+     */
+    public long getFirstPlayerWins() {
+        return firstPlayerWins.sum();
+    }
+
+    /**
+     * Gets the number of games won by the player who did not start.
+     *
+     * @return The number of second player wins.
+     */
+    public long getSecondPlayerWins() {
+        return secondPlayerWins.sum();
+    }
+
+    /**
+     * Gets the number of games stopped by the turn limit.
+     *
+     * @return The number of draws.
+     */
+    public long getDraws() {
+        return draws.sum();
+    }
+
+    /**
+     * Gets the share of decided games won by the player who started.
+     *
+     * @return The win rate of the first player, or NaN before any game was decided.
+     */
+    public double getFirstPlayerWinRate() {
+        long first = firstPlayerWins.sum();
+        long decided = first + secondPlayerWins.sum();
+        return decided == 0 ? Double.NaN : (double) first / decided;
+    }
+
+    /**
+     * Gets the number of times a player landed on a square of a type.
+     *
+     * @param type The square type.
+     * @return The number of landings.
+     */
+    public long getLandings(SquareType type) {
+        return landings[type.ordinal()].sum();
+    }
+
+    /**
+     * Gets the number of times a trap of a kind was triggered.
+     *
+     * @param trap The trap kind.
+     * @return The number of triggers.
+     */
+    public long getTrapTriggers(Trap trap) {
+        return trapTriggers[trap.ordinal()].sum();
+    }
+
+    /**
+     * Gets the net profit of all settled investments in a company.
+     *
+     * @param company The company.
+     * @return The profit, negative for a loss.
+     */
+    public double getProfit(Company company) {
+        return profits[InvestmentManager.indexOf(company)].sum();
+    }
+
+    /**
+     * Gets the histogram of the number of turns per game.
+     *
+     * @return The game length histogram.
+     */
+    public LogHistogram getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the histogram of the final balances of all players.
+     *
+     * @return The final balance histogram.
+     */
+    public LogHistogram getFinalBalances() {
+        return finalBalances;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("Games: %d, first player wins: %d (%.2f%% of decided), second player wins: %d, draws: %d%n",
+                getGames(), getFirstPlayerWins(), 100 * getFirstPlayerWinRate(), getSecondPlayerWins(), getDraws()));
+        text.append(String.format("Turns p50/p90/p99: %.0f / %.0f / %.0f%n",
+                turns.getQuantile(0.5), turns.getQuantile(0.9), turns.getQuantile(0.99)));
+        text.append(String.format("Final balance p10/p50/p90: %.4g / %.4g / %.4g%n",
+                finalBalances.getQuantile(0.1), finalBalances.getQuantile(0.5), finalBalances.getQuantile(0.9)));
+        text.append("Landings:");
+        for (SquareType type : SQUARE_TYPES) {
+            text.append(' ').append(type).append('=').append(getLandings(type));
+        }
+        text.append(String.format("%nTrap triggers:"));
+        for (Trap trap : TRAPS) {
+            text.append(' ').append(trap.getType()).append('=').append(getTrapTriggers(trap));
+        }
+        text.append(String.format("%nInvestment profit:"));
+        List<Company> companies = InvestmentManager.getAllCompanies();
+        for (Company company : companies) {
+            text.append(String.format(" %s=%.4g", company.getName(), getProfit(company)));
+        }
+        return text.append(String.format("%n")).toString();
+    }
+
+    private static LongAdder[] newLongAdders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static void writeCounts(DataOutput output, LongAdder[] counts) throws IOException {
+        output.writeInt(counts.length);
+        for (LongAdder count : counts) {
+            output.writeLong(count.sum());
+        }
+    }
+
+    private static long[] readCounts(DataInput input, int expected) throws IOException {
+        int length = input.readInt();
+        if (length != expected) {
+            throw new IOException("The statistics were written for " + length + " kinds, expected " + expected + ".");
+        }
+        long[] counts = new long[length];
+        for (int i = 0; i < length; i++) {
+            counts[i] = input.readLong();
+        }
+        return counts;
+    }
+
+    /**
+     * Runs a batch on all cores and prints the live statistics every second.
+     *
+     * @param args Optional number of games, number of threads and master seed.
+     */
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long masterSeed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+
+        LiveStatistics statistics = new LiveStatistics();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> System.out.println(statistics), 1, 1, TimeUnit.SECONDS);
+        SimulationSummary summary;
+        try {
+            summary = new SimulationRunner(new Simulator(Simulator.DEFAULT_MAX_TURNS, masterSeed), threads)
+                    .run(games, statistics);
+        } finally {
+            reporter.shutdownNow();
+        }
+        System.out.printf("Master seed: %d, %d games in %.2f s%n", masterSeed, summary.getGames(), summary.getElapsedNanos() / 1e9);
+        System.out.print(statistics);
+    }
+}
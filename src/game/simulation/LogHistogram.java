@@ -0,0 +1,224 @@
+package game.simulation;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A mergeable quantile sketch with logarithmic buckets, updated concurrently without locks.
+ * <p>
+ * A value {@code x} is counted in bucket {@code ceil(log(|x|) / log(gamma))} with
+ * {@code gamma = (1 + accuracy) / (1 - accuracy)}, so every quantile is within the relative accuracy of a real value.
+ * Negative values have their own buckets and magnitudes below the smallest trackable value count as zero;
+ * magnitudes above the largest go into the last bucket.
+ * <p>
+ * The counts are striped: every thread increments the copy of the buckets picked by its thread id,
+ * so threads that record the same value rarely touch the same cache line. Readers sum the stripes.
+ * Two sketches with the same parameters merge by adding their counts, within a process with
+ * {@link #merge(LogHistogram)} or across processes with {@link #writeTo(DataOutput)} and {@link #readFrom(DataInput)}.
+ */
+public class LogHistogram {
+
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+    private final double minValue;
+    private final double maxValue;
+    private final double accuracy;
+    private final double logGamma;
+    private final int minIndex; // Bucket index of the smallest trackable magnitude
+    private final int buckets;
+    private final AtomicLongArray positive; // STRIPES copies of the buckets, one after another
+    private final AtomicLongArray negative;
+    private final AtomicLongArray zero; // One count per stripe, spaced a cache line apart
+
+    /**
+     * Constructs a new LogHistogram object.
+     *
+     * @param minValue The smallest magnitude that is not counted as zero.
+     * @param maxValue The largest magnitude that is counted exactly.
+     * @param accuracy The relative accuracy of the quantiles, for example 0.01 for 1%.
+     */
+    public LogHistogram(double minValue, double maxValue, double accuracy) {
+        if (!(minValue > 0 && maxValue > minValue && accuracy > 0 && accuracy < 1)) {
+            throw new IllegalArgumentException("Invalid histogram range or accuracy.");
+        }
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+        this.accuracy = accuracy;
+        this.logGamma = Math.log((1 + accuracy) / (1 - accuracy));
+        this.minIndex = (int) Math.ceil(Math.log(minValue) / logGamma);
+        this.buckets = (int) Math.ceil(Math.log(maxValue) / logGamma) - minIndex + 1;
+        this.positive = new AtomicLongArray(STRIPES * buckets);
+        this.negative = new AtomicLongArray(STRIPES * buckets);
+        this.zero = new AtomicLongArray(STRIPES * 8);
+    }
+
+    /**
+     * Counts a value.
+     *
+     * @param value The value.
+     */
+    public void record(double value) {
+        int stripe = (int) Thread.currentThread().getId() & (STRIPES - 1);
+        double magnitude = Math.abs(value);
+        if (!(magnitude >= minValue)) {
+            zero.getAndIncrement(stripe * 8); // NaN counts as zero too
+            return;
+        }
+        int bucket = Math.min(buckets - 1, (int) Math.ceil(Math.log(magnitude) / logGamma) - minIndex);
+        (value > 0 ? positive : negative).getAndIncrement(stripe * buckets + bucket);
+    }
+
+    /**
+     * Adds the counts of another sketch with the same parameters. The other sketch should not change meanwhile.
+     *
+     * @param other The other sketch.
+     */
+    public void merge(LogHistogram other) {
+        requireSameLayout(other.minValue, other.maxValue, other.accuracy);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            positive.getAndAdd(bucket, other.count(other.positive, bucket));
+            negative.getAndAdd(bucket, other.count(other.negative, bucket));
+        }
+        zero.getAndAdd(0, other.zeroCount());
+    }
+
+    /**
+     * Gets the number of values counted.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        long count = zeroCount();
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            count += count(positive, bucket) + count(negative, bucket);
+        }
+        return count;
+    }
+
+    /**
+     * Estimates a quantile of the counted values.
+     *
+     * @param quantile The quantile, from 0 for the minimum to 1 for the maximum.
+     * @return A value within the relative accuracy of the quantile, or NaN if nothing was counted.
+     */
+    public double getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("The quantile must be between 0 and 1: " + quantile);
+        }
+        long[] negativeCounts = new long[buckets];
+        long[] positiveCounts = new long[buckets];
+        long count = zeroCount();
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            negativeCounts[bucket] = count(negative, bucket);
+            positiveCounts[bucket] = count(positive, bucket);
+            count += negativeCounts[bucket] + positiveCounts[bucket];
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (quantile * (count - 1)); // Zero-based rank of the value
+        for (int bucket = buckets - 1; bucket >= 0; bucket--) { // Largest negative magnitude first
+            rank -= negativeCounts[bucket];
+            if (rank < 0) {
+                return -bucketValue(bucket);
+            }
+        }
+        rank -= zeroCount();
+        if (rank < 0) {
+            return 0;
+        }
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            rank -= positiveCounts[bucket];
+            if (rank < 0) {
+                return bucketValue(bucket);
+            }
+        }
+        return bucketValue(buckets - 1); // Counts grew while reading
+    }
+
+    /**
+     * Writes the parameters and the non-empty buckets.
+     *
+     * @param output The output.
+     * @throws IOException If the output fails.
+     */
+    public void writeTo(DataOutput output) throws IOException {
+        output.writeDouble(minValue);
+        output.writeDouble(maxValue);
+        output.writeDouble(accuracy);
+        output.writeLong(zeroCount());
+        writeBuckets(output, positive);
+        writeBuckets(output, negative);
+    }
+
+    /**
+     * Reads a sketch written by {@link #writeTo(DataOutput)}, for example by another process, so it can be merged.
+     *
+     * @param input The input.
+     * @return The sketch.
+     * @throws IOException If the input fails.
+     */
+    public static LogHistogram readFrom(DataInput input) throws IOException {
+        LogHistogram histogram = new LogHistogram(input.readDouble(), input.readDouble(), input.readDouble());
+        histogram.zero.set(0, input.readLong());
+        histogram.readBuckets(input, histogram.positive);
+        histogram.readBuckets(input, histogram.negative);
+        return histogram;
+    }
+
+    private void writeBuckets(DataOutput output, AtomicLongArray counts) throws IOException {
+        int nonEmpty = 0;
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            if (count(counts, bucket) != 0) {
+                nonEmpty++;
+            }
+        }
+        output.writeInt(nonEmpty);
+        for (int bucket = 0; bucket < buckets && nonEmpty > 0; bucket++) {
+            long count = count(counts, bucket);
+            if (count != 0) {
+                output.writeInt(bucket);
+                output.writeLong(count);
+                nonEmpty--; // Buckets that fill up meanwhile are left for the next write
+            }
+        }
+    }
+
+    private void readBuckets(DataInput input, AtomicLongArray counts) throws IOException {
+        for (int i = input.readInt(); i > 0; i--) {
+            counts.set(input.readInt(), input.readLong());
+        }
+    }
+
+    private long count(AtomicLongArray counts, int bucket) {
+        long count = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            count += counts.get(stripe * buckets + bucket);
+        }
+        return count;
+    }
+
+    private long zeroCount() {
+        long count = 0;
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            count += zero.get(stripe * 8);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the value that represents a bucket with the smallest relative error.
+     */
+    private double bucketValue(int bucket) {
+        double gamma = Math.exp(logGamma);
+        return 2 * Math.exp((bucket + minIndex) * logGamma) / (gamma + 1);
+    }
+
+    private void requireSameLayout(double otherMin, double otherMax, double otherAccuracy) {
+        if (otherMin != minValue || otherMax != maxValue || otherAccuracy != accuracy) {
+            throw new IllegalArgumentException("Only histograms with the same range and accuracy can be merged.");
+        }
+    }
+}
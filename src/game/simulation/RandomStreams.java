@@ -0,0 +1,56 @@
+package game.simulation;
+
+import java.util.SplittableRandom;
+
+/**
+ * Derives the random stream of every game in a batch from a single master seed.
+ * <p>
+ * The seed of game {@code i} is the {@code i}-th value of a {@link SplittableRandom} created with the
+ * master seed. Because that generator advances by a fixed gamma and mixes the result, the value can be
+ * computed directly from the game index, so any worker can create the stream of any game without
+ * coordination. The same master seed therefore plays the same games no matter how they are scheduled.
+ */
+public final class RandomStreams {
+
+    /**
+     * The increment of the SplittableRandom seed sequence (the odd integer closest to 2^64 / phi).
+     */
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private RandomStreams() {
+    }
+
+    /**
+     * Computes the seed of a single game of a batch.
+     *
+     * @param masterSeed The seed of the whole batch.
+     * @param gameIndex  The zero-based index of the game in the batch.
+     * @return The seed of the game's random stream.
+     */
+    public static long gameSeed(long masterSeed, long gameIndex) {
+        return mix64(masterSeed + GOLDEN_GAMMA * (gameIndex + 1));
+    }
+
+    /**
+     * Creates the random stream of a single game of a batch.
+     *
+     * @param masterSeed The seed of the whole batch.
+     * @param gameIndex  The zero-based index of the game in the batch.
+     * @return A new generator used only by that game.
+     */
+    public static SplittableRandom forGame(long masterSeed, long gameIndex) {
+        return new SplittableRandom(gameSeed(masterSeed, gameIndex));
+    }
+
+    /**
+     * The 64-bit finalizer SplittableRandom applies to its seed sequence (variant 13 of MurmurHash3's fmix64).
+     *
+     * @param z The value to mix.
+     * @return The mixed value.
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,46 @@
+package game.simulation;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A SplitMix64 generator that can be reseeded, so a game object can be reused for a new game
+ * without allocating a new generator.
+ * <p>
+ * It uses the same gamma and mixing functions as {@link java.util.SplittableRandom}, so after
+ * {@code setSeed(seed)} it produces exactly the numbers of {@code new SplittableRandom(seed)}.
+ * Like every per-game generator it is not thread-safe.
+ */
+public class ReseedableRandom implements RandomGenerator {
+
+    private long state;
+
+    /**
+     * Constructs a new ReseedableRandom object.
+     *
+     * @param seed The initial seed.
+     */
+    public ReseedableRandom(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Restarts the generator as if it had just been created with the given seed.
+     *
+     * @param seed The new seed.
+     */
+    public void setSeed(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        return RandomStreams.mix64(state += RandomStreams.GOLDEN_GAMMA);
+    }
+
+    @Override
+    public int nextInt() {
+        long z = state += RandomStreams.GOLDEN_GAMMA;
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+}
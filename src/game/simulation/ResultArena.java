@@ -0,0 +1,269 @@
+package game.simulation;
+
+import game.Game;
+import game.Simulator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+/**
+ * Keeps the results of a campaign of games off the heap, one fixed-width slot per game index.
+ * A result is stored as primitives and aggregation passes read the slots without creating any objects,
+ * so the heap stays flat no matter how many games a campaign has.
+ * <p>
+ * The slots live in direct buffers of {@link #SEGMENT_SLOTS} slots each, so an arena is not limited
+ * to 2 GB. {@link #allocate(long)} keeps them in native memory; {@link #map(Path, long)} maps them from
+ * a file, which lets a campaign grow beyond the available memory and keeps its results afterwards.
+ * <p>
+ * A slot of {@link #SLOT_BYTES} bytes holds the number of turns, the winner in turn order plus one
+ * (0 for a draw), the bot that started (0 for "Bot 1", 1 for "Bot 2") and the two final balances in turn order.
+ * A slot whose turn count is 0 was never written. Different threads may write different slots at once;
+ * reading is safe once the writing threads are joined, for example through their futures.
+ */
+public class ResultArena implements AutoCloseable {
+
+    /**
+     * The size of one slot in bytes.
+     */
+    public static final int SLOT_BYTES = 24;
+
+    /**
+     * The number of slots per buffer.
+     */
+    public static final int SEGMENT_SLOTS = 1 << 22;
+
+    private static final int TURNS = 0;
+    private static final int WINNER = 4;
+    private static final int FIRST_BOT = 5;
+    private static final int BALANCES = 8;
+
+    private final ByteBuffer[] segments;
+    private final long capacity;
+    private final FileChannel channel; // The mapped file, or null for native memory
+
+    private ResultArena(ByteBuffer[] segments, long capacity, FileChannel channel) {
+        this.segments = segments;
+        this.capacity = capacity;
+        this.channel = channel;
+    }
+
+    /**
+     * Creates an arena in native memory. The memory is counted against {@code -XX:MaxDirectMemorySize}
+     * and released when the arena is no longer reachable.
+     *
+     * @param capacity The number of games.
+     * @return The arena with every slot empty.
+     */
+    public static ResultArena allocate(long capacity) {
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(capacity)];
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(segmentBytes(capacity, i)).order(ByteOrder.nativeOrder());
+        }
+        return new ResultArena(segments, capacity, null);
+    }
+
+    /**
+     * Creates an arena mapped from a file, which is created or truncated. The operating system pages the slots
+     * in and out, so the arena may be larger than the memory.
+     *
+     * @param file     The file.
+     * @param capacity The number of games.
+     * @return The arena with every slot empty.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    public static ResultArena map(Path file, long capacity) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            ByteBuffer[] segments = new ByteBuffer[segmentCount(capacity)];
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, (long) i * SEGMENT_SLOTS * SLOT_BYTES,
+                        segmentBytes(capacity, i)).order(ByteOrder.nativeOrder());
+            }
+            return new ResultArena(segments, capacity, channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Stores the result of a game in its slot.
+     *
+     * @param gameIndex The index of the game.
+     * @param result    The result of the game.
+     */
+    public void put(long gameIndex, GameResult result) {
+        ByteBuffer segment = segment(gameIndex);
+        int offset = offset(gameIndex);
+        double[] balances = result.getFinalBalances();
+        segment.putInt(offset + TURNS, result.getTurns());
+        segment.put(offset + WINNER, (byte) (result.getWinnerIndex() + 1));
+        segment.put(offset + FIRST_BOT, (byte) (Game.SECOND_BOT_NAME.equals(result.getPlayerNames()[0]) ? 1 : 0));
+        segment.putDouble(offset + BALANCES, balances[0]);
+        segment.putDouble(offset + BALANCES + Double.BYTES, balances[1]);
+    }
+
+    /**
+     * Gets the number of turns of a game.
+     *
+     * @param gameIndex The index of the game.
+     * @return The number of turns, 0 if the slot was never written.
+     */
+    public int getTurns(long gameIndex) {
+        return segment(gameIndex).getInt(offset(gameIndex) + TURNS);
+    }
+
+    /**
+     * Gets the winner of a game in turn order.
+     *
+     * @param gameIndex The index of the game.
+     * @return The winner index, or GameResult.NO_WINNER for a draw.
+     */
+    public int getWinnerIndex(long gameIndex) {
+        return segment(gameIndex).get(offset(gameIndex) + WINNER) - 1;
+    }
+
+    /**
+     * Gets the final balance of a player of a game.
+     *
+     * @param gameIndex The index of the game.
+     * @param player    The index of the player in turn order.
+     * @return The final balance.
+     */
+    public double getFinalBalance(long gameIndex, int player) {
+        return segment(gameIndex).getDouble(offset(gameIndex) + BALANCES + player * Double.BYTES);
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return The capacity in games.
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Receives the fields of one slot.
+     */
+    public interface SlotVisitor {
+        /**
+         * Visits a written slot.
+         *
+         * @param gameIndex     The index of the game.
+         * @param turns         The number of turns.
+         * @param winnerIndex   The winner in turn order, or GameResult.NO_WINNER for a draw.
+         * @param firstBot      The bot that started: 0 for "Bot 1", 1 for "Bot 2".
+         * @param firstBalance  The final balance of the player who started.
+         * @param secondBalance The final balance of the other player.
+         */
+        void visit(long gameIndex, int turns, int winnerIndex, int firstBot, double firstBalance, double secondBalance);
+    }
+
+    /**
+     * Visits every written slot in index order, reading the fields straight from the buffers.
+     *
+     * @param visitor The visitor.
+     */
+    public void forEach(SlotVisitor visitor) {
+        for (int s = 0; s < segments.length; s++) {
+            ByteBuffer segment = segments[s];
+            long firstIndex = (long) s * SEGMENT_SLOTS;
+            int slots = segment.capacity() / SLOT_BYTES;
+            for (int slot = 0, offset = 0; slot < slots; slot++, offset += SLOT_BYTES) {
+                int turns = segment.getInt(offset + TURNS);
+                if (turns == 0) {
+                    continue; // Never written
+                }
+                visitor.visit(firstIndex + slot, turns, segment.get(offset + WINNER) - 1, segment.get(offset + FIRST_BOT),
+                        segment.getDouble(offset + BALANCES), segment.getDouble(offset + BALANCES + Double.BYTES));
+            }
+        }
+    }
+
+    /**
+     * Aggregates the written slots into a summary without creating a result object per game.
+     *
+     * @return The summary of the games in the arena.
+     */
+    public SimulationSummary summarize() {
+        SimulationSummary summary = new SimulationSummary();
+        forEach((gameIndex, turns, winnerIndex, firstBot, firstBalance, secondBalance) ->
+                summary.add(winnerIndex, turns, winnerIndex == 0 ? firstBalance : winnerIndex == 1 ? secondBalance : 0));
+        return summary;
+    }
+
+    /**
+     * Writes a mapped arena to its file and closes it. An arena in native memory has nothing to close.
+     *
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            for (ByteBuffer segment : segments) {
+                ((MappedByteBuffer) segment).force();
+            }
+            channel.close();
+        }
+    }
+
+    private ByteBuffer segment(long gameIndex) {
+        if (gameIndex < 0 || gameIndex >= capacity) {
+            throw new IndexOutOfBoundsException("Game " + gameIndex + " is outside the arena of " + capacity + " games.");
+        }
+        return segments[(int) (gameIndex / SEGMENT_SLOTS)];
+    }
+
+    private static int offset(long gameIndex) {
+        return (int) (gameIndex % SEGMENT_SLOTS) * SLOT_BYTES;
+    }
+
+    private static int segmentCount(long capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        return Math.toIntExact((capacity + SEGMENT_SLOTS - 1) / SEGMENT_SLOTS);
+    }
+
+    private static int segmentBytes(long capacity, int segment) {
+        return (int) Math.min(SEGMENT_SLOTS, capacity - (long) segment * SEGMENT_SLOTS) * SLOT_BYTES;
+    }
+
+    /**
+     * Plays a campaign into an arena and aggregates it with one pass over the slots.
+     *
+     * @param args Optional number of games, number of threads, master seed and a file to map the arena from.
+     * @throws IOException If the file cannot be mapped.
+     */
+    public static void main(String[] args) throws IOException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long masterSeed = args.length > 2 ? Long.parseLong(args[2]) : new SplittableRandom().nextLong();
+        Simulator simulator = new Simulator(Simulator.DEFAULT_MAX_TURNS, masterSeed);
+
+        try (ResultArena arena = args.length > 3 ? map(Path.of(args[3]), games) : allocate(games)) {
+            SimulationSummary played = new SimulationRunner(simulator, threads).run(games, arena);
+            long startTime = System.nanoTime();
+            SimulationSummary summary = arena.summarize();
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+            Runtime runtime = Runtime.getRuntime();
+
+            System.out.printf("Master seed: %d%n", masterSeed);
+            System.out.printf("Games played: %d on %d threads in %.2f s (%.0f games/s)%n",
+                    played.getGames(), threads, played.getElapsedNanos() / 1e9, played.getGamesPerSecond());
+            System.out.printf("Aggregated %d slots (%d MB off-heap) in %.3f s, heap in use: %d MB%n", summary.getGames(),
+                    games * SLOT_BYTES >> 20, seconds, (runtime.totalMemory() - runtime.freeMemory()) >> 20);
+            System.out.printf("First player wins: %d, second player wins: %d, draws: %d%n",
+                    summary.getFirstPlayerWins(), summary.getSecondPlayerWins(), summary.getDraws());
+            System.out.printf("Average turns per game: %.2f%n", summary.getAverageTurns());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package game.simulation;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * The summaries of up to {@link #capacity} games, kept column by column in primitive arrays.
+ * A block is filled by one {@link ResultCollector}, written by the writer thread and then reused.
+ */
+class ResultBlock {
+
+    private final ResultShape shape;
+    private final int capacity;
+    final long[] seeds;
+    final byte[] layouts;
+    final byte[] firstPlayers;
+    final int[] turns;
+    final byte[] winners;
+    final double[] balances;
+    final int[] landings;
+    final int[] trapsSet;
+    final double[] invested;
+    int rows;
+
+    /**
+     * Constructs a new ResultBlock object.
+     *
+     * @param shape    The dimensions of the columns.
+     * @param capacity The number of games the block holds.
+     */
+    ResultBlock(ResultShape shape, int capacity) {
+        this.shape = shape;
+        this.capacity = capacity;
+        seeds = new long[capacity];
+        layouts = new byte[capacity * shape.getSquares()];
+        firstPlayers = new byte[capacity];
+        turns = new int[capacity];
+        winners = new byte[capacity];
+        balances = new double[capacity * ResultShape.PLAYERS];
+        landings = new int[capacity * shape.getSquares()];
+        trapsSet = new int[capacity * shape.getTraps()];
+        invested = new double[capacity * shape.getCompanies()];
+    }
+
+    /**
+     * Checks if the block holds as many games as it can.
+     *
+     * @return True if the block is full.
+     */
+    boolean isFull() {
+        return rows == capacity;
+    }
+
+    /**
+     * Gets the size of the block in the file.
+     *
+     * @return The number of bytes, including the row count.
+     */
+    int getEncodedSize() {
+        return Integer.BYTES + rows * shape.getRowWidth();
+    }
+
+    /**
+     * Writes the row count and then every column in {@link ResultColumn} order.
+     *
+     * @param buffer A little-endian buffer with at least {@link #getEncodedSize()} bytes left.
+     */
+    void encode(ByteBuffer buffer) {
+        buffer.putInt(rows);
+        int squares = shape.getSquares();
+        buffer.asLongBuffer().put(seeds, 0, rows); // The views share the byte order of the buffer
+        buffer.position(buffer.position() + rows * Long.BYTES);
+        buffer.put(layouts, 0, rows * squares);
+        buffer.put(firstPlayers, 0, rows);
+        putInts(buffer, turns, rows);
+        buffer.put(winners, 0, rows);
+        putDoubles(buffer, balances, rows * ResultShape.PLAYERS);
+        putInts(buffer, landings, rows * squares);
+        putInts(buffer, trapsSet, rows * shape.getTraps());
+        putDoubles(buffer, invested, rows * shape.getCompanies());
+    }
+
+    /**
+     * Empties the block for the next games.
+     */
+    void clear() {
+        Arrays.fill(landings, 0, rows * shape.getSquares(), 0);
+        Arrays.fill(trapsSet, 0, rows * shape.getTraps(), 0);
+        Arrays.fill(invested, 0, rows * shape.getCompanies(), 0);
+        rows = 0;
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values, int length) {
+        buffer.asIntBuffer().put(values, 0, length);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+    }
+
+    private static void putDoubles(ByteBuffer buffer, double[] values, int length) {
+        buffer.asDoubleBuffer().put(values, 0, length);
+        buffer.position(buffer.position() + length * Double.BYTES);
+    }
+}
@@ -0,0 +1,106 @@
+package game.simulation;
+
+import game.Game;
+import game.board.Board;
+import game.events.GameEventSink;
+import game.investments.Company;
+import game.investments.InvestmentManager;
+import game.players.Player;
+import game.traps.Trap;
+
+/**
+ * Collects the summary of every game played with it as event sink into a block of a
+ * {@link ColumnarResultWriter} and hands full blocks to the writer thread.
+ * <p>
+ * A collector is used by one thread for one game after another: {@link #begin(long, Board)} starts a game,
+ * its events fill the row and the game end completes it. Counters are written straight into the block,
+ * so collecting allocates nothing. {@link #close()} hands over the last, partly filled block.
+ */
+public class ResultCollector implements GameEventSink, AutoCloseable {
+
+    private final ColumnarResultWriter writer;
+    private final ResultShape shape;
+    private ResultBlock block;
+    private int row; // The row of the game being played
+
+    /**
+     * Constructs a new ResultCollector object.
+     *
+     * @param writer The writer the blocks are handed to.
+     * @param shape  The dimensions of the columns.
+     */
+    ResultCollector(ColumnarResultWriter writer, ResultShape shape) {
+        this.writer = writer;
+        this.shape = shape;
+    }
+
+    /**
+     * Starts the summary of a game. Must be called after the game is created and before it is played.
+     *
+     * @param seed  The seed of the game.
+     * @param board The shuffled board of the game.
+     * @throws IllegalArgumentException If the board is not the size the results file was opened for.
+     */
+    public void begin(long seed, Board board) {
+        if (board.getSize() != shape.getSquares()) {
+            throw new IllegalArgumentException("The results file is for boards of " + shape.getSquares()
+                    + " squares, not " + board.getSize());
+        }
+        if (block == null) {
+            block = writer.acquire();
+        }
+        row = block.rows;
+        block.seeds[row] = seed;
+        int offset = row * shape.getSquares();
+        for (int i = 0; i < shape.getSquares(); i++) {
+            block.layouts[offset + i] = (byte) board.getType(i).ordinal();
+        }
+    }
+
+    @Override
+    public void moved(Player player, int steps, int position) {
+        block.landings[row * shape.getSquares() + position]++;
+    }
+
+    @Override
+    public void trapSet(Player owner, Trap trap) {
+        block.trapsSet[row * shape.getTraps() + trap.ordinal()]++;
+    }
+
+    @Override
+    public void invested(Player player, Company company, double amount) {
+        block.invested[row * shape.getCompanies() + InvestmentManager.indexOf(company)] += amount;
+    }
+
+    @Override
+    public void gameEnded(GameResult result) {
+        if (block == null) {
+            throw new IllegalStateException("begin must be called before the game is played.");
+        }
+        block.firstPlayers[row] = (byte) (Game.SECOND_BOT_NAME.equals(result.getPlayerNames()[0]) ? 1 : 0);
+        block.turns[row] = result.getTurns();
+        block.winners[row] = (byte) result.getWinnerIndex();
+        double[] balances = result.getFinalBalances();
+        System.arraycopy(balances, 0, block.balances, row * ResultShape.PLAYERS, ResultShape.PLAYERS);
+        block.rows++;
+        if (block.isFull()) {
+            writer.submit(block);
+            block = null;
+        }
+    }
+
+    /**
+     * Hands the games collected since the last full block to the writer.
+     */
+    @Override
+    public void close() {
+        if (block != null) {
+            if (block.rows > 0) {
+                writer.submit(block);
+            } else {
+                writer.release(block);
+            }
+            block = null;
+        }
+    }
+}
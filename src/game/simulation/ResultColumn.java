@@ -0,0 +1,116 @@
+package game.simulation;
+
+/**
+ * The columns of a results file written by {@link ColumnarResultWriter}, in the order they are stored in every block.
+ * A column has one or more elements per game, all of the same type; for example LANDINGS has one count per square.
+ */
+public enum ResultColumn {
+    /**
+     * The seed the game was played from.
+     */
+    SEED(ElementType.LONG, Dimension.ONE),
+    /**
+     * The square type ordinal of every square of the shuffled board.
+     */
+    LAYOUT(ElementType.BYTE, Dimension.SQUARES),
+    /**
+     * The bot that started the game: 0 for "Bot 1", 1 for "Bot 2".
+     */
+    FIRST_PLAYER(ElementType.BYTE, Dimension.ONE),
+    /**
+     * The number of player turns played.
+     */
+    TURNS(ElementType.INT, Dimension.ONE),
+    /**
+     * The index of the winner in turn order, or -1 for a draw.
+     */
+    WINNER(ElementType.BYTE, Dimension.ONE),
+    /**
+     * The final balances of the players in turn order.
+     */
+    FINAL_BALANCES(ElementType.DOUBLE, Dimension.PLAYERS),
+    /**
+     * The number of times a player landed on each square.
+     */
+    LANDINGS(ElementType.INT, Dimension.SQUARES),
+    /**
+     * The number of traps set of each kind, by trap ordinal.
+     */
+    TRAPS_SET(ElementType.INT, Dimension.TRAPS),
+    /**
+     * The total amount invested in each company, by company index.
+     */
+    INVESTED(ElementType.DOUBLE, Dimension.COMPANIES);
+
+    /**
+     * The type of the elements of a column.
+     */
+    public enum ElementType {
+        BYTE(Byte.BYTES), INT(Integer.BYTES), LONG(Long.BYTES), DOUBLE(Double.BYTES);
+
+        private final int bytes;
+
+        ElementType(int bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * Gets the size of one element.
+         *
+         * @return The size in bytes.
+         */
+        public int getBytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * What the number of elements per game of a column depends on.
+     */
+    enum Dimension {
+        ONE, PLAYERS, SQUARES, TRAPS, COMPANIES
+    }
+
+    private final ElementType type;
+    private final Dimension dimension;
+
+    ResultColumn(ElementType type, Dimension dimension) {
+        this.type = type;
+        this.dimension = dimension;
+    }
+
+    /**
+     * Gets the type of the elements of this column.
+     *
+     * @return The element type.
+     */
+    public ElementType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the number of elements per game of this column.
+     *
+     * @param shape The dimensions of the file.
+     * @return The number of elements per game.
+     */
+    int getElements(ResultShape shape) {
+        return switch (dimension) {
+            case ONE -> 1;
+            case PLAYERS -> ResultShape.PLAYERS;
+            case SQUARES -> shape.getSquares();
+            case TRAPS -> shape.getTraps();
+            case COMPANIES -> shape.getCompanies();
+        };
+    }
+
+    /**
+     * Gets the number of bytes per game of this column.
+     *
+     * @param shape The dimensions of the file.
+     * @return The width of one row in bytes.
+     */
+    int getWidth(ResultShape shape) {
+        return getElements(shape) * type.getBytes();
+    }
+}
@@ -0,0 +1,102 @@
+package game.simulation;
+
+import game.board.BoardSpec;
+import game.investments.InvestmentManager;
+import game.traps.Trap;
+
+/**
+ * The dimensions of the per-game columns of a results file: the number of squares, trap kinds and companies.
+ * They are stored in the file header, so a file stays readable after the game changes.
+ */
+class ResultShape {
+
+    /**
+     * The number of players of a simulated game.
+     */
+    static final int PLAYERS = 2;
+
+    private final int squares;
+    private final int traps;
+    private final int companies;
+
+    /**
+     * Constructs a new ResultShape object.
+     *
+     * @param squares   The number of squares of the board.
+     * @param traps     The number of trap kinds.
+     * @param companies The number of companies.
+     */
+    ResultShape(int squares, int traps, int companies) {
+        this.squares = squares;
+        this.traps = traps;
+        this.companies = companies;
+    }
+
+    /**
+     * Gets the dimensions of the current game played on a board.
+     *
+     * @param board The board of the games.
+     * @return The shape of the current game.
+     */
+    static ResultShape of(BoardSpec board) {
+        return new ResultShape(board.getSize(), Trap.values().length, InvestmentManager.getAllCompanies().size());
+    }
+
+    /**
+     * Gets the number of squares of the board.
+     *
+     * @return The number of squares of the board.
+     */
+    int getSquares() {
+        return squares;
+    }
+
+    /**
+     * Gets the number of trap kinds.
+     *
+     * @return The number of trap kinds.
+     */
+    int getTraps() {
+        return traps;
+    }
+
+    /**
+     * Gets the number of companies.
+     *
+     * @return The number of companies.
+     */
+    int getCompanies() {
+        return companies;
+    }
+
+    /**
+     * Gets the number of bytes of one game over all columns.
+     *
+     * @return The width of one row in bytes.
+     */
+    int getRowWidth() {
+        int width = 0;
+        for (ResultColumn column : ResultColumn.values()) {
+            width += column.getWidth(this);
+        }
+        return width;
+    }
+
+    /**
+     * Gets the offset of a column inside a block, after the row count.
+     *
+     * @param column The column.
+     * @param rows   The number of rows of the block.
+     * @return The offset in bytes from the end of the row count.
+     */
+    long getColumnOffset(ResultColumn column, int rows) {
+        long offset = 0;
+        for (ResultColumn previous : ResultColumn.values()) {
+            if (previous == column) {
+                return offset;
+            }
+            offset += (long) previous.getWidth(this) * rows;
+        }
+        throw new IllegalArgumentException("Unknown column " + column);
+    }
+}
@@ -0,0 +1,244 @@
+package game.simulation;
+
+import game.Simulator;
+import game.board.BoardSpec;
+import game.events.BackpressurePolicy;
+import game.events.GameEvent;
+import game.events.GameEventPublisher;
+import game.events.GameEventSink;
+import game.investments.MarketModel;
+import game.metrics.GameMetrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.function.LongFunction;
+
+/**
+ * Plays independent headless games on all cores and merges their statistics.
+ * The games are split into fixed-size chunks; every chunk is played by one worker
+ * into its own summary, so workers never share any game state or random generator.
+ * Chunks cover fixed ranges of game indexes and are merged in index order, so the same master seed
+ * gives bit-identical statistics for any number of threads. Only a few chunks per thread are queued at a time
+ * and every chunk is merged as soon as the chunks before it are, so the memory of a run does not grow with
+ * the number of games.
+ */
+public class SimulationRunner {
+
+    /**
+     * The number of games played by one task before its summary is handed back.
+     */
+    public static final int CHUNK_SIZE = 1024;
+
+    private final Simulator simulator;
+    private final int threads;
+
+    /**
+     * Constructs a runner that uses one worker thread per available processor.
+     *
+     * @param simulator The simulator that plays the individual games.
+     */
+    public SimulationRunner(Simulator simulator) {
+        this(simulator, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new SimulationRunner object.
+     *
+     * @param simulator The simulator that plays the individual games.
+     * @param threads   The number of worker threads.
+     */
+    public SimulationRunner(Simulator simulator, int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("The number of threads must be positive: " + threads);
+        }
+        this.simulator = simulator;
+        this.threads = threads;
+    }
+
+    /**
+     * Plays the given number of games and returns their merged statistics.
+     *
+     * @param games The number of games to play.
+     * @return The summary of all games, including the elapsed time.
+     */
+    public SimulationSummary run(long games) {
+        return run(games, firstGame -> null, BackpressurePolicy.PAUSE);
+    }
+
+    /**
+     * Plays the given number of games and publishes the events of every chunk of games to a subscriber.
+     * Every chunk is a batch with its own {@link GameEventPublisher}, which is completed when the chunk is done.
+     * With the PAUSE policy a slow subscriber slows down the workers that play its batches;
+     * with SUMMARIZE the workers never wait and the subscriber receives summaries instead.
+     * The statistics do not depend on the subscribers.
+     *
+     * @param games       The number of games to play.
+     * @param subscribers Gives the subscriber of the batch that starts at a game index, or null for no subscriber.
+     * @param policy      What happens when a subscriber falls behind.
+     * @return The summary of all games, including the elapsed time.
+     */
+    public SimulationSummary run(long games, LongFunction<Flow.Subscriber<? super GameEvent>> subscribers,
+                                 BackpressurePolicy policy) {
+        return run(games, firstGame -> playChunk(firstGame, Math.min(CHUNK_SIZE, games - firstGame),
+                subscribers.apply(firstGame), policy));
+    }
+
+    /**
+     * Plays the given number of games and streams the summary of every game to a results file.
+     * Every chunk collects its games with its own {@link ResultCollector}; the writer keeps the memory bounded
+     * by making the workers wait when it falls behind. The writer must be closed by the caller afterwards.
+     *
+     * @param games   The number of games to play.
+     * @param results The writer of the results file.
+     * @return The summary of all games, including the elapsed time.
+     */
+    public SimulationSummary run(long games, ColumnarResultWriter results) {
+        return run(games, firstGame -> {
+            SimulationSummary summary = new SimulationSummary();
+            try (ResultCollector collector = results.newCollector()) {
+                simulator.record(firstGame, Math.min(CHUNK_SIZE, games - firstGame), summary::add, collector);
+            }
+            return summary;
+        });
+    }
+
+    /**
+     * Plays the given number of games and publishes the events of all of them to one sink that is shared
+     * by all workers, for example {@link LiveStatistics}. The sink must be thread-safe.
+     *
+     * @param games  The number of games to play.
+     * @param events The sink the events of every game are published to, from all worker threads at once.
+     * @return The summary of all games, including the elapsed time.
+     */
+    public SimulationSummary run(long games, GameEventSink events) {
+        return run(games, firstGame -> {
+            SimulationSummary summary = new SimulationSummary();
+            simulator.run(firstGame, Math.min(CHUNK_SIZE, games - firstGame), summary::add, events);
+            return summary;
+        });
+    }
+
+    /**
+     * Plays the given number of games and stores the result of every game in its slot of an off-heap arena,
+     * so a campaign of any size keeps no results on the heap.
+     *
+     * @param games The number of games to play, at most the capacity of the arena.
+     * @param arena The arena the results are stored in, indexed by game index.
+     * @return The summary of all games, including the elapsed time.
+     */
+    public SimulationSummary run(long games, ResultArena arena) {
+        if (games > arena.getCapacity()) {
+            throw new IllegalArgumentException("The arena holds " + arena.getCapacity() + " games, not " + games);
+        }
+        return run(games, firstGame -> {
+            SimulationSummary summary = new SimulationSummary();
+            long[] gameIndex = {firstGame};
+            simulator.run(firstGame, Math.min(CHUNK_SIZE, games - firstGame), result -> {
+                summary.add(result);
+                arena.put(gameIndex[0]++, result);
+            });
+            return summary;
+        });
+    }
+
+    /**
+     * Plays the chunks of a batch on the workers and merges their summaries. New chunks are submitted
+     * as the oldest ones are merged, so a bounded number of tasks and summaries is kept at any time.
+     *
+     * @param games The number of games to play.
+     * @param chunk Plays the chunk that starts at a game index and returns its summary.
+     * @return The summary of all games, including the elapsed time.
+     */
+    private SimulationSummary run(long games, LongFunction<SimulationSummary> chunk) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long startTime = System.nanoTime();
+        try {
+            // Merging in chunk order keeps the floating-point totals independent of the scheduling.
+            SimulationSummary summary = new SimulationSummary();
+            ChunkWindow<SimulationSummary> window = new ChunkWindow<>(executor, threads);
+            for (long first = 0; first < games; first += CHUNK_SIZE) {
+                long firstGame = first;
+                window.submit(() -> chunk.apply(firstGame), summary::merge);
+            }
+            window.finish();
+            summary.setElapsedNanos(System.nanoTime() - startTime);
+            return summary;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The simulation was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A simulated game failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a chunk of games on the calling worker thread.
+     *
+     * @param firstGame  The index of the first game in the chunk.
+     * @param games      The number of games in the chunk.
+     * @param subscriber The subscriber of the events of the chunk, or null.
+     * @param policy     What happens when the subscriber falls behind.
+     * @return The summary of the chunk.
+     */
+    private SimulationSummary playChunk(long firstGame, long games, Flow.Subscriber<? super GameEvent> subscriber,
+                                        BackpressurePolicy policy) {
+        SimulationSummary summary = new SimulationSummary();
+        if (subscriber == null) {
+            simulator.run(firstGame, games, summary::add);
+            return summary;
+        }
+        try (GameEventPublisher publisher = new GameEventPublisher(policy, GameEventPublisher.DEFAULT_BUFFER_SIZE, firstGame)) {
+            publisher.subscribe(subscriber);
+            simulator.run(firstGame, games, summary::add, publisher);
+        }
+        return summary;
+    }
+
+    /**
+     * Runs a batch of games on all cores and prints the merged statistics.
+     *
+     * @param args Optional number of games, maximum number of turns per game, number of threads, master seed
+     *             and the results file every game summary is written to. The board is read from the
+     *             system properties of {@link BoardSpec#fromSystemProperties()}.
+     * @throws IOException If the results file cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 100_000;
+        int maxTurns = args.length > 1 ? Integer.parseInt(args[1]) : Simulator.DEFAULT_MAX_TURNS;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        long masterSeed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+        Simulator simulator = new Simulator(maxTurns, masterSeed, MarketModel.INDEPENDENT, BoardSpec.fromSystemProperties());
+
+        SimulationSummary summary;
+        if (args.length > 4) {
+            try (ColumnarResultWriter results = ColumnarResultWriter.open(Path.of(args[4]),
+                    ColumnarResultWriter.DEFAULT_MAX_BLOCKS, simulator.getBoard())) {
+                summary = new SimulationRunner(simulator, threads).run(games, results);
+            }
+        } else {
+            summary = new SimulationRunner(simulator, threads).run(games);
+        }
+
+        System.out.printf("Master seed: %d%n", simulator.getMasterSeed());
+        if (simulator.getBoard() != BoardSpec.STANDARD) {
+            System.out.printf("Board: %s%n", simulator.getBoard());
+        }
+        System.out.printf("Games played: %d on %d threads in %.2f s (%.0f games/s)%n",
+                summary.getGames(), threads, summary.getElapsedNanos() / 1e9, summary.getGamesPerSecond());
+        System.out.printf("First player wins: %d, second player wins: %d, draws: %d%n",
+                summary.getFirstPlayerWins(), summary.getSecondPlayerWins(), summary.getDraws());
+        System.out.printf("Average turns per game: %.2f%n", summary.getAverageTurns());
+        System.out.println("Average winner balance: " + summary.getAverageWinnerBalance());
+        if (GameMetrics.ENABLED) {
+            System.out.print(GameMetrics.get());
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package game.simulation;
+
+/**
+ * Aggregated statistics of a batch of games.
+ * Every worker fills its own summary and the partial summaries are merged at the end,
+ * so no summary is ever shared between threads while games are running.
+ */
+public class SimulationSummary {
+    private long games;
+    private long firstPlayerWins;
+    private long secondPlayerWins;
+    private long draws;
+    private long totalTurns;
+    private double totalWinnerBalance;
+    private long elapsedNanos;
+
+    /**
+     * Adds the result of a single game to this summary.
+     *
+     * @param result The result of a finished game.
+     */
+    public void add(GameResult result) {
+        double winnerBalance = result.isDraw() ? 0 : result.getFinalBalances()[result.getWinnerIndex()];
+        add(result.getWinnerIndex(), result.getTurns(), winnerBalance);
+    }
+
+    /**
+     * Adds a single game to this summary without creating a GameResult.
+     *
+     * @param winnerIndex   The index of the winner in turn order, or GameResult.NO_WINNER for a draw.
+     * @param turns         The number of player turns that were played.
+     * @param winnerBalance The final balance of the winner, ignored for a draw.
+     */
+    public void add(int winnerIndex, int turns, double winnerBalance) {
+        games++;
+        totalTurns += turns;
+        if (winnerIndex == GameResult.NO_WINNER) {
+            draws++;
+            return;
+        }
+        if (winnerIndex == 0) {
+            firstPlayerWins++;
+        } else {
+            secondPlayerWins++;
+        }
+        totalWinnerBalance += winnerBalance;
+    }
+
+    /**
+     * Adds all games of another summary to this summary.
+     *
+     * @param other The summary to merge into this one.
+     */
+    public void merge(SimulationSummary other) {
+        games += other.games;
+        firstPlayerWins += other.firstPlayerWins;
+        secondPlayerWins += other.secondPlayerWins;
+        draws += other.draws;
+        totalTurns += other.totalTurns;
+        totalWinnerBalance += other.totalWinnerBalance;
+    }
+
+    /**
+     * Gets the number of games in this summary.
+     *
+     * @return The number of games.
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games won by the player who moved first.
+     *
+     * @return The number of wins of the first player.
+     */
+    public long getFirstPlayerWins() {
+        return firstPlayerWins;
+    }
+
+    /**
+     * Gets the number of games won by the player who moved second.
+     *
+     * @return The number of wins of the second player.
+     */
+    public long getSecondPlayerWins() {
+        return secondPlayerWins;
+    }
+
+    /**
+     * Gets the number of games that were stopped by the turn limit.
+     *
+     * @return The number of draws.
+     */
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * Gets the total number of player turns of all games.
+     *
+     * @return The total number of turns.
+     */
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    /**
+     * Gets the average number of player turns per game.
+     *
+     * @return The average game length, or 0 if there are no games.
+     */
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    /**
+     * Gets the average final balance of the winners.
+     *
+     * @return The average winner balance, or 0 if no game had a winner.
+     */
+    public double getAverageWinnerBalance() {
+        long decidedGames = games - draws;
+        return decidedGames == 0 ? 0 : totalWinnerBalance / decidedGames;
+    }
+
+    /**
+     * Gets the wall-clock time it took to play the games.
+     *
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Sets the wall-clock time it took to play the games.
+     *
+     * @param elapsedNanos The elapsed time in nanoseconds.
+     */
+    public void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Gets the number of games played per second of wall-clock time.
+     *
+     * @return The throughput of the batch, or 0 if no time was recorded.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        return "SimulationSummary{" +
+                "games=" + games +
+                ", firstPlayerWins=" + firstPlayerWins +
+                ", secondPlayerWins=" + secondPlayerWins +
+                ", draws=" + draws +
+                ", averageTurns=" + getAverageTurns() +
+                ", gamesPerSecond=" + getGamesPerSecond() +
+                '}';
+    }
+}
@@ -0,0 +1,168 @@
+package game.simulation;
+
+import game.Game;
+import game.Simulator;
+import game.board.BoardSpec;
+import game.bots.BotStrategies;
+import game.bots.BotStrategy;
+import game.events.NoOpSink;
+import game.investments.MarketModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Plays a round-robin tournament between bot strategies on all cores.
+ * Every pair of different strategies plays the same number of headless games. The games of a pair are
+ * split into chunks of {@link SimulationRunner#CHUNK_SIZE} like a simulation, and every game draws from
+ * its own stream of the master seed, so a tournament can be replayed exactly on any number of threads as long as
+ * the strategies decide from the game alone. A strategy whose decisions stop at a wall-clock budget, like the
+ * default {@link game.bots.MctsBotStrategy}, makes the results depend on the speed and load of the machine.
+ */
+public class Tournament {
+
+    private final List<BotStrategy> strategies;
+    private final int maxTurns;
+    private final long masterSeed;
+    private final int threads;
+    private final BoardSpec board;
+
+    /**
+     * Constructs a new Tournament object.
+     *
+     * @param strategies The strategies that take part. They are shared by all worker threads.
+     * @param maxTurns   The maximum number of player turns per game.
+     * @param masterSeed The seed all games of the tournament are derived from.
+     * @param threads    The number of worker threads.
+     */
+    public Tournament(List<BotStrategy> strategies, int maxTurns, long masterSeed, int threads) {
+        this(strategies, maxTurns, masterSeed, threads, BoardSpec.STANDARD);
+    }
+
+    /**
+     * Constructs a new Tournament object played on the given board.
+     *
+     * @param strategies The strategies that take part. They are shared by all worker threads.
+     * @param maxTurns   The maximum number of player turns per game.
+     * @param masterSeed The seed all games of the tournament are derived from.
+     * @param threads    The number of worker threads.
+     * @param board      The board and the movement dice of every game.
+     */
+    public Tournament(List<BotStrategy> strategies, int maxTurns, long masterSeed, int threads, BoardSpec board) {
+        if (strategies.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two strategies.");
+        }
+        if (maxTurns <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("The turn limit and the number of threads must be positive.");
+        }
+        this.strategies = List.copyOf(strategies);
+        this.maxTurns = maxTurns;
+        this.masterSeed = masterSeed;
+        this.threads = threads;
+        this.board = board;
+    }
+
+    /**
+     * Plays every pair of strategies against each other.
+     *
+     * @param gamesPerPair The number of games every pair plays.
+     * @return The win-rate matrix of the tournament.
+     */
+    public TournamentResult run(long gamesPerPair) {
+        String[] names = new String[strategies.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = strategies.get(i).getName();
+        }
+        TournamentResult result = new TournamentResult(names);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            ChunkWindow<long[]> window = new ChunkWindow<>(executor, threads);
+            long pairIndex = 0;
+            for (int i = 0; i < names.length; i++) {
+                for (int j = i + 1; j < names.length; j++) {
+                    long firstGame = pairIndex++ * gamesPerPair;
+                    for (long first = 0; first < gamesPerPair; first += SimulationRunner.CHUNK_SIZE) {
+                        int a = i;
+                        int b = j;
+                        long chunkFirst = firstGame + first;
+                        long chunkGames = Math.min(SimulationRunner.CHUNK_SIZE, gamesPerPair - first);
+                        window.submit(() -> playChunk(a, b, chunkFirst, chunkGames),
+                                counts -> result.add(a, b, counts[0], counts[1], counts[2]));
+                    }
+                }
+            }
+            window.finish();
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The tournament was interrupted.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("A tournament game failed.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays a chunk of games between two strategies on the calling worker thread.
+     *
+     * @return The wins of the first strategy, the wins of the second strategy and the number of games.
+     */
+    private long[] playChunk(int first, int second, long firstGame, long games) {
+        BotStrategy firstStrategy = strategies.get(first);
+        BotStrategy secondStrategy = strategies.get(second);
+        long[] counts = new long[3];
+        Game game = Game.createHeadless(new ReseedableRandom(0), MarketModel.INDEPENDENT, NoOpSink.INSTANCE, board);
+        for (long i = firstGame; i < firstGame + games; i++) {
+            game.reset(RandomStreams.gameSeed(masterSeed, i)); // The board is built once per chunk
+            GameResult gameResult = game.playBotGame(maxTurns, firstStrategy, secondStrategy);
+            if (!gameResult.isDraw()) {
+                // The players are in turn order, so the winner is found by its strategy
+                boolean firstWon = game.getPlayers().get(gameResult.getWinnerIndex()).getStrategy() == firstStrategy;
+                counts[firstWon ? 0 : 1]++;
+            }
+            counts[2]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Plays a tournament and prints its win-rate matrix.
+     *
+     * @param args Optional number of games per pair, maximum number of turns per game, number of threads,
+     *             master seed and a comma-separated list of strategy names (all registered strategies by default).
+     *             The board is read from the system properties of {@link BoardSpec#fromSystemProperties()}.
+     */
+    public static void main(String[] args) {
+        long gamesPerPair = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+        int maxTurns = args.length > 1 ? Integer.parseInt(args[1]) : Simulator.DEFAULT_MAX_TURNS;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        long masterSeed = args.length > 3 ? Long.parseLong(args[3]) : new SplittableRandom().nextLong();
+
+        List<BotStrategy> strategies = new ArrayList<>();
+        if (args.length > 4) {
+            for (String name : args[4].split(",")) {
+                strategies.add(BotStrategies.get(name.trim()));
+            }
+        } else {
+            strategies.addAll(BotStrategies.getAll());
+        }
+
+        long startTime = System.nanoTime();
+        BoardSpec board = BoardSpec.fromSystemProperties();
+        TournamentResult result = new Tournament(strategies, maxTurns, masterSeed, threads, board).run(gamesPerPair);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("Master seed: %d%n", masterSeed);
+        if (board != BoardSpec.STANDARD) {
+            System.out.printf("Board: %s%n", board);
+        }
+        System.out.printf("%d games per pair on %d threads in %.2f s%n", gamesPerPair, threads, seconds);
+        System.out.print(result);
+    }
+}
@@ -0,0 +1,161 @@
+package game.simulation;
+
+/**
+ * The outcome of a round-robin tournament: for every ordered pair of strategies the number of games
+ * the first one won against the second, with 95% Wilson score intervals for the win rates.
+ * Draws count as games that were not won by either side.
+ */
+public class TournamentResult {
+
+    /**
+     * The z-score of a two-sided 95% confidence interval.
+     */
+    public static final double Z_95 = 1.959963984540054;
+
+    private final String[] names;
+    private final long[][] wins;
+    private final long[][] games;
+
+    /**
+     * Constructs an empty TournamentResult object for the given strategies.
+     *
+     * @param names The names of the strategies, in tournament order.
+     */
+    public TournamentResult(String[] names) {
+        this.names = names.clone();
+        this.wins = new long[names.length][names.length];
+        this.games = new long[names.length][names.length];
+    }
+
+    /**
+     * Adds the games of one pairing to the result.
+     *
+     * @param first       The index of the first strategy.
+     * @param second      The index of the second strategy.
+     * @param firstWins   The games won by the first strategy.
+     * @param secondWins  The games won by the second strategy.
+     * @param pairedGames The games played, including draws.
+     */
+    public void add(int first, int second, long firstWins, long secondWins, long pairedGames) {
+        wins[first][second] += firstWins;
+        wins[second][first] += secondWins;
+        games[first][second] += pairedGames;
+        games[second][first] += pairedGames;
+    }
+
+    /**
+     * Gets the names of the strategies, in tournament order.
+     *
+     * @return A copy of the names.
+     */
+    public String[] getNames() {
+        return names.clone();
+    }
+
+    /**
+     * Gets the number of games a strategy won against another.
+     *
+     * @param strategy The index of the strategy.
+     * @param opponent The index of the opponent.
+     * @return The number of wins.
+     */
+    public long getWins(int strategy, int opponent) {
+        return wins[strategy][opponent];
+    }
+
+    /**
+     * Gets the number of games two strategies played against each other.
+     *
+     * @param strategy The index of the strategy.
+     * @param opponent The index of the opponent.
+     * @return The number of games, including draws.
+     */
+    public long getGames(int strategy, int opponent) {
+        return games[strategy][opponent];
+    }
+
+    /**
+     * Gets the number of games between two strategies that ended in a draw.
+     *
+     * @param strategy The index of the strategy.
+     * @param opponent The index of the opponent.
+     * @return The number of draws.
+     */
+    public long getDraws(int strategy, int opponent) {
+        return games[strategy][opponent] - wins[strategy][opponent] - wins[opponent][strategy];
+    }
+
+    /**
+     * Gets the share of games a strategy won against another.
+     *
+     * @param strategy The index of the strategy.
+     * @param opponent The index of the opponent.
+     * @return The win rate, or NaN if the two strategies did not play.
+     */
+    public double getWinRate(int strategy, int opponent) {
+        return (double) wins[strategy][opponent] / games[strategy][opponent];
+    }
+
+    /**
+     * Gets the 95% Wilson score interval of the win rate of a strategy against another.
+     *
+     * @param strategy The index of the strategy.
+     * @param opponent The index of the opponent.
+     * @return The lower and the upper bound of the interval.
+     */
+    public double[] getWinRateInterval(int strategy, int opponent) {
+        return wilsonInterval(wins[strategy][opponent], games[strategy][opponent], Z_95);
+    }
+
+    /**
+     * Calculates the Wilson score interval of a binomial proportion.
+     * Unlike the normal approximation it stays inside [0, 1] and works for rates close to 0 or 1.
+     *
+     * @param successes The number of successes.
+     * @param trials    The number of trials.
+     * @param z         The z-score of the confidence level.
+     * @return The lower and the upper bound of the interval, or [0, 1] without trials.
+     */
+    public static double[] wilsonInterval(long successes, long trials, double z) {
+        if (trials == 0) {
+            return new double[]{0, 1};
+        }
+        double p = (double) successes / trials;
+        double z2 = z * z;
+        double denominator = 1 + z2 / trials;
+        double center = (p + z2 / (2.0 * trials)) / denominator;
+        double halfWidth = z * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new double[]{Math.max(0, center - halfWidth), Math.min(1, center + halfWidth)};
+    }
+
+    /**
+     * Formats the win-rate matrix: every row is a strategy and every column the opponent it played,
+     * with the win rate in percent and its 95% interval.
+     */
+    @Override
+    public String toString() {
+        int width = 24;
+        for (String name : names) {
+            width = Math.max(width, name.length() + 2);
+        }
+        StringBuilder builder = new StringBuilder(String.format("%-" + width + "s", "win rate (row vs column)"));
+        for (String name : names) {
+            builder.append(String.format("%" + width + "s", name));
+        }
+        builder.append(System.lineSeparator());
+        for (int i = 0; i < names.length; i++) {
+            builder.append(String.format("%-" + width + "s", names[i]));
+            for (int j = 0; j < names.length; j++) {
+                if (games[i][j] == 0) {
+                    builder.append(String.format("%" + width + "s", "-"));
+                } else {
+                    double[] interval = getWinRateInterval(i, j);
+                    builder.append(String.format("%" + width + "s", String.format("%.1f%% [%.1f, %.1f]",
+                            100 * getWinRate(i, j), 100 * interval[0], 100 * interval[1])));
+                }
+            }
+            builder.append(System.lineSeparator());
+        }
+        return builder.toString();
+    }
+}
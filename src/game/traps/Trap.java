@@ -1,29 +1,33 @@
 package game.traps;
 
-import game.players.Player;
-
 /**
- * Represents a trap that can be set by a player on a square.
+ * The catalog of traps that can be set by a player on a square.
  * Each trap has a name, description, penalty, and investment cost.
+ * The traps are immutable flyweights: a square only keeps a reference to one of them,
+ * and the player who set it is tracked by the square.
  */
-public class Trap {
+public enum Trap {
+    TAX_AUDIT("Tax Audit", 10, "You lose 10 percent of all your income."),
+    CAT_DIVORCE("Cat Divorce", 20, "The player rolls a 10-sided die; if the value is 2 or 8, they do not gain or lose profit for 3 turns."),
+    PROPAGANDA("Propaganda", 100, "You cannot set more traps within the current cycle."),
+    SEEING_THE_LIGHT("Seeing the Light", 50, "Upon landing on a Steal square, the player loses the right to execute an evil plan."),
+    GAMBLING_BOSS("Gambling Boss", 100, "The next Chance square brings you only negative consequences.");
+
     private final String type;
     private final int investmentCost;
     private final String description;
-    private final Player owner;
-    private final boolean isActive;
-
 
     /**
-     * Constructs a Trap object with all its predefined properties.
-     * TODO: Write what the parameters do.
+     * Constructs a Trap with all its predefined properties.
+     *
+     * @param type           The display name of the trap.
+     * @param investmentCost The money a player pays to set the trap.
+     * @param description    What happens to a player who lands on the trap.
      */
-    public Trap(String type, int investmentCost, String description, Player owner) {
+    Trap(String type, int investmentCost, String description) {
         this.type = type;
         this.investmentCost = investmentCost;
         this.description = description;
-        this.owner = owner;
-        this.isActive = true;
     }
 
     // --- Getters ---
@@ -38,20 +42,4 @@ public class Trap {
     public String getDescription() {
         return description;
     }
-
-    /**
-     * Provides a string representation of the Trap object.
-     *
-     * @return A formatted string with the trap's details.
-     */
-    @Override
-    public String toString() {
-        return "Trap{" +
-                "type='" + type + '\'' +
-                ", investmentCost=" + investmentCost +
-                ", description='" + description + '\'' +
-                ", owner=" + owner +
-                ", isActive=" + isActive +
-                '}';
-    }
 }